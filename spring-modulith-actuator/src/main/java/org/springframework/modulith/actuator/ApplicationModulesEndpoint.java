@@ -50,7 +50,32 @@ public class ApplicationModulesEndpoint {
 
 		LOGGER.debug("Activating Spring Modulith actuator.");
 
-		this.structure = SingletonSupplier.of(new ApplicationModulesExporter(runtime.get())::toJson);
+		this.structure = SingletonSupplier.of(() -> new ApplicationModulesExporter(runtime.get()).toJson());
+	}
+
+	/**
+	 * Creates a new {@link ApplicationModulesEndpoint} exposing the given, already rendered application module
+	 * structure.
+	 *
+	 * @param structure must not be {@literal null} or empty.
+	 */
+	private ApplicationModulesEndpoint(String structure) {
+
+		Assert.hasText(structure, "Structure must not be null or empty!");
+
+		this.structure = SingletonSupplier.of(structure);
+	}
+
+	/**
+	 * Creates a new {@link ApplicationModulesEndpoint} exposing the given application module structure, e.g. computed
+	 * during AOT processing.
+	 *
+	 * @param structure the JSON structure as rendered by {@link ApplicationModulesExporter}, must not be {@literal null}
+	 *          or empty.
+	 * @return will never be {@literal null}.
+	 */
+	public static ApplicationModulesEndpoint precomputed(String structure) {
+		return new ApplicationModulesEndpoint(structure);
 	}
 
 	/**
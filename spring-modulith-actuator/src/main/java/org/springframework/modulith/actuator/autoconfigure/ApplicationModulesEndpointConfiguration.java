@@ -20,6 +20,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.context.annotation.Bean;
 import org.springframework.modulith.actuator.ApplicationModulesEndpoint;
 import org.springframework.modulith.runtime.ApplicationModulesRuntime;
+import org.springframework.modulith.runtime.PrecomputedApplicationModules;
 
 /**
  * Auto-configuration for the {@link ApplicationModulesEndpoint}.
@@ -32,6 +33,9 @@ class ApplicationModulesEndpointConfiguration {
 	@Bean
 	@ConditionalOnMissingBean
 	ApplicationModulesEndpoint applicationModulesEndpoint(ApplicationModulesRuntime runtime) {
-		return new ApplicationModulesEndpoint(runtime);
+		return runtime.getPrecomputed()
+				.map(PrecomputedApplicationModules::getStructure)
+				.map(ApplicationModulesEndpoint::precomputed)
+				.orElseGet(() -> new ApplicationModulesEndpoint(runtime));
 	}
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.benchmarks;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.core.Violations;
+import org.springframework.modulith.docs.Documenter;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Benchmarks for the analysis of a {@link Codebase} into {@link ApplicationModules}, its verification, type lookups
+ * and the generation of documentation.
+ *
+ * @author Oliver Drotbohm
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ApplicationModulesBenchmarks {
+
+	@Benchmark
+	public ApplicationModules analyze(Codebase codebase) {
+		return codebase.analyze();
+	}
+
+	@Benchmark
+	public Violations analyzeAndVerify(Codebase codebase) {
+		return codebase.withClassLoader(() -> codebase.analyze().detectViolations());
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public void getModuleByType(Analyzed analyzed, Blackhole blackhole) {
+
+		for (var type : analyzed.codebase.getTypeNames()) {
+			blackhole.consume(analyzed.modules.getModuleByType(type));
+		}
+	}
+
+	@Benchmark
+	public Documenter document(Codebase codebase, Output output) {
+
+		return codebase.withClassLoader(() -> new Documenter(codebase.analyze(), output.directory.toString()) //
+				.writeDocumentation());
+	}
+
+	/**
+	 * Measures the heap retained by a fully analyzed and verified {@link ApplicationModules} instance. The allocation
+	 * rate is reported by the GC profiler enabled by {@link Benchmarks}.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 2)
+	@Measurement(iterations = 5)
+	public void retainedHeap(Codebase codebase, RetainedHeap heap) {
+
+		var before = RetainedHeap.getUsedHeapAfterGc();
+		var modules = codebase.analyze();
+
+		codebase.withClassLoader(modules::detectViolations);
+
+		heap.retainedBytes = RetainedHeap.getUsedHeapAfterGc() - before;
+
+		Reference.reachabilityFence(modules);
+	}
+
+	/**
+	 * An already analyzed {@link Codebase}.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@State(Scope.Benchmark)
+	public static class Analyzed {
+
+		Codebase codebase;
+		ApplicationModules modules;
+
+		@Setup(Level.Trial)
+		public void setUp(Codebase codebase) {
+
+			this.codebase = codebase;
+			this.modules = codebase.analyze();
+		}
+	}
+
+	/**
+	 * A temporary directory to write documentation to.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@State(Scope.Benchmark)
+	public static class Output {
+
+		Path directory;
+
+		@Setup(Level.Trial)
+		public void setUp() throws IOException {
+			this.directory = Files.createTempDirectory("spring-modulith-benchmarks-docs");
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() throws IOException {
+			FileSystemUtils.deleteRecursively(directory);
+		}
+	}
+
+	/**
+	 * Reports the heap retained by an operation as additional benchmark result.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	@State(Scope.Thread)
+	public static class RetainedHeap {
+
+		public long retainedBytes;
+
+		static long getUsedHeapAfterGc() {
+
+			var memory = ManagementFactory.getMemoryMXBean();
+
+			for (int i = 0; i < 3; i++) {
+				System.gc();
+			}
+
+			return memory.getHeapMemoryUsage().getUsed();
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.core.ModulithMetadata;
+import org.springframework.modulith.synthetic.SyntheticCodebase;
+import org.springframework.util.FileSystemUtils;
+
+import com.acme.myproject.Application;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.importer.ImportOption;
+
+/**
+ * The code base to analyze in benchmarks. Either the fixtures of the {@code spring-modulith-integration-test} module or
+ * a {@link SyntheticCodebase} described as {@code $modules x $types x $dependencies}, optionally followed by
+ * {@code x $namedInterfaces x $events x $listeners}.
+ *
+ * @author Oliver Drotbohm
+ */
+@State(Scope.Benchmark)
+public class Codebase {
+
+	static final String FIXTURES = "fixtures";
+
+	@Param({ FIXTURES, "10x20x2", "50x50x4", "50x50x4x2x2x2" }) //
+	String codebase;
+
+	private ModulithMetadata metadata;
+	private String basePackage;
+	private List<String> typeNames;
+	private ClassLoader classLoader;
+	private Path directory;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+
+		if (FIXTURES.equals(codebase)) {
+
+			this.metadata = ModulithMetadata.of(Application.class);
+			this.basePackage = Application.class.getPackageName();
+			this.classLoader = Application.class.getClassLoader();
+
+		} else {
+
+			var synthetic = SyntheticCodebase.parse(codebase);
+
+			this.directory = synthetic.writeTo(Files.createTempDirectory("spring-modulith-benchmarks"));
+			this.metadata = ModulithMetadata.of(SyntheticCodebase.BASE_PACKAGE);
+			this.basePackage = SyntheticCodebase.BASE_PACKAGE;
+			this.classLoader = SyntheticCodebase.createClassLoader(directory, getClass().getClassLoader());
+		}
+
+		this.typeNames = withClassLoader(() -> analyze().stream() //
+				.flatMap(it -> it.getBasePackage().stream()) //
+				.map(it -> it.getName()) //
+				.toList());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+
+		if (directory != null) {
+			FileSystemUtils.deleteRecursively(directory);
+		}
+	}
+
+	/**
+	 * Analyzes the code base from scratch, i.e. bypassing the cache used by {@link ApplicationModules#of(String)}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public ApplicationModules analyze() {
+		return withClassLoader(() -> new UncachedApplicationModules(metadata, basePackage));
+	}
+
+	/**
+	 * Returns the fully-qualified names of all types contained in the application modules of the code base.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<String> getTypeNames() {
+		return typeNames;
+	}
+
+	/**
+	 * Executes the given {@link Supplier} with the code base's {@link ClassLoader} as thread context
+	 * {@link ClassLoader}, as that is used to look up the types of the packages to import.
+	 *
+	 * @param <T> the type of the result.
+	 * @param supplier must not be {@literal null}.
+	 * @return
+	 */
+	public <T> T withClassLoader(Supplier<T> supplier) {
+
+		var thread = Thread.currentThread();
+		var previous = thread.getContextClassLoader();
+
+		thread.setContextClassLoader(classLoader);
+
+		try {
+			return supplier.get();
+		} finally {
+			thread.setContextClassLoader(previous);
+		}
+	}
+
+	/**
+	 * Creates {@link ApplicationModules} without registering them in the cache used by
+	 * {@link ApplicationModules#of(String)} so that each invocation actually analyzes the code base.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class UncachedApplicationModules extends ApplicationModules {
+
+		UncachedApplicationModules(ModulithMetadata metadata, String basePackage) {
+			super(metadata, List.of(basePackage), DescribedPredicate.alwaysFalse(), metadata.useFullyQualifiedModuleNames(),
+					new ImportOption.DoNotIncludeTests());
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.benchmarks.events;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.modulith.benchmarks.events.Outbox.SampleEvent;
+import org.springframework.modulith.events.EventPublicationRegistry;
+import org.springframework.modulith.events.support.PersistentApplicationEventMulticaster;
+
+/**
+ * Benchmarks for the event publication hot path: publishing an event via the
+ * {@link PersistentApplicationEventMulticaster}, storing publications in and marking them completed via the
+ * {@link EventPublicationRegistry}, for each {@link Store}. Publications created during an iteration are completed and
+ * purged after it, so that the number of incomplete publications stays at the pre-seeded table size.
+ *
+ * @author Oliver Drotbohm
+ */
+@Fork(1)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventPublicationBenchmarks {
+
+	@Benchmark
+	public void multicastEvent(Outbox outbox) {
+		outbox.multicastEvent();
+	}
+
+	@Benchmark
+	public void store(Outbox outbox) {
+		outbox.store();
+	}
+
+	@Benchmark
+	public void markCompleted(Outbox outbox, StoredEvent stored) {
+		outbox.markCompleted(stored.event);
+	}
+
+	/**
+	 * An event stored for all listeners of the {@link Outbox} before each invocation.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@State(Scope.Thread)
+	public static class StoredEvent {
+
+		SampleEvent event;
+
+		@Setup(Level.Invocation)
+		public void setUp(Outbox outbox) {
+			this.event = outbox.storeUntracked();
+		}
+	}
+}
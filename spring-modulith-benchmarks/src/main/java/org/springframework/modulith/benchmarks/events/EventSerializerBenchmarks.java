@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.benchmarks.events;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.modulith.benchmarks.events.Outbox.SampleEvent;
+import org.springframework.modulith.events.EventSerializer;
+
+/**
+ * Benchmarks for the Jackson-based {@link EventSerializer} as configured by Spring Boot.
+ *
+ * @author Oliver Drotbohm
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class EventSerializerBenchmarks {
+
+	@Param({ "64", "2048", "65536" }) //
+	int payloadSize;
+
+	ConfigurableApplicationContext context;
+	EventSerializer serializer;
+	SampleEvent event;
+	Object serialized;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		this.context = Store.startWithoutStore();
+		this.serializer = context.getBean(EventSerializer.class);
+		this.event = new SampleEvent(UUID.randomUUID(), "x".repeat(payloadSize));
+		this.serialized = serializer.serialize(event);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public Object serialize() {
+		return serializer.serialize(event);
+	}
+
+	@Benchmark
+	public SampleEvent deserialize() {
+		return serializer.deserialize(serialized, SampleEvent.class);
+	}
+
+	@Benchmark
+	public SampleEvent roundTrip() {
+		return serializer.deserialize(serializer.serialize(event), SampleEvent.class);
+	}
+}
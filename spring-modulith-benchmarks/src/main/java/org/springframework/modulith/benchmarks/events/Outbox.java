@@ -0,0 +1,216 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.benchmarks.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.modulith.events.CompletableEventPublication;
+import org.springframework.modulith.events.EventPublicationRegistry;
+import org.springframework.modulith.events.EventPublicationRepository;
+import org.springframework.modulith.events.PublicationTargetIdentifier;
+import org.springframework.modulith.events.support.PersistentApplicationEventMulticaster;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalApplicationListenerAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The event publication infrastructure backed by a {@link Store}, with a configurable number of transactional
+ * listeners, event payload size and number of incomplete publications pre-seeded into the store.
+ *
+ * @author Oliver Drotbohm
+ */
+@State(Scope.Benchmark)
+public class Outbox {
+
+	private static final int SEED_BATCH_SIZE = 1_000;
+	private static final PublicationTargetIdentifier SEED_TARGET = PublicationTargetIdentifier.of("seed");
+
+	@Param({ "JDBC", "JPA", "MONGODB" }) //
+	Store store;
+
+	@Param({ "1", "8" }) //
+	int fanOut;
+
+	@Param({ "64", "2048" }) //
+	int payloadSize;
+
+	@Param({ "0", "10000" }) //
+	int tableSize;
+
+	private ConfigurableApplicationContext context;
+	private PersistentApplicationEventMulticaster multicaster;
+	private EventPublicationRegistry registry;
+	private EventPublicationRepository repository;
+	private TransactionTemplate transactions;
+	private List<PublicationTargetIdentifier> targets;
+	private String payload;
+
+	/**
+	 * The events published in the current iteration to be completed and purged after it.
+	 */
+	private final List<SampleEvent> published = new ArrayList<>();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		this.context = store.start();
+
+		var transactionManager = context.getBeanProvider(PlatformTransactionManager.class).getIfAvailable();
+
+		this.multicaster = context.getBean(PersistentApplicationEventMulticaster.class);
+		this.registry = context.getBean(EventPublicationRegistry.class);
+		this.repository = context.getBean(EventPublicationRepository.class);
+		this.transactions = transactionManager == null ? null : new TransactionTemplate(transactionManager);
+		this.payload = "x".repeat(payloadSize);
+		this.targets = IntStream.range(0, fanOut) //
+				.mapToObj(it -> "listener-" + it) //
+				.map(PublicationTargetIdentifier::of) //
+				.toList();
+
+		targets.stream() //
+				.map(SampleEventListener::new) //
+				.forEach(multicaster::addApplicationListener);
+
+		for (int seeded = 0; seeded < tableSize; seeded += SEED_BATCH_SIZE) {
+
+			var batch = Math.min(SEED_BATCH_SIZE, tableSize - seeded);
+
+			inTransaction(() -> IntStream.range(0, batch) //
+					.mapToObj(__ -> CompletableEventPublication.of(createEvent(), SEED_TARGET)) //
+					.map(repository::create) //
+					.toList());
+		}
+	}
+
+	@TearDown(Level.Iteration)
+	public void completeAndPurge() {
+
+		published.forEach(this::markCompleted);
+		published.clear();
+
+		repository.deleteCompletedPublications();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	/**
+	 * Publishes a new event through the {@link PersistentApplicationEventMulticaster} in a transaction.
+	 */
+	public void multicastEvent() {
+
+		var event = createPublishedEvent();
+
+		inTransaction(() -> {
+			multicaster.multicastEvent(new PayloadApplicationEvent<>(this, event));
+			return null;
+		});
+	}
+
+	/**
+	 * Stores publications of a new event for all listeners in the {@link EventPublicationRegistry} in a transaction.
+	 */
+	public void store() {
+
+		var event = createPublishedEvent();
+
+		inTransaction(() -> {
+			registry.store(event, targets.stream());
+			return null;
+		});
+	}
+
+	/**
+	 * Stores publications of a new event for all listeners without keeping track of it, so that it has to be
+	 * {@link #markCompleted(SampleEvent) completed} by the caller.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public SampleEvent storeUntracked() {
+
+		var event = createEvent();
+
+		inTransaction(() -> {
+			registry.store(event, targets.stream());
+			return null;
+		});
+
+		return event;
+	}
+
+	/**
+	 * Marks the publications of the given event to all listeners completed.
+	 *
+	 * @param event must not be {@literal null}.
+	 */
+	public void markCompleted(SampleEvent event) {
+		targets.forEach(it -> registry.markCompleted(event, it));
+	}
+
+	private SampleEvent createPublishedEvent() {
+
+		var event = createEvent();
+
+		published.add(event);
+
+		return event;
+	}
+
+	private SampleEvent createEvent() {
+		return new SampleEvent(UUID.randomUUID(), payload);
+	}
+
+	private <T> T inTransaction(Supplier<T> supplier) {
+		return transactions == null ? supplier.get() : transactions.execute(__ -> supplier.get());
+	}
+
+	/**
+	 * An event with an identifier and an arbitrary payload.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	public record SampleEvent(UUID id, String payload) {}
+
+	/**
+	 * A transactional listener for {@link SampleEvent}s doing nothing. Declares the event type to listen to explicitly,
+	 * so that the multicaster only stores publications of {@link SampleEvent}s.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	static class SampleEventListener extends TransactionalApplicationListenerAdapter<PayloadApplicationEvent<SampleEvent>> {
+
+		SampleEventListener(PublicationTargetIdentifier identifier) {
+
+			super(__ -> {});
+
+			setListenerId(identifier.getValue());
+		}
+	}
+}
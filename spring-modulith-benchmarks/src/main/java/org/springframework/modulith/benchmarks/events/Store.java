@@ -0,0 +1,168 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.benchmarks.events;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.modulith.events.EventPublicationRepository;
+
+/**
+ * The stores backing an {@link EventPublicationRepository} to benchmark. Each store is bootstrapped in a dedicated
+ * Spring Boot application with the auto-configurations of all other stores excluded. JDBC uses an in-memory H2, JPA an
+ * in-memory HSQLDB and MongoDB an embedded MongoDB instance.
+ *
+ * @author Oliver Drotbohm
+ */
+public enum Store {
+
+	JDBC {
+
+		@Override
+		Map<String, Object> getProperties() {
+
+			return Map.of("spring.datasource.url", "jdbc:h2:mem:" + UUID.randomUUID(),
+					"spring.modulith.events.schema-initialization.enabled", true);
+		}
+
+		@Override
+		List<String> getExclusions() {
+			return concat(JPA_AUTO_CONFIGURATIONS, MONGODB_AUTO_CONFIGURATIONS);
+		}
+	},
+
+	JPA {
+
+		@Override
+		Map<String, Object> getProperties() {
+
+			// Widens the serialized event column after Hibernate has created the schema
+			return Map.of("spring.datasource.url", "jdbc:hsqldb:mem:" + UUID.randomUUID(),
+					"spring.jpa.hibernate.ddl-auto", "create-drop",
+					"spring.jpa.defer-datasource-initialization", true,
+					"spring.sql.init.mode", "always",
+					"spring.sql.init.data-locations", "classpath:jpa-event-publication.sql");
+		}
+
+		@Override
+		List<String> getExclusions() {
+			return concat(JDBC_AUTO_CONFIGURATIONS, MONGODB_AUTO_CONFIGURATIONS);
+		}
+	},
+
+	MONGODB {
+
+		@Override
+		Map<String, Object> getProperties() {
+
+			return Map.of("de.flapdoodle.mongodb.embedded.version", "6.0.3",
+					"logging.level.de.flapdoodle.embed.mongo", "WARN");
+		}
+
+		@Override
+		List<String> getExclusions() {
+			return concat(DATA_SOURCE_AUTO_CONFIGURATIONS, JDBC_AUTO_CONFIGURATIONS, JPA_AUTO_CONFIGURATIONS);
+		}
+	};
+
+	private static final String BOOT = "org.springframework.boot.autoconfigure.";
+	private static final String EVENTS = "org.springframework.modulith.events.";
+
+	private static final List<String> DATA_SOURCE_AUTO_CONFIGURATIONS = List.of(
+			BOOT + "jdbc.DataSourceAutoConfiguration",
+			BOOT + "jdbc.DataSourceTransactionManagerAutoConfiguration");
+
+	private static final List<String> JDBC_AUTO_CONFIGURATIONS = List.of(
+			EVENTS + "jdbc.JdbcEventPublicationAutoConfiguration");
+
+	private static final List<String> JPA_AUTO_CONFIGURATIONS = List.of(
+			BOOT + "orm.jpa.HibernateJpaAutoConfiguration",
+			BOOT + "data.jpa.JpaRepositoriesAutoConfiguration",
+			EVENTS + "jpa.JpaEventPublicationAutoConfiguration",
+			EVENTS + "jpa.JpaEventPublicationConfiguration");
+
+	private static final List<String> MONGODB_AUTO_CONFIGURATIONS = List.of(
+			BOOT + "mongo.MongoAutoConfiguration",
+			BOOT + "data.mongo.MongoDataAutoConfiguration",
+			BOOT + "data.mongo.MongoRepositoriesAutoConfiguration",
+			"de.flapdoodle.embed.mongo.spring.autoconfigure.EmbeddedMongoAutoConfiguration",
+			EVENTS + "mongodb.MongoDbEventPublicationAutoConfiguration");
+
+	/**
+	 * Bootstraps the application for the current store.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public ConfigurableApplicationContext start() {
+
+		var properties = new HashMap<String, Object>(getProperties());
+		properties.put("spring.autoconfigure.exclude", String.join(",", getExclusions()));
+
+		return start(properties);
+	}
+
+	/**
+	 * Bootstraps an application containing the event serialization infrastructure only, i.e. without any store.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	static ConfigurableApplicationContext startWithoutStore() {
+
+		var exclusions = concat(DATA_SOURCE_AUTO_CONFIGURATIONS, JDBC_AUTO_CONFIGURATIONS, JPA_AUTO_CONFIGURATIONS,
+				MONGODB_AUTO_CONFIGURATIONS, List.of(EVENTS + "config.EventPublicationConfiguration"));
+
+		return start(Map.of("spring.autoconfigure.exclude", String.join(",", exclusions)));
+	}
+
+	abstract Map<String, Object> getProperties();
+
+	abstract List<String> getExclusions();
+
+	private static ConfigurableApplicationContext start(Map<String, Object> properties) {
+
+		return new SpringApplicationBuilder(BenchmarkApplication.class) //
+				.web(WebApplicationType.NONE) //
+				.logStartupInfo(false) //
+				.bannerMode(Banner.Mode.OFF) //
+				.properties(properties) //
+				.run();
+	}
+
+	@SafeVarargs
+	private static List<String> concat(List<String>... lists) {
+
+		var result = new ArrayList<String>();
+
+		for (var list : lists) {
+			result.addAll(list);
+		}
+
+		return result;
+	}
+
+	@SpringBootConfiguration
+	@EnableAutoConfiguration
+	static class BenchmarkApplication {}
+}
@@ -0,0 +1,2 @@
+-- The JPA mapping uses the default column length for the serialized event, widen it to allow for larger payloads
+ALTER TABLE JPA_EVENT_PUBLICATION ALTER COLUMN SERIALIZED_EVENT SET DATA TYPE LONGVARCHAR;
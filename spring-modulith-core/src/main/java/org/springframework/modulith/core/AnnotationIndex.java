@@ -0,0 +1,184 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.util.Assert;
+
+import com.tngtech.archunit.core.domain.JavaAnnotation;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaField;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.domain.properties.HasAnnotations;
+
+/**
+ * An inverted index from annotation type name to the types, methods and fields annotated with it, either directly or
+ * via a meta-annotation. Built in a single pass over a set of {@link JavaClass}es, so that stereotype detection can
+ * look up annotations instead of walking the annotations and meta-annotations of each type over and over again.
+ *
+ * @author Oliver Drotbohm
+ * @see Types#isAnnotatedWith(String)
+ */
+class AnnotationIndex {
+
+	private final Map<String, Set<JavaClass>> types;
+	private final Map<String, Set<JavaMethod>> methods;
+	private final Map<String, Set<JavaField>> fields;
+
+	/**
+	 * Creates a new {@link AnnotationIndex} for the given annotated types, methods and fields by annotation type name.
+	 *
+	 * @param types must not be {@literal null}.
+	 * @param methods must not be {@literal null}.
+	 * @param fields must not be {@literal null}.
+	 */
+	private AnnotationIndex(Map<String, Set<JavaClass>> types, Map<String, Set<JavaMethod>> methods,
+			Map<String, Set<JavaField>> fields) {
+
+		this.types = types;
+		this.methods = methods;
+		this.fields = fields;
+	}
+
+	/**
+	 * Indexes the annotations of the given {@link JavaClass}es and their declared methods and fields.
+	 *
+	 * @param classes must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static AnnotationIndex of(Iterable<JavaClass> classes) {
+
+		Assert.notNull(classes, "Classes must not be null!");
+
+		var types = new HashMap<String, Set<JavaClass>>();
+		var methods = new HashMap<String, Set<JavaMethod>>();
+		var fields = new HashMap<String, Set<JavaField>>();
+
+		// The annotation type names an annotation type stands for, i.e. its own and the ones of its meta-annotations
+		var closures = new HashMap<String, Set<String>>();
+
+		for (var type : classes) {
+
+			index(type, types, closures);
+			type.getMethods().forEach(it -> index(it, methods, closures));
+			type.getFields().forEach(it -> index(it, fields, closures));
+		}
+
+		return new AnnotationIndex(types, methods, fields);
+	}
+
+	/**
+	 * Returns whether the given {@link JavaClass} is annotated with the given annotation, either directly or via a
+	 * meta-annotation.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param annotation must not be {@literal null} or empty.
+	 * @return
+	 */
+	boolean isAnnotated(JavaClass type, String annotation) {
+		return getTypesAnnotatedWith(annotation).contains(type);
+	}
+
+	/**
+	 * Returns all types annotated with the given annotation, either directly or via a meta-annotation.
+	 *
+	 * @param annotation must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	Set<JavaClass> getTypesAnnotatedWith(String annotation) {
+		return lookup(types, annotation);
+	}
+
+	/**
+	 * Returns all methods annotated with the given annotation, either directly or via a meta-annotation.
+	 *
+	 * @param annotation must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	Set<JavaMethod> getMethodsAnnotatedWith(String annotation) {
+		return lookup(methods, annotation);
+	}
+
+	/**
+	 * Returns all fields annotated with the given annotation, either directly or via a meta-annotation.
+	 *
+	 * @param annotation must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	Set<JavaField> getFieldsAnnotatedWith(String annotation) {
+		return lookup(fields, annotation);
+	}
+
+	private static <T> Set<T> lookup(Map<String, Set<T>> index, String annotation) {
+
+		Assert.hasText(annotation, "Annotation must not be null or empty!");
+
+		return Collections.unmodifiableSet(index.getOrDefault(annotation, Collections.emptySet()));
+	}
+
+	private static <T extends HasAnnotations<?>> void index(T element, Map<String, Set<T>> index,
+			Map<String, Set<String>> closures) {
+
+		for (var annotation : element.getAnnotations()) {
+			for (var name : getClosure(annotation.getRawType(), closures)) {
+				index.computeIfAbsent(name, __ -> new HashSet<>()).add(element);
+			}
+		}
+	}
+
+	/**
+	 * Returns the names of the given annotation type and all of its (transitive) meta-annotations.
+	 *
+	 * @param annotationType must not be {@literal null}.
+	 * @param closures the already calculated closures by annotation type name, must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private static Set<String> getClosure(JavaClass annotationType, Map<String, Set<String>> closures) {
+
+		var existing = closures.get(annotationType.getName());
+
+		if (existing != null) {
+			return existing;
+		}
+
+		var result = new HashSet<String>();
+		var candidates = new ArrayDeque<JavaClass>(List.of(annotationType));
+
+		while (!candidates.isEmpty()) {
+
+			var candidate = candidates.pop();
+
+			if (!result.add(candidate.getName())) {
+				continue;
+			}
+
+			candidate.getAnnotations().stream() //
+					.map(JavaAnnotation::getRawType) //
+					.forEach(candidates::push);
+		}
+
+		closures.put(annotationType.getName(), result);
+
+		return result;
+	}
+}
@@ -15,18 +15,13 @@
  */
 package org.springframework.modulith.core;
 
-import static com.tngtech.archunit.base.DescribedPredicate.*;
-import static com.tngtech.archunit.core.domain.JavaClass.Predicates.*;
 import static java.lang.System.*;
-import static org.springframework.modulith.core.Types.*;
 import static org.springframework.modulith.core.Types.JavaXTypes.*;
-import static org.springframework.modulith.core.Types.SpringDataTypes.*;
 import static org.springframework.modulith.core.Types.SpringTypes.*;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -34,12 +29,10 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
-import org.springframework.modulith.core.Types.JMoleculesTypes;
-import org.springframework.modulith.core.Types.SpringTypes;
+import org.springframework.modulith.core.StereotypeIndex.Stereotype;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
-import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.Dependency;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaCodeUnit;
@@ -71,9 +64,7 @@ public class ApplicationModule {
 	private final NamedInterfaces namedInterfaces;
 	private final boolean useFullyQualifiedModuleNames;
 
-	private final Supplier<Classes> springBeans;
-	private final Supplier<Classes> entities;
-	private final Supplier<List<JavaClass>> valueTypes;
+	private final Supplier<StereotypeIndex> stereotypes;
 	private final Supplier<List<EventType>> publishedEvents;
 
 	/**
@@ -83,17 +74,29 @@ public class ApplicationModule {
 	 * @param useFullyQualifiedModuleNames
 	 */
 	ApplicationModule(JavaPackage basePackage, boolean useFullyQualifiedModuleNames) {
+		this(basePackage, useFullyQualifiedModuleNames, Suppliers.memoize(() -> AnnotationIndex.of(basePackage)));
+	}
+
+	/**
+	 * Creates a new {@link ApplicationModule} for the given base package, whether to use fully-qualified module names and
+	 * the {@link AnnotationIndex} covering the module's types.
+	 *
+	 * @param basePackage must not be {@literal null}.
+	 * @param useFullyQualifiedModuleNames
+	 * @param annotations must not be {@literal null}.
+	 */
+	ApplicationModule(JavaPackage basePackage, boolean useFullyQualifiedModuleNames,
+			Supplier<AnnotationIndex> annotations) {
 
 		this.basePackage = basePackage;
 		this.information = ApplicationModuleInformation.of(basePackage);
-		this.namedInterfaces = NamedInterfaces.discoverNamedInterfaces(basePackage);
+		this.namedInterfaces = NamedInterfaces.discoverNamedInterfaces(basePackage, annotations.get());
 		this.useFullyQualifiedModuleNames = useFullyQualifiedModuleNames;
 
-		this.springBeans = Suppliers.memoize(() -> filterSpringBeans(basePackage));
-		this.entities = Suppliers.memoize(() -> findEntities(basePackage));
-		this.valueTypes = Suppliers
-				.memoize(() -> findArchitecturallyEvidentType(ArchitecturallyEvidentType::isValueObject));
-		this.publishedEvents = Suppliers.memoize(() -> findPublishedEvents());
+		this.stereotypes = Suppliers.memoize(() -> StereotypeIndex.of(basePackage, annotations.get()));
+		this.publishedEvents = Suppliers.memoize(() -> stereotypes.get().getTypes(Stereotype.EVENT).stream() //
+				.map(EventType::new) //
+				.toList());
 	}
 
 	/**
@@ -185,7 +188,7 @@ public class ApplicationModule {
 	 * @return will never be {@literal null}.
 	 */
 	public List<JavaClass> getValueTypes() {
-		return valueTypes.get();
+		return stereotypes.get().getTypes(Stereotype.VALUE_OBJECT);
 	}
 
 	/**
@@ -195,10 +198,7 @@ public class ApplicationModule {
 	 */
 	public List<JavaClass> getAggregateRoots() {
 
-		return entities.get().stream() //
-				.map(it -> ArchitecturallyEvidentType.of(it, getSpringBeansInternal())) //
-				.filter(ArchitecturallyEvidentType::isAggregateRoot) //
-				.map(ArchitecturallyEvidentType::getType) //
+		return stereotypes.get().getTypes(Stereotype.AGGREGATE_ROOT).stream() //
 				.flatMap(this::resolveModuleSuperTypes) //
 				.distinct() //
 				.toList();
@@ -237,6 +237,12 @@ public class ApplicationModule {
 		Assert.notNull(modules, "Modules must not be null!");
 		Assert.notNull(depth, "Dependency depth must not be null!");
 
+		var graph = modules.getDependencyGraph();
+
+		if (graph.contains(this)) {
+			return graph.getBootstrapBasePackages(this, depth).stream();
+		}
+
 		var dependencies = streamBootstrapDependencies(modules, depth);
 
 		return Stream.concat(Stream.of(this), dependencies) //
@@ -306,7 +312,7 @@ public class ApplicationModule {
 
 		Assert.notNull(type, "Type must not be null!");
 
-		return namedInterfaces.stream().anyMatch(it -> it.contains(type));
+		return namedInterfaces.contains(type);
 	}
 
 	public void verifyDependencies(ApplicationModules modules) {
@@ -373,7 +379,7 @@ public class ApplicationModule {
 	}
 
 	Classes getSpringBeansInternal() {
-		return springBeans.get();
+		return stereotypes.get().getSpringBeans();
 	}
 
 	/**
@@ -433,13 +439,11 @@ public class ApplicationModule {
 		}
 
 		return Objects.equals(this.basePackage, that.basePackage) //
-				&& Objects.equals(this.entities, that.entities) //
 				&& Objects.equals(this.information, that.information) //
 				&& Objects.equals(this.namedInterfaces, that.namedInterfaces) //
 				&& Objects.equals(this.publishedEvents, that.publishedEvents) //
-				&& Objects.equals(this.springBeans, that.springBeans) //
-				&& Objects.equals(this.useFullyQualifiedModuleNames, that.useFullyQualifiedModuleNames) //
-				&& Objects.equals(this.valueTypes, that.valueTypes);
+				&& Objects.equals(this.stereotypes, that.stereotypes) //
+				&& Objects.equals(this.useFullyQualifiedModuleNames, that.useFullyQualifiedModuleNames);
 	}
 
 	/*
@@ -448,17 +452,32 @@ public class ApplicationModule {
 	 */
 	@Override
 	public int hashCode() {
-		return Objects.hash(basePackage, entities, information, namedInterfaces, publishedEvents, springBeans,
-				useFullyQualifiedModuleNames, valueTypes);
+		return Objects.hash(basePackage, information, namedInterfaces, publishedEvents, stereotypes,
+				useFullyQualifiedModuleNames);
 	}
 
-	private List<EventType> findPublishedEvents() {
+	private Stream<QualifiedDependency> getAllModuleDependencies(ApplicationModules modules) {
 
-		DescribedPredicate<JavaClass> isEvent = implement(JMoleculesTypes.DOMAIN_EVENT) //
-				.or(isAnnotatedWith(JMoleculesTypes.AT_DOMAIN_EVENT));
+		var graph = modules.getDependencyGraph();
 
-		return basePackage.that(isEvent).stream() //
-				.map(EventType::new).toList();
+		return graph.contains(this) ? graph.getDependencies(this) : calculateDependencies(modules);
+	}
+
+	private Stream<ApplicationModule> streamBootstrapDependencies(ApplicationModules modules, DependencyDepth depth) {
+
+		var graph = modules.getDependencyGraph();
+
+		if (graph.contains(this)) {
+			return graph.getBootstrapDependencies(this, depth);
+		}
+
+		return switch (depth) {
+			case NONE -> Stream.empty();
+			case IMMEDIATE -> calculateBootstrapDependencies(modules);
+			default -> calculateBootstrapDependencies(modules) //
+					.flatMap(it -> Stream.concat(Stream.of(it), it.streamBootstrapDependencies(modules, DependencyDepth.ALL))) //
+					.distinct();
+		};
 	}
 
 	/**
@@ -477,30 +496,30 @@ public class ApplicationModule {
 				Stream.of(type));
 	}
 
-	private Stream<QualifiedDependency> getAllModuleDependencies(ApplicationModules modules) {
+	/**
+	 * Calculates all type-level dependencies of the current module to other modules. Prefer
+	 * {@link #getAllModuleDependencies(ApplicationModules)} that uses the dependencies precomputed in the
+	 * {@link ApplicationModuleDependencyGraph}.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Stream<QualifiedDependency> calculateDependencies(ApplicationModules modules) {
 
 		return basePackage.stream() //
-				.flatMap(it -> getModuleDependenciesOf(it, modules));
-	}
-
-	private Stream<ApplicationModule> streamBootstrapDependencies(ApplicationModules modules, DependencyDepth depth) {
-
-		return switch (depth) {
-			case NONE -> Stream.empty();
-			case IMMEDIATE -> getDirectModuleBootstrapDependencies(modules);
-			case ALL -> getAllBootstrapDependencies(modules);
-			default -> getAllBootstrapDependencies(modules);
-		};
-	}
-
-	private Stream<ApplicationModule> getAllBootstrapDependencies(ApplicationModules modules) {
-
-		return getDirectModuleBootstrapDependencies(modules) //
-				.flatMap(it -> Stream.concat(Stream.of(it), it.streamBootstrapDependencies(modules, DependencyDepth.ALL))) //
+				.flatMap(it -> getModuleDependenciesOf(it, modules)) //
 				.distinct();
 	}
 
-	private Stream<ApplicationModule> getDirectModuleBootstrapDependencies(ApplicationModules modules) {
+	/**
+	 * Calculates the modules directly needed to bootstrap the current one. Prefer
+	 * {@link #getBootstrapDependencies(ApplicationModules, DependencyDepth)} that uses the dependencies precomputed in
+	 * the {@link ApplicationModuleDependencyGraph}.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Stream<ApplicationModule> calculateBootstrapDependencies(ApplicationModules modules) {
 
 		var beans = getSpringBeansInternal();
 
@@ -532,48 +551,10 @@ public class ApplicationModule {
 		return modules.contains(dependency) && !contains(dependency);
 	}
 
-	private Classes findEntities(JavaPackage source) {
-
-		return source.stream() //
-				.map(it -> ArchitecturallyEvidentType.of(it, getSpringBeansInternal()))
-				.filter(ArchitecturallyEvidentType::isEntity) //
-				.map(ArchitecturallyEvidentType::getType).collect(Classes.toClasses());
-	}
-
-	private static Classes filterSpringBeans(JavaPackage source) {
-
-		Map<Boolean, List<JavaClass>> collect = source.that(isConfiguration()).stream() //
-				.flatMap(it -> it.getMethods().stream()) //
-				.filter(SpringTypes::isAtBeanMethod) //
-				.map(JavaMethod::getRawReturnType) //
-				.collect(Collectors.groupingBy(it -> source.contains(it)));
-
-		Classes repositories = source.that(isSpringDataRepository());
-		Classes coreComponents = source.that(not(INTERFACES).and(isComponent()));
-		Classes configurationProperties = source.that(isConfigurationProperties());
-
-		return coreComponents //
-				.and(repositories) //
-				.and(configurationProperties) //
-				.and(collect.getOrDefault(true, Collections.emptyList())) //
-				.and(collect.getOrDefault(false, Collections.emptyList()));
-	}
-
 	private static Predicate<JavaClass> hasSimpleOrFullyQualifiedName(String candidate) {
 		return it -> it.getSimpleName().equals(candidate) || it.getFullName().equals(candidate);
 	}
 
-	private List<JavaClass> findArchitecturallyEvidentType(Predicate<ArchitecturallyEvidentType> selector) {
-
-		var springBeansInternal = getSpringBeansInternal();
-
-		return basePackage.stream()
-				.map(it -> ArchitecturallyEvidentType.of(it, springBeansInternal))
-				.filter(selector)
-				.map(ArchitecturallyEvidentType::getType)
-				.toList();
-	}
-
 	static class DeclaredDependency {
 
 		private static final String INVALID_EXPLICIT_MODULE_DEPENDENCY = "Invalid explicit module dependency in %s! No module found with name '%s'.";
@@ -877,6 +858,24 @@ public class ApplicationModule {
 			return this.type.equals(type);
 		}
 
+		/**
+		 * Returns the description of the {@link QualifiedDependency}.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		String getDescription() {
+			return description;
+		}
+
+		/**
+		 * Returns the {@link DependencyType} of the {@link QualifiedDependency}.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		DependencyType getType() {
+			return type;
+		}
+
 		Violations isValidDependencyWithin(ApplicationModules modules) {
 
 			var originModule = getExistingModuleOf(source, modules);
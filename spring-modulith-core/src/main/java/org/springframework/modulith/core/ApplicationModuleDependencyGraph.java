@@ -0,0 +1,400 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.springframework.modulith.core.ApplicationModule.QualifiedDependency;
+import org.springframework.util.Assert;
+
+import com.tngtech.archunit.thirdparty.com.google.common.base.Supplier;
+import com.tngtech.archunit.thirdparty.com.google.common.base.Suppliers;
+
+/**
+ * The dependencies between the {@link ApplicationModule}s of an {@link ApplicationModules} instance. The type-level
+ * dependencies of a module are calculated once on first access and kept together with module-level adjacency arrays per
+ * {@link DependencyType}. The bootstrap dependencies of a module and the base packages to bootstrap it with are kept
+ * per {@link DependencyDepth}, so that repeated lookups, e.g. by the verification, the documentation and test
+ * bootstrap, don't have to inspect the module's types again.
+ *
+ * @author Oliver Drotbohm
+ */
+class ApplicationModuleDependencyGraph {
+
+	private static final int[] NONE = new int[0];
+
+	private final List<ApplicationModule> modules;
+	private final Map<String, Integer> indexes;
+	private final List<Supplier<Node>> nodes;
+	private final List<Supplier<int[]>> allBootstrapDependencies;
+	private final Map<DependencyDepth, List<Supplier<List<JavaPackage>>>> bootstrapBasePackages;
+	private final Supplier<List<List<ApplicationModule>>> cycles;
+
+	/**
+	 * Creates a new {@link ApplicationModuleDependencyGraph} for the given {@link ApplicationModule}s resolving
+	 * dependency targets against the given {@link ApplicationModules}.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @param context must not be {@literal null}.
+	 */
+	ApplicationModuleDependencyGraph(Collection<ApplicationModule> modules, ApplicationModules context) {
+
+		Assert.notNull(modules, "ApplicationModules must not be null!");
+		Assert.notNull(context, "Context ApplicationModules must not be null!");
+
+		this.modules = List.copyOf(modules);
+		this.indexes = new HashMap<>(this.modules.size());
+
+		for (int i = 0; i < this.modules.size(); i++) {
+			indexes.put(this.modules.get(i).getName(), i);
+		}
+
+		this.nodes = this.modules.stream() //
+				.<Supplier<Node>> map(it -> Suppliers.memoize(() -> createNode(it, context))) //
+				.toList();
+
+		this.allBootstrapDependencies = IntStream.range(0, this.modules.size()) //
+				.<Supplier<int[]>> mapToObj(it -> Suppliers.memoize(() -> calculateAllBootstrapDependencies(it))) //
+				.toList();
+
+		this.bootstrapBasePackages = new EnumMap<>(DependencyDepth.class);
+
+		for (var depth : DependencyDepth.values()) {
+			bootstrapBasePackages.put(depth, IntStream.range(0, this.modules.size()) //
+					.<Supplier<List<JavaPackage>>> mapToObj(
+							it -> Suppliers.memoize(() -> calculateBootstrapBasePackages(it, depth))) //
+					.toList());
+		}
+
+		this.cycles = Suppliers.memoize(() -> calculateCycles(IntStream.range(0, this.modules.size()).toArray()));
+	}
+
+	/**
+	 * Returns whether the graph contains the given {@link ApplicationModule} instance.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @return
+	 */
+	boolean contains(ApplicationModule module) {
+
+		var index = indexes.get(module.getName());
+
+		return index != null && modules.get(index) == module;
+	}
+
+	/**
+	 * Returns all type-level dependencies of the given {@link ApplicationModule} to other modules.
+	 *
+	 * @param module must not be {@literal null}, must be {@link #contains(ApplicationModule) contained} in the graph.
+	 * @return will never be {@literal null}.
+	 */
+	Stream<QualifiedDependency> getDependencies(ApplicationModule module) {
+		return getNode(module).dependencies().stream();
+	}
+
+	/**
+	 * Returns all {@link ApplicationModule}s the given one depends on with any of the given {@link DependencyType}s.
+	 *
+	 * @param module must not be {@literal null}, must be {@link #contains(ApplicationModule) contained} in the graph.
+	 * @param types must not be {@literal null}, an empty array considers all {@link DependencyType}s.
+	 * @return will never be {@literal null}.
+	 */
+	Stream<ApplicationModule> getModuleDependencies(ApplicationModule module, DependencyType... types) {
+
+		var adjacency = getNode(module).adjacency();
+		var targets = new BitSet(modules.size());
+
+		(types.length == 0 ? adjacency.values().stream() : Arrays.stream(types).map(adjacency::get)) //
+				.filter(it -> it != null) //
+				.forEach(it -> Arrays.stream(it).forEach(targets::set));
+
+		return targets.stream().mapToObj(modules::get);
+	}
+
+	/**
+	 * Returns the {@link ApplicationModule}s that need to be bootstrapped with the given one for the given
+	 * {@link DependencyDepth}.
+	 *
+	 * @param module must not be {@literal null}, must be {@link #contains(ApplicationModule) contained} in the graph.
+	 * @param depth must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Stream<ApplicationModule> getBootstrapDependencies(ApplicationModule module, DependencyDepth depth) {
+		return Arrays.stream(getBootstrapDependencies(getIndex(module), depth)).mapToObj(modules::get);
+	}
+
+	/**
+	 * Returns the base packages of the given {@link ApplicationModule} and the ones of all modules that need to be
+	 * bootstrapped with it for the given {@link DependencyDepth}.
+	 *
+	 * @param module must not be {@literal null}, must be {@link #contains(ApplicationModule) contained} in the graph.
+	 * @param depth must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	List<JavaPackage> getBootstrapBasePackages(ApplicationModule module, DependencyDepth depth) {
+		return bootstrapBasePackages.get(depth).get(getIndex(module)).get();
+	}
+
+	/**
+	 * Returns all groups of {@link ApplicationModule}s that depend on each other in a cycle, i.e. the strongly connected
+	 * components of the module dependency graph consisting of more than one module. Modules within a group are sorted by
+	 * name, the groups by the name of their first module.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	List<List<ApplicationModule>> getCycles() {
+		return cycles.get();
+	}
+
+	/**
+	 * Returns all groups of {@link ApplicationModule}s that depend on each other in a cycle and are reachable from the
+	 * given {@link ApplicationModule}s. Only the dependencies of the modules reachable are inspected, so that a cycle
+	 * introduced by a change to some modules can be detected without analyzing the entire graph.
+	 *
+	 * @param modules must not be {@literal null}, all modules must be {@link #contains(ApplicationModule) contained} in
+	 *          the graph.
+	 * @return will never be {@literal null}.
+	 * @see #getCycles()
+	 */
+	List<List<ApplicationModule>> getCyclesReachableFrom(Collection<ApplicationModule> modules) {
+
+		Assert.notNull(modules, "ApplicationModules must not be null!");
+
+		return modules.size() == this.modules.size() //
+				? getCycles() //
+				: calculateCycles(modules.stream().mapToInt(this::getIndex).sorted().toArray());
+	}
+
+	private Node getNode(ApplicationModule module) {
+		return nodes.get(getIndex(module)).get();
+	}
+
+	private int getIndex(ApplicationModule module) {
+
+		Assert.isTrue(contains(module), () -> "Module %s is not part of the dependency graph!".formatted(module.getName()));
+
+		return indexes.get(module.getName());
+	}
+
+	private int[] getBootstrapDependencies(int index, DependencyDepth depth) {
+
+		return switch (depth) {
+			case NONE -> NONE;
+			case IMMEDIATE -> nodes.get(index).get().bootstrapDependencies();
+			default -> allBootstrapDependencies.get(index).get();
+		};
+	}
+
+	private List<JavaPackage> calculateBootstrapBasePackages(int index, DependencyDepth depth) {
+
+		return IntStream.concat(IntStream.of(index), Arrays.stream(getBootstrapDependencies(index, depth))) //
+				.mapToObj(it -> modules.get(it).getBasePackage()) //
+				.toList();
+	}
+
+	private Node createNode(ApplicationModule module, ApplicationModules modules) {
+
+		var dependencies = module.calculateDependencies(modules).toList();
+		var targets = new EnumMap<DependencyType, BitSet>(DependencyType.class);
+
+		dependencies.forEach(it -> modules.getModuleByType(it.getTarget()) //
+				.map(ApplicationModule::getName) //
+				.map(indexes::get) //
+				.ifPresent(target -> targets.computeIfAbsent(it.getType(), __ -> new BitSet()).set(target)));
+
+		var adjacency = new EnumMap<DependencyType, int[]>(DependencyType.class);
+		targets.forEach((type, bits) -> adjacency.put(type, bits.stream().toArray()));
+
+		var bootstrapDependencies = module.calculateBootstrapDependencies(modules) //
+				.map(ApplicationModule::getName) //
+				.mapToInt(indexes::get) //
+				.toArray();
+
+		return new Node(dependencies, adjacency, bootstrapDependencies);
+	}
+
+	/**
+	 * Calculates all transitive bootstrap dependencies of the module with the given index in depth-first order, i.e. in
+	 * the order a recursive traversal of the direct dependencies would list them.
+	 *
+	 * @param index the index of the module.
+	 * @return will never be {@literal null}.
+	 */
+	private int[] calculateAllBootstrapDependencies(int index) {
+
+		var visited = new BitSet(modules.size());
+		var result = new ArrayList<Integer>();
+		var stack = new ArrayDeque<Integer>();
+
+		visited.set(index);
+		pushReversed(nodes.get(index).get().bootstrapDependencies(), stack);
+
+		while (!stack.isEmpty()) {
+
+			int current = stack.pop();
+
+			if (visited.get(current)) {
+				continue;
+			}
+
+			visited.set(current);
+			result.add(current);
+
+			pushReversed(nodes.get(current).get().bootstrapDependencies(), stack);
+		}
+
+		return result.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Detects the strongly connected components of the module dependency graph reachable from the modules with the
+	 * given indexes using Tarjan's algorithm. Implemented iteratively to not depend on the stack depth for large graphs.
+	 *
+	 * @param roots the indexes of the modules to start the traversal from.
+	 * @return will never be {@literal null}.
+	 */
+	private List<List<ApplicationModule>> calculateCycles(int[] roots) {
+
+		var size = modules.size();
+		var adjacency = new int[size][];
+
+		// Calculate the dependencies of the root modules in parallel upfront, the ones of other modules reached on demand
+		var rootAdjacency = Arrays.stream(roots).boxed().parallel() //
+				.map(ContextClassLoaders.propagating(this::getModuleDependencyIndexes)) //
+				.toArray(int[][]::new);
+
+		for (int i = 0; i < roots.length; i++) {
+			adjacency[roots[i]] = rootAdjacency[i];
+		}
+
+		var order = new int[size];
+		var lowLink = new int[size];
+		var onStack = new boolean[size];
+		var stack = new ArrayDeque<Integer>();
+		var result = new ArrayList<List<ApplicationModule>>();
+		var counter = 0;
+
+		Arrays.fill(order, -1);
+
+		for (int root : roots) {
+
+			if (order[root] != -1) {
+				continue;
+			}
+
+			// Frames of the simulated recursion: the module index and the position of the next edge to follow
+			var frames = new ArrayDeque<int[]>();
+
+			order[root] = lowLink[root] = counter++;
+			stack.push(root);
+			onStack[root] = true;
+			frames.push(new int[] { root, 0 });
+
+			while (!frames.isEmpty()) {
+
+				var frame = frames.peek();
+				var current = frame[0];
+
+				if (adjacency[current] == null) {
+					adjacency[current] = getModuleDependencyIndexes(current);
+				}
+
+				if (frame[1] < adjacency[current].length) {
+
+					var next = adjacency[current][frame[1]++];
+
+					if (order[next] == -1) {
+
+						order[next] = lowLink[next] = counter++;
+						stack.push(next);
+						onStack[next] = true;
+						frames.push(new int[] { next, 0 });
+
+					} else if (onStack[next]) {
+						lowLink[current] = Math.min(lowLink[current], order[next]);
+					}
+
+					continue;
+				}
+
+				frames.pop();
+
+				if (!frames.isEmpty()) {
+					var parent = frames.peek()[0];
+					lowLink[parent] = Math.min(lowLink[parent], lowLink[current]);
+				}
+
+				if (lowLink[current] != order[current]) {
+					continue;
+				}
+
+				var component = new ArrayList<ApplicationModule>();
+				int member;
+
+				do {
+					member = stack.pop();
+					onStack[member] = false;
+					component.add(modules.get(member));
+				} while (member != current);
+
+				if (component.size() > 1) {
+					component.sort(Comparator.comparing(ApplicationModule::getName));
+					result.add(List.copyOf(component));
+				}
+			}
+		}
+
+		result.sort(Comparator.comparing(it -> it.get(0).getName()));
+
+		return List.copyOf(result);
+	}
+
+	private int[] getModuleDependencyIndexes(int index) {
+
+		return getModuleDependencies(modules.get(index)) //
+				.mapToInt(this::getIndex) //
+				.toArray();
+	}
+
+	private static void pushReversed(int[] indexes, ArrayDeque<Integer> stack) {
+
+		for (int i = indexes.length - 1; i >= 0; i--) {
+			stack.push(indexes[i]);
+		}
+	}
+
+	/**
+	 * The dependencies of a single {@link ApplicationModule}.
+	 *
+	 * @param dependencies all type-level dependencies to other modules.
+	 * @param adjacency the indexes of the modules depended on by {@link DependencyType}.
+	 * @param bootstrapDependencies the indexes of the modules directly needed to bootstrap the module.
+	 * @author Oliver Drotbohm
+	 */
+	private record Node(List<QualifiedDependency> dependencies, Map<DependencyType, int[]> adjacency,
+			int[] bootstrapDependencies) {}
+}
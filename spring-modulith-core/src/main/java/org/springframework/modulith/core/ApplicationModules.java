@@ -38,6 +38,9 @@ import org.springframework.lang.Nullable;
 import org.springframework.modulith.Modulith;
 import org.springframework.modulith.Modulithic;
 import org.springframework.modulith.core.Types.JMoleculesTypes;
+import org.springframework.modulith.core.VerificationCache.ModuleVerification;
+import org.springframework.modulith.core.VerificationCache.Verification;
+import org.springframework.modulith.core.util.Cache;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
@@ -46,9 +49,11 @@ import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
 import com.tngtech.archunit.core.importer.ImportOption;
+import com.tngtech.archunit.core.importer.Location;
+import com.tngtech.archunit.core.importer.Locations;
 import com.tngtech.archunit.lang.EvaluationResult;
-import com.tngtech.archunit.lang.FailureReport;
-import com.tngtech.archunit.library.dependencies.SlicesRuleDefinition;
+import com.tngtech.archunit.thirdparty.com.google.common.base.Supplier;
+import com.tngtech.archunit.thirdparty.com.google.common.base.Suppliers;
 
 /**
  * @author Oliver Drotbohm
@@ -56,9 +61,12 @@ import com.tngtech.archunit.library.dependencies.SlicesRuleDefinition;
  */
 public class ApplicationModules implements Iterable<ApplicationModule> {
 
-	private static final Map<CacheKey, ApplicationModules> CACHE = new HashMap<>();
+	private static final Cache<CacheKey, ApplicationModules> CACHE = Cache.of("application-modules", 32);
+	private static final Cache<ImportKey, JavaClasses> IMPORTS = Cache.of("class-imports", 8);
 	private static final ApplicationModuleDetectionStrategy DETECTION_STRATEGY;
 	private static final ImportOption IMPORT_OPTION = new ImportOption.DoNotIncludeTests();
+	private static final VerificationCache VERIFICATION_CACHE = VerificationCache.fromSystemProperties();
+	private static final int NO_RANK = -1;
 	private static final boolean JGRAPHT_PRESENT = ClassUtils.isPresent("org.jgrapht.Graph",
 			ApplicationModules.class.getClassLoader());
 
@@ -82,27 +90,62 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 	private final ModulithMetadata metadata;
 	private final Map<String, ApplicationModule> modules;
 	private final JavaClasses allClasses;
+	private final DescribedPredicate<JavaClass> ignored;
 	private final List<JavaPackage> rootPackages;
 	private final Set<ApplicationModule> sharedModules;
-	private final List<String> orderedNames;
+	private final Supplier<List<String>> orderedNames;
+	private final ModuleIndex index;
+	private final Supplier<ApplicationModuleDependencyGraph> dependencyGraph;
+	private final Supplier<Map<String, Integer>> ranks;
+	private final ClassValue<Integer> ranksByType = new ClassValue<>() {
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.ClassValue#computeValue(java.lang.Class)
+		 */
+		@Override
+		protected Integer computeValue(Class<?> type) {
+			return calculateModuleRank(type);
+		}
+	};
 
 	private boolean verified;
 
 	protected ApplicationModules(ModulithMetadata metadata, Collection<String> packages,
 			DescribedPredicate<JavaClass> ignored, boolean useFullyQualifiedModuleNames, ImportOption option) {
+		this(metadata, packages, importClasses(packages, option), ignored, useFullyQualifiedModuleNames);
+	}
+
+	/**
+	 * Creates a new {@link ApplicationModules} for the given {@link ModulithMetadata}, root packages, the
+	 * {@link JavaClasses} already imported for them and the types to ignore.
+	 *
+	 * @param metadata must not be {@literal null}.
+	 * @param packages must not be {@literal null}.
+	 * @param importedClasses must not be {@literal null}.
+	 * @param ignored must not be {@literal null}.
+	 * @param useFullyQualifiedModuleNames
+	 */
+	private ApplicationModules(ModulithMetadata metadata, Collection<String> packages, JavaClasses importedClasses,
+			DescribedPredicate<JavaClass> ignored, boolean useFullyQualifiedModuleNames) {
+
+		var allClasses = importedClasses.that(not(ignored));
 
 		this.metadata = metadata;
-		this.allClasses = new ClassFileImporter() //
-				.withImportOption(option) //
-				.importPackages(packages) //
-				.that(not(ignored));
+		this.allClasses = allClasses;
+		this.ignored = ignored;
 
 		Classes classes = Classes.of(allClasses);
+		Supplier<AnnotationIndex> annotations = Suppliers.memoize(() -> AnnotationIndex.of(allClasses));
 
+		// Module base packages are detected upfront, the modules themselves are set up in parallel
 		this.modules = packages.stream() //
 				.map(it -> JavaPackage.of(classes, it))
 				.flatMap(DETECTION_STRATEGY::getModuleBasePackages) //
-				.map(it -> new ApplicationModule(it, useFullyQualifiedModuleNames)) //
+				.toList() //
+				.parallelStream() //
+				.map(ContextClassLoaders.propagating(
+						it -> new ApplicationModule(it, useFullyQualifiedModuleNames, annotations))) //
 				.collect(toMap(ApplicationModule::getName, Function.identity()));
 
 		this.rootPackages = packages.stream() //
@@ -110,10 +153,14 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 				.toList();
 
 		this.sharedModules = Collections.emptySet();
+		this.index = new ModuleIndex(modules.values());
+		this.dependencyGraph = Suppliers.memoize(() -> new ApplicationModuleDependencyGraph(modules.values(), this));
 
-		this.orderedNames = JGRAPHT_PRESENT //
+		// Sorting requires the dependencies of all modules, so we only do that if needed
+		this.orderedNames = Suppliers.memoize(() -> JGRAPHT_PRESENT //
 				? TopologicalSorter.topologicallySortModules(this) //
-				: modules.values().stream().map(ApplicationModule::getName).toList();
+				: modules.values().stream().map(ApplicationModule::getName).toList());
+		this.ranks = Suppliers.memoize(() -> toRanks(orderedNames.get()));
 	}
 
 	/**
@@ -124,28 +171,38 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 	 * @param metadata must not be {@literal null}.
 	 * @param modules must not be {@literal null}.
 	 * @param allClasses must not be {@literal null}.
+	 * @param ignored must not be {@literal null}.
 	 * @param rootPackages must not be {@literal null}.
 	 * @param sharedModules must not be {@literal null}.
 	 * @param orderedNames must not be {@literal null}.
+	 * @param index must not be {@literal null}.
+	 * @param dependencyGraph must not be {@literal null}.
 	 * @param verified
 	 */
 	private ApplicationModules(ModulithMetadata metadata, Map<String, ApplicationModule> modules, JavaClasses classes,
-			List<JavaPackage> rootPackages, Set<ApplicationModule> sharedModules, List<String> orderedNames,
-			boolean verified) {
+			DescribedPredicate<JavaClass> ignored, List<JavaPackage> rootPackages, Set<ApplicationModule> sharedModules, Supplier<List<String>> orderedNames,
+			ModuleIndex index, Supplier<ApplicationModuleDependencyGraph> dependencyGraph, boolean verified) {
 
 		Assert.notNull(metadata, "ModulithMetadata must not be null!");
 		Assert.notNull(modules, "Application modules must not be null!");
 		Assert.notNull(classes, "JavaClasses must not be null!");
+		Assert.notNull(ignored, "Ignored types must not be null!");
 		Assert.notNull(rootPackages, "Root JavaPackages must not be null!");
 		Assert.notNull(sharedModules, "Shared ApplicationModules must not be null!");
 		Assert.notNull(orderedNames, "Ordered application module names must not be null!");
+		Assert.notNull(index, "Module index must not be null!");
+		Assert.notNull(dependencyGraph, "Dependency graph must not be null!");
 
 		this.metadata = metadata;
 		this.modules = modules;
 		this.allClasses = classes;
+		this.ignored = ignored;
 		this.rootPackages = rootPackages;
 		this.sharedModules = sharedModules;
 		this.orderedNames = orderedNames;
+		this.index = index;
+		this.dependencyGraph = dependencyGraph;
+		this.ranks = Suppliers.memoize(() -> toRanks(orderedNames.get()));
 		this.verified = verified;
 	}
 
@@ -174,7 +231,7 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 
 		CacheKey key = new TypeKey(modulithType, ignored);
 
-		return CACHE.computeIfAbsent(key, it -> {
+		return CACHE.get(key, it -> {
 
 			Assert.notNull(modulithType, "Modulith root type must not be null!");
 			Assert.notNull(ignored, "Predicate to describe ignored types must not be null!");
@@ -204,7 +261,7 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 
 		CacheKey key = new PackageKey(javaPackage, ignored);
 
-		return CACHE.computeIfAbsent(key, it -> {
+		return CACHE.get(key, it -> {
 
 			Assert.hasText(javaPackage, "Base package must not be null or empty!");
 			Assert.notNull(ignored, "Predicate to describe ignored types must not be null!");
@@ -252,8 +309,7 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 
 		Assert.notNull(type, "Type must not be null!");
 
-		return modules.values().stream() //
-				.anyMatch(module -> module.contains(type));
+		return index.getModuleByTypeName(type.getName()) != null;
 	}
 
 	/**
@@ -293,9 +349,7 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 
 		Assert.notNull(type, "Type must not be null!");
 
-		return modules.values().stream() //
-				.filter(it -> it.contains(type)) //
-				.findFirst();
+		return Optional.ofNullable(index.getModuleByTypeName(type.getName()));
 	}
 
 	/**
@@ -308,9 +362,9 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 
 		Assert.hasText(candidate, "Candidate must not be null or empty!");
 
-		return modules.values().stream() //
-				.filter(it -> it.contains(candidate)) //
-				.findFirst();
+		var module = index.getModuleByTypeName(candidate);
+
+		return Optional.ofNullable(module != null ? module : index.getModuleBySimpleTypeName(candidate));
 	}
 
 	/**
@@ -323,17 +377,27 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 		return getModuleByType(candidate.getName());
 	}
 
+	/**
+	 * Returns the {@link ApplicationModule} whose base package is the given package or the closest parent package of it.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
 	public Optional<ApplicationModule> getModuleForPackage(String name) {
 
-		return modules.values().stream() //
-				.filter(it -> name.startsWith(it.getBasePackage().getName())) //
-				.findFirst();
+		Assert.hasText(name, "Package name must not be null or empty!");
+
+		return Optional.ofNullable(index.getModuleForPackage(name));
 	}
 
 	/**
-	 * Execute all verifications to be applied, unless the verification has been executed before.
+	 * Execute all verifications to be applied, unless the verification has been executed before. Successful
+	 * verifications are recorded on disk, so that the verification of an unchanged code base is skipped in subsequent
+	 * JVMs, too. If the code base has changed since, only the dependencies of the application modules affected by the
+	 * change are verified again.
 	 *
 	 * @return will never be {@literal null}.
+	 * @see VerificationCache
 	 */
 	public ApplicationModules verify() {
 
@@ -341,29 +405,87 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 			return this;
 		}
 
-		Violations violations = detectViolations();
+		// Avoid fingerprinting the code base if there's no cache to look up previous verifications in
+		if (!VERIFICATION_CACHE.isEnabled()) {
+
+			Violations violations = detectViolations();
+
+			this.verified = true;
+
+			violations.throwIfPresent();
+
+			return this;
+		}
+
+		var key = rootPackages.stream() //
+				.map(JavaPackage::getName) //
+				.sorted() //
+				.collect(Collectors.joining(",", metadata.getSource() + ":", ":" + ignored.getDescription()));
+
+		var fingerprint = VerificationCache.fingerprint(StreamSupport.stream(allClasses.spliterator(), false));
+		var previous = VERIFICATION_CACHE.get(key);
+
+		if (previous.filter(it -> it.isFor(fingerprint)).isPresent()) {
+
+			this.verified = true;
+
+			return this;
+		}
+
+		var fingerprints = modules.values().parallelStream() //
+				.collect(Collectors.toMap(ApplicationModule::getName,
+						it -> VerificationCache.fingerprint(it.getBasePackage().stream())));
+
+		var globalFingerprint = VerificationCache.fingerprint(metadata, StreamSupport.stream(allClasses.spliterator(), false) //
+				.filter(it -> modules.values().stream().noneMatch(module -> module.contains(it))));
+
+		var modulesToVerify = previous.map(it -> it.getModulesToVerify(globalFingerprint, fingerprints)) //
+				.orElseGet(modules::keySet);
+
+		Violations violations = detectViolations(modulesToVerify);
 
 		this.verified = true;
 
 		violations.throwIfPresent();
 
+		VERIFICATION_CACHE.put(key, new Verification(fingerprint, globalFingerprint, fingerprints.entrySet().stream() //
+				.collect(Collectors.toMap(Map.Entry::getKey, it -> {
+
+					var dependencies = modulesToVerify.contains(it.getKey())
+							? getRequiredModule(it.getKey()).getDependencies(this).stream() //
+									.map(ApplicationModuleDependency::getTargetModule) //
+									.map(ApplicationModule::getName) //
+									.collect(Collectors.toSet())
+							: previous.get().modules().get(it.getKey()).dependencies();
+
+					return new ModuleVerification(it.getValue(), dependencies);
+				}))));
+
 		return this;
 	}
 
 	/**
 	 * Executes all verifications to be applied and returns {@link Violations} if any occured. Will always execute the
-	 * verifications in contrast to {@link #verify()} which just runs once.
+	 * verifications in contrast to {@link #verify()} which just runs once. The individual verifications are executed in
+	 * parallel, the {@link Violations} returned are reported in a stable order nonetheless.
 	 *
 	 * @return will never be {@literal null}.
 	 * @see Violations#throwIfPresent()
 	 */
 	public Violations detectViolations() {
+		return detectViolations(modules.keySet());
+	}
 
-		Violations violations = rootPackages.stream() //
-				.map(this::assertNoCyclesFor) //
-				.flatMap(it -> it.getDetails().stream()) //
-				.map(IllegalStateException::new) //
-				.collect(Violations.toViolations());
+	/**
+	 * Executes all verifications to be applied but only verifies the dependencies of the modules with the given names and
+	 * only detects the cycles those modules are part of or depend on.
+	 *
+	 * @param moduleNames must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private Violations detectViolations(Collection<String> moduleNames) {
+
+		Violations violations = detectCycles(moduleNames);
 
 		if (JMoleculesTypes.areRulesPresent()) {
 
@@ -374,9 +496,15 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 			}
 		}
 
-		return modules.values().stream() //
-				.map(it -> it.detectDependencies(this)) //
-				.reduce(violations, Violations::and);
+		// Parallel, but ordered stream to produce a deterministic result
+		var dependencyViolations = moduleNames.stream() //
+				.sorted() //
+				.toList() //
+				.parallelStream() //
+				.map(ContextClassLoaders.propagating(it -> modules.get(it).detectDependencies(this))) //
+				.reduce(Violations.NONE, Violations::and);
+
+		return violations.and(dependencyViolations);
 	}
 
 	/**
@@ -409,19 +537,19 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 
 		return (left, right) -> {
 
-			var leftIndex = getModuleIndexFor(left);
+			var leftRank = getModuleRankFor(left);
 
-			if (leftIndex == null) {
+			if (leftRank == NO_RANK) {
 				return 1;
 			}
 
-			var rightIndex = getModuleIndexFor(right);
+			var rightRank = getModuleRankFor(right);
 
-			if (rightIndex == null) {
+			if (rightRank == NO_RANK) {
 				return -1;
 			}
 
-			var result = leftIndex - rightIndex;
+			var result = Integer.compare(leftRank, rightRank);
 
 			return result != 0 ? result : AnnotationAwareOrderComparator.INSTANCE.compare(left, right);
 		};
@@ -433,7 +561,7 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 	 */
 	@Override
 	public Iterator<ApplicationModule> iterator() {
-		return orderedNames.stream().map(this::getRequiredModule).iterator();
+		return orderedNames.get().stream().map(this::getRequiredModule).iterator();
 	}
 
 	/*
@@ -445,36 +573,91 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 		return this.stream().map(ApplicationModule::toString).collect(Collectors.joining("\n"));
 	}
 
+	/**
+	 * Returns the {@link ApplicationModuleDependencyGraph} of all {@link ApplicationModule}s.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	ApplicationModuleDependencyGraph getDependencyGraph() {
+		return dependencyGraph.get();
+	}
+
 	private ApplicationModules withSharedModules(Set<ApplicationModule> sharedModules) {
-		return new ApplicationModules(metadata, modules, allClasses, rootPackages, sharedModules, orderedNames, verified);
+		return new ApplicationModules(metadata, modules, allClasses, ignored, rootPackages, sharedModules, orderedNames,
+				index, dependencyGraph, verified);
 	}
 
-	private FailureReport assertNoCyclesFor(JavaPackage rootPackage) {
+	/**
+	 * Detects cycles between the application modules on the module dependency graph reachable from the modules with the
+	 * given names and reports the type dependencies that constitute each cycle.
+	 *
+	 * @param moduleNames must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private Violations detectCycles(Collection<String> moduleNames) {
 
-		var result = SlicesRuleDefinition.slices() //
-				.matching(rootPackage.getName().concat(".(*)..")) //
-				.should().beFreeOfCycles() //
-				.evaluate(allClasses.that(resideInAPackage(rootPackage.getName().concat(".."))));
+		var roots = moduleNames.stream() //
+				.map(modules::get) //
+				.toList();
 
-		return result.getFailureReport();
+		return getDependencyGraph().getCyclesReachableFrom(roots).stream() //
+				.map(this::toCycleViolation) //
+				.collect(Violations.toViolations());
+	}
+
+	private RuntimeException toCycleViolation(List<ApplicationModule> cycle) {
+
+		var names = cycle.stream().map(ApplicationModule::getName).toList();
+		var graph = getDependencyGraph();
+
+		// Only look up the type dependencies of the modules involved in the cycle
+		var evidence = cycle.stream() //
+				.flatMap(graph::getDependencies) //
+				.filter(it -> getModuleByType(it.getTarget()).filter(cycle::contains).isPresent()) //
+				.map(it -> "  " + it.getDescription()) //
+				.distinct() //
+				.collect(Collectors.joining(System.lineSeparator()));
+
+		var message = "Cycle detected between application modules %s:%s%s" //
+				.formatted(String.join(", ", names), System.lineSeparator(), evidence);
+
+		return new IllegalStateException(message);
 	}
 
 	/**
-	 * Returns the index of the module that contains the type of the given object or 1 if the given object is
-	 * {@literal null} or its type does not reside in any module.
+	 * Returns the rank of the module that contains the type of the given object (or the given type itself) in the
+	 * topological order of all modules or {@value #NO_RANK} if the given object is {@literal null} or its type does not
+	 * reside in any module. Ranks are calculated once per type.
 	 *
 	 * @param object can be {@literal null}.
 	 * @return
 	 */
-	private Integer getModuleIndexFor(@Nullable Object object) {
+	private int getModuleRankFor(@Nullable Object object) {
+
+		if (object == null) {
+			return NO_RANK;
+		}
 
-		return Optional.ofNullable(object)
-				.map(it -> Class.class.isInstance(it) ? Class.class.cast(it) : it.getClass())
-				.map(Class::getName)
-				.flatMap(this::getModuleByType)
-				.map(ApplicationModule::getName)
-				.map(orderedNames::indexOf)
-				.orElse(null);
+		return ranksByType.get(object instanceof Class<?> type ? type : object.getClass());
+	}
+
+	private int calculateModuleRank(Class<?> type) {
+
+		return getModuleByType(type.getName()) //
+				.map(ApplicationModule::getName) //
+				.map(ranks.get()::get) //
+				.orElse(NO_RANK);
+	}
+
+	private static Map<String, Integer> toRanks(List<String> orderedNames) {
+
+		var result = new HashMap<String, Integer>(orderedNames.size());
+
+		for (int i = 0; i < orderedNames.size(); i++) {
+			result.put(orderedNames.get(i), i);
+		}
+
+		return result;
 	}
 
 	/**
@@ -510,8 +693,12 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 		basePackages.add(key.getBasePackage());
 		basePackages.addAll(metadata.getAdditionalPackages());
 
-		var modules = new ApplicationModules(metadata, basePackages, key.getIgnored(),
-				metadata.useFullyQualifiedModuleNames(), IMPORT_OPTION);
+		// The raw, single-threaded import is cached and shared between instances differing in the types ignored only
+		var allClasses = IMPORTS.get(new ImportKey(Set.copyOf(basePackages), IMPORT_OPTION),
+				it -> importClasses(it.packages(), it.option()));
+
+		var modules = new ApplicationModules(metadata, basePackages, allClasses, key.getIgnored(),
+				metadata.useFullyQualifiedModuleNames());
 
 		var sharedModules = metadata.getSharedModuleNames() //
 				.map(modules::getRequiredModule) //
@@ -520,6 +707,28 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 		return modules.withSharedModules(sharedModules);
 	}
 
+	/**
+	 * Imports all classes of the given packages using the given {@link ImportOption}. Only the lookup of the
+	 * {@link Location}s of the individual packages runs in parallel. The class files themselves are parsed by a single
+	 * {@link ClassFileImporter} run, as the {@link JavaClasses} of separate imports cannot be merged without losing the
+	 * dependencies between them. Callers share the result via {@link #IMPORTS} instead of importing again.
+	 *
+	 * @param packages must not be {@literal null}.
+	 * @param option must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private static JavaClasses importClasses(Collection<String> packages, ImportOption option) {
+
+		var locations = packages.parallelStream() //
+				.map(ContextClassLoaders.propagating(Locations::ofPackage)) //
+				.flatMap(Set::stream) //
+				.collect(Collectors.toSet());
+
+		return new ClassFileImporter() //
+				.withImportOption(option) //
+				.importLocations(locations);
+	}
+
 	public static class Filters {
 
 		public static DescribedPredicate<JavaClass> withoutModules(String... names) {
@@ -534,6 +743,15 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 		}
 	}
 
+	/**
+	 * The key to cache the raw {@link JavaClasses} imported for a set of packages with.
+	 *
+	 * @param packages the packages to import.
+	 * @param option the {@link ImportOption} to apply.
+	 * @author Oliver Drotbohm
+	 */
+	private record ImportKey(Set<String> packages, ImportOption option) {}
+
 	private static interface CacheKey {
 
 		String getBasePackage();
@@ -689,6 +907,103 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 		}
 	}
 
+	/**
+	 * Lookup structures to find the {@link ApplicationModule} for a type or package without having to inspect all
+	 * modules. Built once when the {@link ApplicationModules} are created as modules are immutable. In case of nested
+	 * module base packages, the module with the most specific base package wins.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class ModuleIndex {
+
+		private final Map<String, ApplicationModule> modulesByTypeName;
+		private final Map<String, ApplicationModule> modulesBySimpleTypeName;
+		private final PackageNode packages;
+
+		ModuleIndex(Collection<ApplicationModule> modules) {
+
+			var byTypeName = new HashMap<String, ApplicationModule>();
+			var bySimpleTypeName = new HashMap<String, ApplicationModule>();
+
+			this.packages = new PackageNode();
+
+			modules.stream() //
+					.sorted(Comparator.comparing((ApplicationModule it) -> it.getBasePackage().getName().length())) //
+					.forEach(module -> {
+
+						module.getBasePackage().stream().forEach(type -> {
+							byTypeName.put(type.getName(), module);
+							bySimpleTypeName.put(type.getSimpleName(), module);
+						});
+
+						packages.register(module.getBasePackage().getName(), module);
+					});
+
+			this.modulesByTypeName = Map.copyOf(byTypeName);
+			this.modulesBySimpleTypeName = Map.copyOf(bySimpleTypeName);
+		}
+
+		@Nullable
+		ApplicationModule getModuleByTypeName(String name) {
+			return modulesByTypeName.get(name);
+		}
+
+		@Nullable
+		ApplicationModule getModuleBySimpleTypeName(String name) {
+			return modulesBySimpleTypeName.get(name);
+		}
+
+		@Nullable
+		ApplicationModule getModuleForPackage(String name) {
+			return packages.find(name);
+		}
+	}
+
+	/**
+	 * A node in a trie of package name segments, pointing to the {@link ApplicationModule} whose base package ends in the
+	 * node, if any.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class PackageNode {
+
+		private final Map<String, PackageNode> children = new HashMap<>();
+		private @Nullable ApplicationModule module;
+
+		void register(String packageName, ApplicationModule module) {
+
+			var node = this;
+
+			for (String segment : packageName.split("\\.")) {
+				node = node.children.computeIfAbsent(segment, __ -> new PackageNode());
+			}
+
+			node.module = module;
+		}
+
+		@Nullable
+		ApplicationModule find(String packageName) {
+
+			var node = this;
+			var result = module;
+
+			for (String segment : packageName.split("\\.")) {
+
+				node = node.children.get(segment);
+
+				if (node == null) {
+					break;
+				}
+
+				if (node.module != null) {
+					result = node.module;
+				}
+			}
+
+			return result;
+		}
+	}
+
 	/**
 	 * Dedicated class to be able to only optionally depend on the JGraphT library.
 	 *
@@ -700,16 +1015,20 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 
 			Graph<ApplicationModule, DefaultEdge> graph = new DefaultDirectedGraph<>(DefaultEdge.class);
 
+			// Calculate dependencies in parallel, the graph itself is not thread-safe
+			var dependencyGraph = modules.getDependencyGraph();
+			var dependencies = modules.modules.values().parallelStream() //
+					.collect(Collectors.toMap(Function.identity(),
+							ContextClassLoaders.propagating(it -> dependencyGraph.getModuleDependencies(it).toList())));
+
 			modules.modules.forEach((__, project) -> {
 
 				graph.addVertex(project);
 
-				project.getDependencies(modules).stream() //
-						.map(ApplicationModuleDependency::getTargetModule) //
-						.forEach(dependency -> {
-							graph.addVertex(dependency);
-							graph.addEdge(project, dependency);
-						});
+				dependencies.get(project).forEach(dependency -> {
+					graph.addVertex(dependency);
+					graph.addEdge(project, dependency);
+				});
 			});
 
 			var names = new ArrayList<String>();
@@ -20,10 +20,8 @@ import static org.springframework.modulith.core.Types.JavaXTypes.*;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -34,6 +32,7 @@ import org.springframework.data.repository.core.support.AbstractRepositoryMetada
 import org.springframework.modulith.core.Types.JMoleculesTypes;
 import org.springframework.modulith.core.Types.SpringDataTypes;
 import org.springframework.modulith.core.Types.SpringTypes;
+import org.springframework.modulith.core.util.Cache;
 
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaMethod;
@@ -48,7 +47,8 @@ import com.tngtech.archunit.thirdparty.com.google.common.base.Suppliers;
  */
 public abstract class ArchitecturallyEvidentType {
 
-	private static Map<Key, ArchitecturallyEvidentType> CACHE = new HashMap<>();
+	private static final Cache<Key, ArchitecturallyEvidentType> CACHE = Cache.of("architecturally-evident-types",
+			50_000);
 
 	private final JavaClass type;
 
@@ -66,7 +66,7 @@ public abstract class ArchitecturallyEvidentType {
 	 */
 	public static ArchitecturallyEvidentType of(JavaClass type, Classes beanTypes) {
 
-		return CACHE.computeIfAbsent(new Key(type, beanTypes), it -> {
+		return CACHE.get(new Key(type, beanTypes), it -> {
 
 			List<ArchitecturallyEvidentType> delegates = new ArrayList<>();
 
@@ -627,7 +627,37 @@ public abstract class ArchitecturallyEvidentType {
 		}
 	}
 
-	private static record Key(JavaClass type, Classes beanTypes) {}
+	/**
+	 * Cache key comparing the {@link Classes} of Spring beans by identity, as they're usually the same instance for all
+	 * types of a module and comparing them by value would require inspecting all contained types.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static record Key(JavaClass type, Classes beanTypes) {
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Record#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			return obj instanceof Key that && type == that.type && beanTypes == that.beanTypes;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Record#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(type) + System.identityHashCode(beanTypes);
+		}
+	}
 
 	public static class ReferenceMethod {
 
@@ -23,6 +23,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -39,19 +40,24 @@ import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaModifier;
 import com.tngtech.archunit.core.domain.JavaType;
-import com.tngtech.archunit.core.domain.properties.HasName;
 
 /**
+ * An immutable collection of {@link JavaClass}es sorted by their name. Membership checks are backed by a set of the
+ * contained type names that is created on first use.
+ *
  * @author Oliver Drotbohm
  */
 class Classes implements DescribedIterable<JavaClass> {
 
+	private static final Comparator<JavaClass> BY_NAME = Comparator.comparing(JavaClass::getName);
+
 	public static Classes NONE = Classes.of(Collections.emptyList());
 
 	private final List<JavaClass> classes;
+	private @Nullable Set<String> names;
 
 	/**
-	 * Creates a new {@link Classes} for the given {@link JavaClass}es.
+	 * Creates a new {@link Classes} for the given {@link JavaClass}es that are already sorted by name.
 	 *
 	 * @param classes must not be {@literal null}.
 	 */
@@ -59,9 +65,17 @@ class Classes implements DescribedIterable<JavaClass> {
 
 		Assert.notNull(classes, "JavaClasses must not be null!");
 
-		this.classes = classes.stream() //
-				.sorted(Comparator.comparing(JavaClass::getName)) //
-				.toList();
+		this.classes = classes;
+	}
+
+	/**
+	 * Creates a new {@link Classes} for the given {@link JavaClass}es sorting them by name.
+	 *
+	 * @param classes must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private static Classes sorted(Stream<JavaClass> classes) {
+		return new Classes(classes.sorted(BY_NAME).toList());
 	}
 
 	/**
@@ -71,9 +85,7 @@ class Classes implements DescribedIterable<JavaClass> {
 	 * @return
 	 */
 	static Classes of(JavaClasses classes) {
-
-		return new Classes(StreamSupport.stream(classes.spliterator(), false) //
-				.toList());
+		return sorted(StreamSupport.stream(classes.spliterator(), false));
 	}
 
 	/**
@@ -83,7 +95,10 @@ class Classes implements DescribedIterable<JavaClass> {
 	 * @return will never be {@literal null}.
 	 */
 	static Classes of(List<JavaClass> classes) {
-		return new Classes(classes);
+
+		Assert.notNull(classes, "JavaClasses must not be null!");
+
+		return sorted(classes.stream());
 	}
 
 	/**
@@ -105,9 +120,10 @@ class Classes implements DescribedIterable<JavaClass> {
 
 		Assert.notNull(predicate, "Predicate must not be null!");
 
-		return classes.stream() //
+		// Filtering retains the order so that there's no need to sort again
+		return new Classes(classes.stream() //
 				.filter((Predicate<JavaClass>) it -> predicate.test(it)) //
-				.collect(Collectors.collectingAndThen(Collectors.toList(), Classes::new));
+				.toList());
 	}
 
 	Classes and(Classes classes) {
@@ -128,15 +144,24 @@ class Classes implements DescribedIterable<JavaClass> {
 			return this;
 		}
 
-		List<JavaClass> result = new ArrayList<>(classes);
+		var right = others.stream().sorted(BY_NAME).toList();
+		var result = new ArrayList<JavaClass>(classes.size() + right.size());
+		var i = 0;
+		var j = 0;
+
+		// Merge both sorted lists, dropping types with the same name
+		while (i < classes.size() || j < right.size()) {
 
-		others.forEach(it -> {
-			if (!result.contains(it)) {
-				result.add(it);
+			var next = j == right.size() || i < classes.size() && BY_NAME.compare(classes.get(i), right.get(j)) <= 0
+					? classes.get(i++)
+					: right.get(j++);
+
+			if (result.isEmpty() || !result.get(result.size() - 1).getName().equals(next.getName())) {
+				result.add(next);
 			}
-		});
+		}
 
-		return new Classes(result);
+		return new Classes(Collections.unmodifiableList(result));
 	}
 
 	public Stream<JavaClass> stream() {
@@ -144,19 +169,25 @@ class Classes implements DescribedIterable<JavaClass> {
 	}
 
 	boolean isEmpty() {
-		return !classes.iterator().hasNext();
+		return classes.isEmpty();
 	}
 
 	Optional<JavaClass> toOptional() {
-		return isEmpty() ? Optional.empty() : Optional.of(classes.iterator().next());
+		return isEmpty() ? Optional.empty() : Optional.of(classes.get(0));
 	}
 
 	boolean contains(JavaClass type) {
-		return !that(new SameClass(type)).isEmpty();
+
+		Assert.notNull(type, "Type must not be null!");
+
+		return getNames().contains(type.getName());
 	}
 
 	boolean contains(String className) {
-		return !that(HasName.Predicates.name(className)).isEmpty();
+
+		Assert.notNull(className, "Class name must not be null!");
+
+		return getNames().contains(className);
 	}
 
 	JavaClass getRequiredClass(Class<?> type) {
@@ -253,22 +284,19 @@ class Classes implements DescribedIterable<JavaClass> {
 		return format(type, "");
 	}
 
-	private static class SameClass extends DescribedPredicate<JavaClass> {
+	private Set<String> getNames() {
 
-		private final JavaClass reference;
+		var result = names;
 
-		public SameClass(JavaClass reference) {
-			super(" is the same class as ");
-			this.reference = reference;
-		}
+		if (result == null) {
+
+			result = classes.stream() //
+					.map(JavaClass::getName) //
+					.collect(Collectors.toUnmodifiableSet());
 
-		/*
-		 * (non-Javadoc)
-		 * @see java.util.function.Predicate#test(java.lang.Object)
-		 */
-		@Override
-		public boolean test(@Nullable JavaClass input) {
-			return input != null && reference.getName().equals(input.getName());
+			this.names = result;
 		}
+
+		return result;
 	}
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import java.util.function.Function;
+
+import org.springframework.util.Assert;
+
+/**
+ * Utilities to propagate the current thread's context {@link ClassLoader} to the worker threads of parallel streams.
+ * ArchUnit loads classes reflected on (e.g. to read annotation values) via the context {@link ClassLoader}, which
+ * defaults to the system {@link ClassLoader} for the threads of the common fork-join pool. That one does not see the
+ * application's types in environments using a dedicated {@link ClassLoader} like Spring Boot's executable JARs.
+ *
+ * @author Oliver Drotbohm
+ */
+class ContextClassLoaders {
+
+	/**
+	 * Returns a {@link Function} that invokes the given one with the context {@link ClassLoader} of the thread calling
+	 * this method.
+	 *
+	 * @param <T> the input type.
+	 * @param <R> the result type.
+	 * @param function must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static <T, R> Function<T, R> propagating(Function<T, R> function) {
+
+		Assert.notNull(function, "Function must not be null!");
+
+		var classLoader = Thread.currentThread().getContextClassLoader();
+
+		return it -> {
+
+			var thread = Thread.currentThread();
+			var previous = thread.getContextClassLoader();
+
+			if (previous == classLoader) {
+				return function.apply(it);
+			}
+
+			thread.setContextClassLoader(classLoader);
+
+			try {
+				return function.apply(it);
+			} finally {
+				thread.setContextClassLoader(previous);
+			}
+		};
+	}
+}
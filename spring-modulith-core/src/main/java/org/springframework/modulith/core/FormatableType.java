@@ -15,12 +15,11 @@
  */
 package org.springframework.modulith.core;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
+import org.springframework.modulith.core.util.Cache;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
@@ -36,7 +35,7 @@ import com.tngtech.archunit.thirdparty.com.google.common.base.Suppliers;
  */
 public class FormatableType {
 
-	private static final Map<String, FormatableType> CACHE = new ConcurrentHashMap<>();
+	private static final Cache<String, FormatableType> CACHE = Cache.of("formatable-types", 8192);
 
 	private final String type;
 	private final Supplier<String> abbreviatedName;
@@ -66,7 +65,7 @@ public class FormatableType {
 
 		Assert.notNull(type, "JavaClass must not be null!");
 
-		return CACHE.computeIfAbsent(type.getName(), FormatableType::new);
+		return CACHE.get(type.getName(), FormatableType::new);
 	}
 
 	/**
@@ -76,7 +75,7 @@ public class FormatableType {
 	 * @return will never be {@literal null}.
 	 */
 	public static FormatableType of(Class<?> type) {
-		return CACHE.computeIfAbsent(type.getName(), FormatableType::new);
+		return CACHE.get(type.getName(), FormatableType::new);
 	}
 
 	/**
@@ -132,7 +132,7 @@ public abstract class NamedInterface implements Iterable<JavaClass> {
 
 		Assert.notNull(type, "Type must not be null!");
 
-		return !getClasses().that(Predicates.equivalentTo(type)).isEmpty();
+		return getClasses().contains(type.getName());
 	}
 
 	/**
@@ -17,8 +17,10 @@ package org.springframework.modulith.core;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -29,6 +31,8 @@ import org.springframework.util.Assert;
 import org.springframework.util.LinkedMultiValueMap;
 
 import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.thirdparty.com.google.common.base.Supplier;
+import com.tngtech.archunit.thirdparty.com.google.common.base.Suppliers;
 
 /**
  * A collection of {@link NamedInterface}s.
@@ -37,9 +41,12 @@ import com.tngtech.archunit.core.domain.JavaClass;
  */
 public class NamedInterfaces implements Iterable<NamedInterface> {
 
+	private static final String AT_NAMED_INTERFACE = org.springframework.modulith.NamedInterface.class.getName();
+
 	public static final NamedInterfaces NONE = new NamedInterfaces(Collections.emptyList());
 
 	private final List<NamedInterface> namedInterfaces;
+	private final Supplier<Map<String, List<NamedInterface>>> byTypeName;
 
 	/**
 	 * Creates a new {@link NamedInterfaces} for all {@link NamedInterface}s.
@@ -51,18 +58,21 @@ public class NamedInterfaces implements Iterable<NamedInterface> {
 		Assert.notNull(namedInterfaces, "Named interfaces must not be null!");
 
 		this.namedInterfaces = namedInterfaces;
+		this.byTypeName = Suppliers.memoize(() -> indexByTypeName(namedInterfaces));
 	}
 
 	/**
 	 * Discovers all {@link NamedInterfaces} declared for the given {@link JavaPackage}.
 	 *
 	 * @param basePackage must not be {@literal null}.
+	 * @param annotations the {@link AnnotationIndex} covering the types of the given package, must not be
+	 *          {@literal null}.
 	 * @return will never be {@literal null}.
 	 */
-	static NamedInterfaces discoverNamedInterfaces(JavaPackage basePackage) {
+	static NamedInterfaces discoverNamedInterfaces(JavaPackage basePackage, AnnotationIndex annotations) {
 
 		return NamedInterfaces.ofAnnotatedPackages(basePackage) //
-				.and(NamedInterfaces.ofAnnotatedTypes(basePackage)) //
+				.and(NamedInterfaces.ofAnnotatedTypes(basePackage, annotations)) //
 				.and(NamedInterface.unnamed(basePackage));
 	}
 
@@ -123,6 +133,32 @@ public class NamedInterfaces implements Iterable<NamedInterface> {
 		return namedInterfaces.stream().filter(it -> it.getName().equals(name)).findFirst();
 	}
 
+	/**
+	 * Returns whether any of the {@link NamedInterface}s contains the given {@link JavaClass}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	public boolean contains(JavaClass type) {
+
+		Assert.notNull(type, "JavaClass must not be null!");
+
+		return byTypeName.get().containsKey(type.getName());
+	}
+
+	/**
+	 * Returns all {@link NamedInterface}s containing the given {@link JavaClass}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public List<NamedInterface> getNamedInterfacesContaining(JavaClass type) {
+
+		Assert.notNull(type, "JavaClass must not be null!");
+
+		return byTypeName.get().getOrDefault(type.getName(), Collections.emptyList());
+	}
+
 	/**
 	 * Returns the unnamed {@link NamedInterface} of the module.
 	 *
@@ -186,6 +222,32 @@ public class NamedInterfaces implements Iterable<NamedInterface> {
 		return new NamedInterfaces(namedInterfaces);
 	}
 
+	/**
+	 * Indexes the given {@link NamedInterface}s by the names of the types they contain.
+	 *
+	 * @param namedInterfaces must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private static Map<String, List<NamedInterface>> indexByTypeName(List<NamedInterface> namedInterfaces) {
+
+		var result = new HashMap<String, List<NamedInterface>>();
+
+		for (var namedInterface : namedInterfaces) {
+			for (var type : namedInterface) {
+
+				var interfaces = result.computeIfAbsent(type.getName(), __ -> new ArrayList<>(1));
+
+				if (!interfaces.contains(namedInterface)) {
+					interfaces.add(namedInterface);
+				}
+			}
+		}
+
+		result.replaceAll((__, it) -> Collections.unmodifiableList(it));
+
+		return result;
+	}
+
 	private NamedInterfaces and(NamedInterface namedInterface) {
 
 		var result = new ArrayList<NamedInterface>(namedInterfaces.size() + 1);
@@ -195,18 +257,21 @@ public class NamedInterfaces implements Iterable<NamedInterface> {
 		return new NamedInterfaces(result);
 	}
 
-	private static List<TypeBasedNamedInterface> ofAnnotatedTypes(JavaPackage basePackage) {
+	private static List<TypeBasedNamedInterface> ofAnnotatedTypes(JavaPackage basePackage,
+			AnnotationIndex annotations) {
 
 		var mappings = new LinkedMultiValueMap<String, JavaClass>();
+		var annotated = annotations.getTypesAnnotatedWith(AT_NAMED_INTERFACE);
+
+		if (annotated.isEmpty()) {
+			return Collections.emptyList();
+		}
 
 		basePackage.stream() //
+				.filter(annotated::contains) //
 				.filter(it -> !JavaPackage.isPackageInfoType(it)) //
 				.forEach(it -> {
 
-					if (!it.isAnnotatedWith(org.springframework.modulith.NamedInterface.class)) {
-						return;
-					}
-
 					var annotation = AnnotatedElementUtils.getMergedAnnotation(it.reflect(),
 							org.springframework.modulith.NamedInterface.class);
 
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.springframework.modulith.core.Types.JMoleculesTypes;
+import org.springframework.modulith.core.Types.JavaXTypes;
+import org.springframework.modulith.core.Types.SpringDataTypes;
+import org.springframework.modulith.core.Types.SpringTypes;
+import org.springframework.util.Assert;
+
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaMethod;
+
+/**
+ * The stereotypes of all types of an {@link ApplicationModule}, classified in a single pass over the module's types
+ * and kept as bit set per type.
+ *
+ * @author Oliver Drotbohm
+ */
+class StereotypeIndex {
+
+	private static final DescribedPredicate<JavaClass> IMPLEMENTS_EVENT = implement(JMoleculesTypes.DOMAIN_EVENT);
+	private static final DescribedPredicate<JavaClass> IMPLEMENTS_REPOSITORY = implement(SpringDataTypes.REPOSITORY);
+
+	private static final String AT_DOCUMENT = "org.springframework.data.mongodb.core.mapping.Document";
+	private static final String AT_JMOLECULES_ENTITY = "org.jmolecules.ddd.annotation.Entity";
+	private static final String AT_JMOLECULES_VALUE_OBJECT = "org.jmolecules.ddd.annotation.ValueObject";
+
+	private final List<JavaClass> types;
+	private final int[] stereotypes;
+	private final Classes springBeans;
+
+	/**
+	 * Creates a new {@link StereotypeIndex} for the given types, their stereotypes and Spring beans.
+	 *
+	 * @param types must not be {@literal null}.
+	 * @param stereotypes must not be {@literal null}.
+	 * @param springBeans must not be {@literal null}.
+	 */
+	private StereotypeIndex(List<JavaClass> types, int[] stereotypes, Classes springBeans) {
+
+		this.types = types;
+		this.stereotypes = stereotypes;
+		this.springBeans = springBeans;
+	}
+
+	/**
+	 * Classifies all types of the given {@link JavaPackage} looking up their annotations in the given
+	 * {@link AnnotationIndex}.
+	 *
+	 * @param basePackage must not be {@literal null}.
+	 * @param annotations the {@link AnnotationIndex} covering the types of the given package, must not be
+	 *          {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static StereotypeIndex of(JavaPackage basePackage, AnnotationIndex annotations) {
+
+		Assert.notNull(basePackage, "Base package must not be null!");
+		Assert.notNull(annotations, "AnnotationIndex must not be null!");
+
+		var types = basePackage.stream().toList();
+		var stereotypes = new int[types.size()];
+		var indexes = new HashMap<String, Integer>(types.size());
+		var beanMethodTypes = new ArrayList<JavaClass>();
+
+		var jMoleculesPresent = JMoleculesTypes.isPresent();
+		var springDataPresent = SpringDataTypes.isPresent();
+
+		for (int i = 0; i < types.size(); i++) {
+
+			var type = types.get(i);
+			var bits = 0;
+
+			indexes.put(type.getName(), i);
+
+			if (!type.isInterface() && annotations.isAnnotated(type, SpringTypes.AT_COMPONENT)) {
+				bits |= Stereotype.SPRING_BEAN.bit;
+			}
+
+			if (IMPLEMENTS_REPOSITORY.test(type) || annotations.isAnnotated(type, SpringDataTypes.AT_REPOSITORY_DEFINITION)) {
+				bits |= Stereotype.SPRING_BEAN.bit | Stereotype.REPOSITORY.bit;
+			}
+
+			if (annotations.isAnnotated(type, SpringTypes.AT_CONFIGURATION_PROPERTIES)) {
+				bits |= Stereotype.SPRING_BEAN.bit | Stereotype.CONFIGURATION_PROPERTIES.bit;
+			}
+
+			if (isEntity(type, annotations, jMoleculesPresent, springDataPresent)) {
+				bits |= Stereotype.ENTITY.bit;
+			}
+
+			if (jMoleculesPresent && isValueObject(type, annotations)) {
+				bits |= Stereotype.VALUE_OBJECT.bit;
+			}
+
+			if (IMPLEMENTS_EVENT.test(type) || annotations.isAnnotated(type, JMoleculesTypes.AT_DOMAIN_EVENT)) {
+				bits |= Stereotype.EVENT.bit;
+			}
+
+			stereotypes[i] = bits;
+		}
+
+		var beanMethods = annotations.getMethodsAnnotatedWith(SpringTypes.AT_BEAN);
+
+		if (!beanMethods.isEmpty()) {
+
+			types.stream() //
+					.filter(it -> annotations.isAnnotated(it, SpringTypes.AT_CONFIGURATION)) //
+					.flatMap(it -> it.getMethods().stream()) //
+					.filter(beanMethods::contains) //
+					.map(JavaMethod::getRawReturnType) //
+					.forEach(beanMethodTypes::add);
+		}
+
+		// Types returned from @Bean methods might reside outside the module
+		var externalBeanTypes = new ArrayList<JavaClass>();
+
+		for (var beanType : beanMethodTypes) {
+
+			var index = indexes.get(beanType.getName());
+
+			if (index == null) {
+				externalBeanTypes.add(beanType);
+			} else {
+				stereotypes[index] |= Stereotype.SPRING_BEAN.bit;
+			}
+		}
+
+		var springBeans = Classes.of(filter(types, stereotypes, Stereotype.SPRING_BEAN)).and(externalBeanTypes);
+
+		// Aggregate roots are entities and require the Spring beans to detect Spring Data repositories
+		for (int i = 0; i < types.size(); i++) {
+
+			if ((stereotypes[i] & Stereotype.ENTITY.bit) != 0
+					&& ArchitecturallyEvidentType.of(types.get(i), springBeans).isAggregateRoot()) {
+				stereotypes[i] |= Stereotype.AGGREGATE_ROOT.bit;
+			}
+		}
+
+		return new StereotypeIndex(types, stereotypes, springBeans);
+	}
+
+	/**
+	 * Returns all Spring beans declared in the module, including the ones declared via {@code @Bean} methods of types
+	 * residing in other packages.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	Classes getSpringBeans() {
+		return springBeans;
+	}
+
+	/**
+	 * Returns all types of the module with the given {@link Stereotype}.
+	 *
+	 * @param stereotype must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	List<JavaClass> getTypes(Stereotype stereotype) {
+
+		Assert.notNull(stereotype, "Stereotype must not be null!");
+
+		return filter(types, stereotypes, stereotype);
+	}
+
+	private static List<JavaClass> filter(List<JavaClass> types, int[] stereotypes, Stereotype stereotype) {
+
+		return IntStream.range(0, types.size()) //
+				.filter(it -> (stereotypes[it] & stereotype.bit) != 0) //
+				.mapToObj(types::get) //
+				.toList();
+	}
+
+	private static boolean isEntity(JavaClass type, AnnotationIndex annotations, boolean jMoleculesPresent,
+			boolean springDataPresent) {
+
+		if (annotations.isAnnotated(type, JavaXTypes.AT_ENTITY)) {
+			return true;
+		}
+
+		if (springDataPresent && annotations.isAnnotated(type, AT_DOCUMENT)) {
+			return true;
+		}
+
+		return jMoleculesPresent && (annotations.isAnnotated(type, AT_JMOLECULES_ENTITY)
+				|| type.isAssignableTo(org.jmolecules.ddd.types.Entity.class));
+	}
+
+	private static boolean isValueObject(JavaClass type, AnnotationIndex annotations) {
+
+		return annotations.isAnnotated(type, AT_JMOLECULES_VALUE_OBJECT)
+				|| type.isAssignableTo(org.jmolecules.ddd.types.ValueObject.class);
+	}
+
+	/**
+	 * The stereotypes tracked for the types of an {@link ApplicationModule}.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	enum Stereotype {
+
+		SPRING_BEAN, REPOSITORY, CONFIGURATION_PROPERTIES, ENTITY, AGGREGATE_ROOT, VALUE_OBJECT, EVENT;
+
+		private final int bit = 1 << ordinal();
+	}
+}
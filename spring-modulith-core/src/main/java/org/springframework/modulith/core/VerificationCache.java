@@ -0,0 +1,426 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.lang.Nullable;
+import org.springframework.modulith.core.Types.JMoleculesTypes;
+import org.springframework.util.Assert;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.Source;
+
+/**
+ * Keeps track of successful verifications of {@link ApplicationModules} on disk, so that subsequent verifications of
+ * an unchanged code base, e.g. in a different test JVM, can be skipped. A verification is identified by a fingerprint
+ * of the analyzed types and the size and last modification date of the class files or JARs they were loaded from.
+ * Failed verifications are never recorded.
+ * <p>
+ * The record of a verification also contains a fingerprint per application module and the modules it depends on, so
+ * that a verification of a changed code base only needs to verify the dependencies of the modules affected by the
+ * change.
+ * <p>
+ * The cache is disabled by default and can be enabled by setting the {@value #ENABLED_PROPERTY} system property to
+ * {@literal true}. It is then stored in {@code target/spring-modulith} unless a different directory is configured
+ * using the {@value #DIRECTORY_PROPERTY} system property. Entries are written to a temporary file first and then
+ * moved into place atomically, so that concurrent JVMs never read a partially written entry.
+ *
+ * @author Oliver Drotbohm
+ */
+class VerificationCache {
+
+	static final String ENABLED_PROPERTY = "spring.modulith.verification-cache.enabled";
+	static final String DIRECTORY_PROPERTY = "spring.modulith.verification-cache.directory";
+
+	private static final Path DEFAULT_DIRECTORY = Path.of("target", "spring-modulith");
+	private static final HexFormat HEX = HexFormat.of();
+
+	private final @Nullable Path directory;
+
+	/**
+	 * Creates a new {@link VerificationCache} storing its entries in the given directory.
+	 *
+	 * @param directory can be {@literal null} to disable the cache.
+	 */
+	VerificationCache(@Nullable Path directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * Creates a new {@link VerificationCache} configured via system properties.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	static VerificationCache fromSystemProperties() {
+
+		if (!Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "false"))) {
+			return new VerificationCache(null);
+		}
+
+		var directory = System.getProperty(DIRECTORY_PROPERTY);
+
+		return new VerificationCache(directory == null ? DEFAULT_DIRECTORY : Path.of(directory));
+	}
+
+	/**
+	 * Returns whether the cache is enabled. If not, callers should not bother calculating fingerprints.
+	 *
+	 * @return
+	 */
+	boolean isEnabled() {
+		return directory != null;
+	}
+
+	/**
+	 * Returns the {@link Verification} previously recorded for the given key.
+	 *
+	 * @param key must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	Optional<Verification> get(String key) {
+
+		Assert.hasText(key, "Key must not be null or empty!");
+
+		if (directory == null) {
+			return Optional.empty();
+		}
+
+		var file = getFile(key);
+
+		if (!Files.isRegularFile(file)) {
+			return Optional.empty();
+		}
+
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+
+			var properties = new Properties();
+			properties.load(reader);
+
+			return Optional.of(Verification.of(properties));
+
+		} catch (IOException | IllegalArgumentException o_O) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Records the given successful {@link Verification} for the given key.
+	 *
+	 * @param key must not be {@literal null} or empty.
+	 * @param verification must not be {@literal null}.
+	 */
+	void put(String key, Verification verification) {
+
+		Assert.hasText(key, "Key must not be null or empty!");
+		Assert.notNull(verification, "Verification must not be null!");
+
+		if (directory == null) {
+			return;
+		}
+
+		Path temporary = null;
+
+		try {
+
+			Files.createDirectories(directory);
+
+			temporary = Files.createTempFile(directory, "verified-", ".tmp");
+
+			try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+				verification.toProperties().store(writer, null);
+			}
+
+			Files.move(temporary, getFile(key), StandardCopyOption.ATOMIC_MOVE);
+
+		} catch (IOException o_O) {
+
+			// Cache is best effort only
+			deleteQuietly(temporary);
+		}
+	}
+
+	private static void deleteQuietly(@Nullable Path path) {
+
+		if (path == null) {
+			return;
+		}
+
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException o_O) {
+			// Ignore
+		}
+	}
+
+	private Path getFile(String key) {
+		return directory.resolve("verified-" + HEX.formatHex(digest().digest(key.getBytes(StandardCharsets.UTF_8))));
+	}
+
+	/**
+	 * Calculates a fingerprint of the given {@link JavaClass}es considering the type names and the size and last
+	 * modification date of the resources they were loaded from.
+	 *
+	 * @param classes must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static String fingerprint(Stream<JavaClass> classes) {
+		return fingerprint(Stream.empty(), classes);
+	}
+
+	/**
+	 * Calculates a fingerprint of the given {@link ModulithMetadata} and {@link JavaClass}es, usually the ones not
+	 * contained in any application module. Changes to those potentially affect the verification of all modules.
+	 *
+	 * @param metadata must not be {@literal null}.
+	 * @param classes must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static String fingerprint(ModulithMetadata metadata, Stream<JavaClass> classes) {
+
+		Assert.notNull(metadata, "ModulithMetadata must not be null!");
+
+		var values = Stream.of(metadata.getSystemName().orElse(""), //
+				String.valueOf(metadata.useFullyQualifiedModuleNames()), //
+				String.join(",", metadata.getAdditionalPackages()), //
+				metadata.getSharedModuleNames().sorted().collect(Collectors.joining(",")));
+
+		return fingerprint(values, classes);
+	}
+
+	private static String fingerprint(Stream<String> values, Stream<JavaClass> classes) {
+
+		var digest = digest();
+		var stamps = new HashMap<Path, String>();
+
+		update(digest, String.valueOf(ApplicationModules.class.getPackage().getImplementationVersion()));
+		update(digest, String.valueOf(JMoleculesTypes.areRulesPresent()));
+
+		values.forEach(it -> update(digest, it));
+
+		classes.sorted(Comparator.comparing(JavaClass::getName)) //
+				.forEach(it -> {
+					update(digest, it.getName());
+					update(digest, it.getSource().map(Source::getUri).map(uri -> stamp(uri, stamps)).orElse("?"));
+				});
+
+		return HEX.formatHex(digest.digest());
+	}
+
+	private static String stamp(URI uri, Map<Path, String> stamps) {
+
+		var path = toPath(uri);
+
+		if (path == null) {
+			return uri.toString();
+		}
+
+		return stamps.computeIfAbsent(path, it -> {
+
+			try {
+				return Files.size(it) + ":" + Files.getLastModifiedTime(it).toMillis();
+			} catch (IOException o_O) {
+				return "?";
+			}
+		});
+	}
+
+	/**
+	 * Returns the {@link Path} of the class file or the JAR containing it for the given {@link URI}.
+	 *
+	 * @param uri must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	@Nullable
+	private static Path toPath(URI uri) {
+
+		var scheme = uri.getScheme();
+
+		if ("file".equals(scheme)) {
+			return Path.of(uri);
+		}
+
+		if ("jar".equals(scheme)) {
+
+			var specific = uri.getSchemeSpecificPart();
+			var separator = specific.indexOf("!/");
+
+			return separator == -1 ? null : toPath(URI.create(specific.substring(0, separator)));
+		}
+
+		return null;
+	}
+
+	private static void update(MessageDigest digest, String value) {
+
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	private static MessageDigest digest() {
+
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	/**
+	 * A successful verification of {@link ApplicationModules}.
+	 *
+	 * @param fingerprint the fingerprint of all types verified, must not be {@literal null}.
+	 * @param globalFingerprint the fingerprint of the types outside of application modules and the
+	 *          {@link ModulithMetadata}, must not be {@literal null}.
+	 * @param modules the {@link ModuleVerification}s by module name, must not be {@literal null}.
+	 * @author Oliver Drotbohm
+	 */
+	record Verification(String fingerprint, String globalFingerprint, Map<String, ModuleVerification> modules) {
+
+		private static final String FINGERPRINT = "fingerprint";
+		private static final String GLOBAL_FINGERPRINT = "global.fingerprint";
+		private static final String MODULE_PREFIX = "module.";
+		private static final String FINGERPRINT_SUFFIX = ".fingerprint";
+		private static final String DEPENDENCIES_SUFFIX = ".dependencies";
+
+		Verification {
+
+			Assert.notNull(fingerprint, "Fingerprint must not be null!");
+			Assert.notNull(globalFingerprint, "Global fingerprint must not be null!");
+			Assert.notNull(modules, "Module verifications must not be null!");
+		}
+
+		/**
+		 * Returns whether the verification covers the types with the given fingerprint.
+		 *
+		 * @param fingerprint must not be {@literal null}.
+		 * @return
+		 */
+		boolean isFor(String fingerprint) {
+			return this.fingerprint.equals(fingerprint);
+		}
+
+		/**
+		 * Returns the names of the modules whose dependencies need to be verified again given the current global and module
+		 * fingerprints. That includes all modules that changed and all modules depending on them. If the set of modules,
+		 * the types outside of them or the {@link ModulithMetadata} changed, all modules need to be verified again.
+		 *
+		 * @param globalFingerprint the current fingerprint of the types outside of modules and the metadata, must not be
+		 *          {@literal null}.
+		 * @param fingerprints the current fingerprints by module name, must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		Set<String> getModulesToVerify(String globalFingerprint, Map<String, String> fingerprints) {
+
+			Assert.notNull(globalFingerprint, "Global fingerprint must not be null!");
+			Assert.notNull(fingerprints, "Fingerprints must not be null!");
+
+			if (!this.globalFingerprint.equals(globalFingerprint) || !modules.keySet().equals(fingerprints.keySet())) {
+				return fingerprints.keySet();
+			}
+
+			var changed = fingerprints.entrySet().stream() //
+					.filter(it -> !modules.get(it.getKey()).fingerprint().equals(it.getValue())) //
+					.map(Map.Entry::getKey) //
+					.collect(Collectors.toSet());
+
+			var result = new HashSet<>(changed);
+
+			modules.forEach((name, module) -> {
+				if (module.dependencies().stream().anyMatch(changed::contains)) {
+					result.add(name);
+				}
+			});
+
+			return result;
+		}
+
+		private static Verification of(Properties properties) {
+
+			var fingerprint = properties.getProperty(FINGERPRINT);
+
+			Assert.notNull(fingerprint, "No fingerprint found!");
+
+			var modules = properties.stringPropertyNames().stream() //
+					.filter(it -> it.startsWith(MODULE_PREFIX) && it.endsWith(FINGERPRINT_SUFFIX)) //
+					.map(it -> it.substring(MODULE_PREFIX.length(), it.length() - FINGERPRINT_SUFFIX.length())) //
+					.collect(Collectors.toMap(it -> it, it -> {
+
+						var dependencies = properties.getProperty(MODULE_PREFIX + it + DEPENDENCIES_SUFFIX, "");
+
+						return new ModuleVerification(properties.getProperty(MODULE_PREFIX + it + FINGERPRINT_SUFFIX),
+								dependencies.isEmpty() ? Set.of() : Set.of(dependencies.split(",")));
+					}));
+
+			// Records written by previous versions lack the global fingerprint and thus never match
+			return new Verification(fingerprint, properties.getProperty(GLOBAL_FINGERPRINT, ""), modules);
+		}
+
+		private Properties toProperties() {
+
+			var properties = new Properties();
+
+			properties.setProperty(FINGERPRINT, fingerprint);
+			properties.setProperty(GLOBAL_FINGERPRINT, globalFingerprint);
+
+			new TreeMap<>(modules).forEach((name, module) -> {
+
+				properties.setProperty(MODULE_PREFIX + name + FINGERPRINT_SUFFIX, module.fingerprint());
+				properties.setProperty(MODULE_PREFIX + name + DEPENDENCIES_SUFFIX,
+						module.dependencies().stream().sorted().collect(Collectors.joining(",")));
+			});
+
+			return properties;
+		}
+	}
+
+	/**
+	 * The successful verification of a single application module.
+	 *
+	 * @param fingerprint the fingerprint of the module's types, must not be {@literal null}.
+	 * @param dependencies the names of the modules the module depends on, must not be {@literal null}.
+	 * @author Oliver Drotbohm
+	 */
+	record ModuleVerification(String fingerprint, Collection<String> dependencies) {
+
+		ModuleVerification {
+
+			Assert.notNull(fingerprint, "Fingerprint must not be null!");
+			Assert.notNull(dependencies, "Dependencies must not be null!");
+		}
+	}
+}
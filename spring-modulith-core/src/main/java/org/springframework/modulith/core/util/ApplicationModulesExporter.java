@@ -17,13 +17,21 @@ package org.springframework.modulith.core.util;
 
 import static java.util.stream.Collectors.*;
 
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 import org.springframework.modulith.core.ApplicationModule;
 import org.springframework.modulith.core.ApplicationModuleDependency;
@@ -32,7 +40,8 @@ import org.springframework.modulith.core.DependencyType;
 import org.springframework.util.Assert;
 
 /**
- * Export the structure of {@link ApplicationModules} as JSON.
+ * Export the structure of {@link ApplicationModules} as JSON. The JSON is streamed to the target as it is rendered from
+ * the module model, so that no intermediate representation of the entire structure is held in memory.
  *
  * @author Oliver Drotbohm
  */
@@ -49,7 +58,8 @@ public class ApplicationModulesExporter {
 
 	private static final Collector<ApplicationModuleDependency, ?, Set<DependencyType>> MAPPER = mapping(
 			ApplicationModuleDependency::getDependencyType,
-			collectingAndThen(toSet(), REMOVE_DEFAULT_DEPENDENCY_TYPE_IF_OTHERS_PRESENT));
+			collectingAndThen(toCollection(() -> EnumSet.noneOf(DependencyType.class)),
+					REMOVE_DEFAULT_DEPENDENCY_TYPE_IF_OTHERS_PRESENT));
 
 	private final ApplicationModules modules;
 
@@ -77,7 +87,9 @@ public class ApplicationModulesExporter {
 		Assert.notNull(args, "Arguments must not be null!");
 		Assert.isTrue(args.length == 1, "A java package name is required as only argument!");
 
-		System.out.println(new ApplicationModulesExporter(ApplicationModules.of(args[0])).toJson());
+		new ApplicationModulesExporter(ApplicationModules.of(args[0])).writeTo(System.out);
+
+		System.out.println();
 	}
 
 	/**
@@ -86,35 +98,95 @@ public class ApplicationModulesExporter {
 	 * @return will never be {@literal null}.
 	 */
 	public String toJson() {
-		return Json.toString(toMap());
+
+		var writer = new StringWriter();
+
+		writeTo(writer);
+
+		return writer.toString();
 	}
 
-	private Map<String, Object> toMap() {
+	/**
+	 * Returns the {@link ApplicationModules} structure as gzip-compressed, UTF-8 encoded JSON, e.g. to be served to
+	 * clients accepting that content encoding.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public byte[] toGzippedJson() {
+
+		var bytes = new ByteArrayOutputStream();
 
-		return modules.stream()
-				.collect(
-						Collectors.toMap(ApplicationModule::getName, it -> toInfo(it, modules), (l, r) -> r, LinkedHashMap::new));
+		try (var stream = new GZIPOutputStream(bytes)) {
+			writeTo(stream);
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+
+		return bytes.toByteArray();
 	}
 
-	private static Map<String, Object> toInfo(ApplicationModule module, ApplicationModules modules) {
-
-		return Map.of( //
-				"displayName", module.getDisplayName(), //
-				"basePackage", module.getBasePackage().getName(), //
-				"dependencies", module.getDependencies(modules).stream() //
-						.collect(Collectors.groupingBy(ApplicationModuleDependency::getTargetModule, MAPPER))
-						.entrySet() //
-						.stream() //
-						.map(ApplicationModulesExporter::toInfo) //
-						.toList() //
-		);
+	/**
+	 * Writes the {@link ApplicationModules} structure as UTF-8 encoded JSON to the given {@link OutputStream}. The stream
+	 * is flushed but not closed.
+	 *
+	 * @param stream must not be {@literal null}.
+	 */
+	public void writeTo(OutputStream stream) {
+
+		Assert.notNull(stream, "OutputStream must not be null!");
+
+		writeTo(new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8)));
 	}
 
-	private static Map<String, Object> toInfo(Entry<ApplicationModule, ? extends Set<DependencyType>> types) {
+	/**
+	 * Writes the {@link ApplicationModules} structure as JSON to the given {@link Writer}. The {@link Writer} is flushed
+	 * but not closed.
+	 *
+	 * @param writer must not be {@literal null}.
+	 */
+	public void writeTo(Writer writer) {
+
+		Assert.notNull(writer, "Writer must not be null!");
+
+		try {
+
+			var json = new JsonWriter(writer).beginObject();
+
+			for (var module : modules) {
+				writeModule(json.name(module.getName()), module);
+			}
+
+			json.endObject();
+			writer.flush();
+
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+	}
+
+	private void writeModule(JsonWriter json, ApplicationModule module) throws IOException {
+
+		json.beginObject() //
+				.name("displayName").value(module.getDisplayName()) //
+				.name("basePackage").value(module.getBasePackage().getName()) //
+				.name("dependencies").beginArray();
+
+		var dependencies = module.getDependencies(modules).stream() //
+				.collect(groupingBy(ApplicationModuleDependency::getTargetModule, LinkedHashMap::new, MAPPER));
+
+		for (var entry : dependencies.entrySet()) {
+
+			json.beginObject() //
+					.name("target").value(entry.getKey().getName()) //
+					.name("types").beginArray();
+
+			for (var type : entry.getValue()) {
+				json.value(type.name());
+			}
+
+			json.endArray().endObject();
+		}
 
-		return Map.of( //
-				"target", types.getKey().getName(), //
-				"types", types.getValue() //
-		);
+		json.endArray().endObject();
 	}
 }
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core.util;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A thread-safe cache evicting the least recently used entry once a maximum size is exceeded. Values are computed at
+ * most once per key, even if requested concurrently, without blocking lookups of other keys. All caches keep track of
+ * hits, misses and evictions, exposed via {@link #getStatistics()}.
+ *
+ * @author Oliver Drotbohm
+ */
+public class Cache<K, V> {
+
+	private static final List<Cache<?, ?>> CACHES = new CopyOnWriteArrayList<>();
+
+	private final String name;
+	private final Map<K, Value> values;
+	private final AtomicLong hits, misses, evictions;
+
+	/**
+	 * Creates a new {@link Cache} with the given name and maximum size.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param maximumSize must be greater than zero.
+	 */
+	private Cache(String name, int maximumSize) {
+
+		Assert.hasText(name, "Name must not be null or empty!");
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero!");
+
+		this.name = name;
+		this.hits = new AtomicLong();
+		this.misses = new AtomicLong();
+		this.evictions = new AtomicLong();
+		this.values = new LinkedHashMap<>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1179539592233627457L;
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+			 */
+			@Override
+			protected boolean removeEldestEntry(Entry<K, Value> eldest) {
+
+				if (size() <= maximumSize) {
+					return false;
+				}
+
+				evictions.incrementAndGet();
+
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * Creates a new {@link Cache} with the given name and maximum size and registers it for
+	 * {@link #getStatistics() statistics}.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param maximumSize must be greater than zero.
+	 * @return will never be {@literal null}.
+	 */
+	public static <K, V> Cache<K, V> of(String name, int maximumSize) {
+
+		var cache = new Cache<K, V>(name, maximumSize);
+
+		CACHES.add(cache);
+
+		return cache;
+	}
+
+	/**
+	 * Returns the {@link Statistics} of all {@link Cache}s by name.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public static Map<String, Statistics> getStatistics() {
+
+		return CACHES.stream() //
+				.collect(Collectors.toMap(it -> it.name, Cache::getStatisticsInternal, (l, r) -> r, LinkedHashMap::new));
+	}
+
+	/**
+	 * Returns the value for the given key, computing it using the given factory if not present yet.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param factory must not be {@literal null}.
+	 * @return
+	 */
+	public V get(K key, Function<? super K, ? extends V> factory) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(factory, "Factory must not be null!");
+
+		Value value;
+
+		synchronized (values) {
+			value = values.computeIfAbsent(key, __ -> new Value());
+		}
+
+		try {
+			return value.get(() -> factory.apply(key));
+		} catch (RuntimeException o_O) {
+
+			synchronized (values) {
+				values.remove(key, value);
+			}
+
+			throw o_O;
+		}
+	}
+
+	/**
+	 * Removes all entries from the cache.
+	 */
+	public void clear() {
+
+		synchronized (values) {
+			values.clear();
+		}
+	}
+
+	private Statistics getStatisticsInternal() {
+
+		int size;
+
+		synchronized (values) {
+			size = values.size();
+		}
+
+		return new Statistics(hits.get(), misses.get(), evictions.get(), size);
+	}
+
+	/**
+	 * Hit, miss and eviction counts as well as the current size of a {@link Cache}.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	public record Statistics(long hits, long misses, long evictions, int size) {}
+
+	/**
+	 * A value computed at most once. Concurrent requests for a value not computed yet wait for the computation to
+	 * complete.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private class Value {
+
+		private volatile @Nullable V value;
+
+		V get(Supplier<? extends V> supplier) {
+
+			var result = value;
+
+			if (result != null) {
+				hits.incrementAndGet();
+				return result;
+			}
+
+			synchronized (this) {
+
+				result = value;
+
+				if (result != null) {
+					hits.incrementAndGet();
+					return result;
+				}
+
+				misses.incrementAndGet();
+
+				result = supplier.get();
+
+				Assert.state(result != null, "Cached value must not be null!");
+
+				this.value = result;
+
+				return result;
+			}
+		}
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.springframework.util.Assert;
+
+/**
+ * Minimal streaming JSON writer, writing objects, arrays and {@link String} values to a {@link Writer} as they are
+ * handed to it, i.e. without building up any intermediate structures.
+ *
+ * @author Oliver Drotbohm
+ */
+class JsonWriter {
+
+	private final Writer writer;
+
+	/**
+	 * Whether the currently open objects and arrays are still empty, innermost one first.
+	 */
+	private final Deque<Boolean> empty;
+	private boolean afterName;
+
+	/**
+	 * Creates a new {@link JsonWriter} for the given {@link Writer}.
+	 *
+	 * @param writer must not be {@literal null}.
+	 */
+	JsonWriter(Writer writer) {
+
+		Assert.notNull(writer, "Writer must not be null!");
+
+		this.writer = writer;
+		this.empty = new ArrayDeque<>();
+	}
+
+	JsonWriter beginObject() throws IOException {
+		return begin('{');
+	}
+
+	JsonWriter endObject() throws IOException {
+		return end('}');
+	}
+
+	JsonWriter beginArray() throws IOException {
+		return begin('[');
+	}
+
+	JsonWriter endArray() throws IOException {
+		return end(']');
+	}
+
+	/**
+	 * Writes the name of the next field of the current object.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @return the current instance.
+	 * @throws IOException
+	 */
+	JsonWriter name(String name) throws IOException {
+
+		separate();
+		quote(name);
+		writer.write(" : ");
+
+		this.afterName = true;
+
+		return this;
+	}
+
+	/**
+	 * Writes the given {@link String} value.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return the current instance.
+	 * @throws IOException
+	 */
+	JsonWriter value(String value) throws IOException {
+
+		separate();
+		quote(value);
+
+		return this;
+	}
+
+	private JsonWriter begin(char character) throws IOException {
+
+		separate();
+		writer.write(character);
+		empty.push(true);
+
+		return this;
+	}
+
+	private JsonWriter end(char character) throws IOException {
+
+		Assert.state(!empty.isEmpty(), "No object or array to close!");
+
+		writer.write(empty.pop() ? "" : " ");
+		writer.write(character);
+
+		return this;
+	}
+
+	private void separate() throws IOException {
+
+		if (afterName) {
+			afterName = false;
+			return;
+		}
+
+		if (empty.isEmpty()) {
+			return;
+		}
+
+		writer.write(empty.pop() ? " " : ", ");
+		empty.push(false);
+	}
+
+	private void quote(String value) throws IOException {
+
+		writer.write('"');
+
+		for (int i = 0; i < value.length(); i++) {
+
+			var character = value.charAt(i);
+
+			switch (character) {
+				case '"' -> writer.write("\\\"");
+				case '\\' -> writer.write("\\\\");
+				case '\n' -> writer.write("\\n");
+				case '\r' -> writer.write("\\r");
+				case '\t' -> writer.write("\\t");
+				default -> {
+					if (character < 0x20) {
+						writer.write("\\u%04x".formatted((int) character));
+					} else {
+						writer.write(character);
+					}
+				}
+			}
+		}
+
+		writer.write('"');
+	}
+}
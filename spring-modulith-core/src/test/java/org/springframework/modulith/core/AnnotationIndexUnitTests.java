@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.modulith.core.Types.SpringTypes;
+
+import com.acme.withatbean.SampleAggregate;
+import com.acme.withatbean.SampleConfiguration;
+import com.acme.withatbean.TestEvents;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+
+/**
+ * Unit tests for {@link AnnotationIndex}.
+ *
+ * @author Oliver Drotbohm
+ */
+class AnnotationIndexUnitTests {
+
+	JavaClasses imported = new ClassFileImporter()
+			.importClasses(SampleAggregate.class, SampleConfiguration.class, TestEvents.class);
+
+	AnnotationIndex index = AnnotationIndex.of(imported);
+
+	@Test
+	void indexesDirectlyAnnotatedTypes() {
+
+		assertThat(index.getTypesAnnotatedWith(SpringTypes.AT_CONFIGURATION))
+				.containsExactly(imported.get(SampleConfiguration.class));
+		assertThat(index.isAnnotated(imported.get(SampleAggregate.class), "org.jmolecules.ddd.annotation.AggregateRoot"))
+				.isTrue();
+	}
+
+	@Test
+	void indexesMetaAnnotatedTypes() {
+
+		var configuration = imported.get(SampleConfiguration.class);
+
+		assertThat(index.isAnnotated(configuration, SpringTypes.AT_COMPONENT)).isTrue();
+		assertThat(index.isAnnotated(imported.get(TestEvents.class), SpringTypes.AT_COMPONENT)).isFalse();
+	}
+
+	@Test
+	void indexesAnnotatedMethods() {
+
+		assertThat(index.getMethodsAnnotatedWith(SpringTypes.AT_BEAN))
+				.extracting(it -> it.getName())
+				.containsExactly("dataSource");
+	}
+
+	@Test
+	void returnsEmptySetForUnknownAnnotation() {
+
+		assertThat(index.getTypesAnnotatedWith("com.acme.Unknown")).isEmpty();
+		assertThat(index.getFieldsAnnotatedWith(SpringTypes.AT_AUTOWIRED)).isEmpty();
+	}
+}
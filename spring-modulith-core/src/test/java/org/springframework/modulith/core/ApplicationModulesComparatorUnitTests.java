@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.acme.ordering.upstream.UpstreamComponent;
+import com.acme.ordering.upstream.PrioritizedUpstreamComponent;
+import com.acme.ordering.downstream.DownstreamComponent;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+
+/**
+ * Unit tests for {@link ApplicationModules#getComparator()}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ApplicationModulesComparatorUnitTests {
+
+	static final String BASE_PACKAGE = "com.acme.ordering";
+
+	// Test sources are not imported by default
+	static final ApplicationModules MODULES = new ApplicationModules(ModulithMetadata.of(BASE_PACKAGE),
+			List.of(BASE_PACKAGE), DescribedPredicate.<JavaClass> alwaysFalse(), false, location -> true);
+
+	Comparator<Object> comparator = MODULES.getComparator();
+
+	@Test
+	void ordersTypesByTopologicalRankOfTheirModules() {
+
+		assertThat(sort(DownstreamComponent.class, UpstreamComponent.class)) //
+				.containsExactly(UpstreamComponent.class, DownstreamComponent.class);
+	}
+
+	@Test
+	void ordersTypesOutsideOfModulesLast() {
+
+		assertThat(sort(String.class, DownstreamComponent.class, UpstreamComponent.class)) //
+				.containsExactly(UpstreamComponent.class, DownstreamComponent.class, String.class);
+
+		assertThat(comparator.compare(String.class, UpstreamComponent.class)).isPositive();
+		assertThat(comparator.compare(UpstreamComponent.class, String.class)).isNegative();
+		assertThat(comparator.compare(null, UpstreamComponent.class)).isPositive();
+		assertThat(comparator.compare(UpstreamComponent.class, null)).isNegative();
+	}
+
+	@Test
+	void ranksInstancesByTheirType() {
+
+		var upstream = new UpstreamComponent();
+		var downstream = new DownstreamComponent();
+
+		assertThat(sort(downstream, UpstreamComponent.class)).containsExactly(UpstreamComponent.class, downstream);
+		assertThat(sort(DownstreamComponent.class, upstream)).containsExactly(upstream, DownstreamComponent.class);
+		assertThat(sort("outside", downstream, upstream)).containsExactly(upstream, downstream, "outside");
+	}
+
+	@Test
+	void ordersTypesOfTheSameModuleByOrderAnnotation() {
+
+		assertThat(sort(UpstreamComponent.class, PrioritizedUpstreamComponent.class)) //
+				.containsExactly(PrioritizedUpstreamComponent.class, UpstreamComponent.class);
+
+		var upstream = new UpstreamComponent();
+		var prioritized = new PrioritizedUpstreamComponent();
+
+		assertThat(sort(DownstreamComponent.class, upstream, prioritized)) //
+				.containsExactly(prioritized, upstream, DownstreamComponent.class);
+	}
+
+	private List<Object> sort(Object... objects) {
+
+		var result = new ArrayList<>(List.of(objects));
+
+		result.sort(comparator);
+
+		return result;
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.jmolecules.event.annotation.DomainEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.modulith.synthetic.SyntheticCodebase;
+
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.importer.ImportOption;
+
+/**
+ * Scalability regression tests for {@link ApplicationModules} analyzing a {@link SyntheticCodebase}. The time limits
+ * are generous and only supposed to catch algorithmic regressions, benchmarks live in {@code spring-modulith-benchmarks}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ApplicationModulesScalabilityTests {
+
+	static final SyntheticCodebase CODEBASE = SyntheticCodebase.of(100, 20, 3) //
+			.withNamedInterfaces(2) //
+			.withEvents(2) //
+			.withListeners(2);
+
+	@TempDir Path directory;
+
+	@Test
+	void generatesConfiguredTopology() {
+
+		var classes = CODEBASE.toJavaClasses();
+
+		assertThat(classes.stream().filter(it -> !it.getSimpleName().equals("package-info")))
+				.hasSize(CODEBASE.getNumberOfTypes());
+		assertThat(classes.stream().filter(it -> it.isAnnotatedWith(DomainEvent.class)))
+				.hasSize(CODEBASE.getNumberOfModules() * 2);
+	}
+
+	@Test
+	void analyzesAndVerifiesLargeCodebase() {
+
+		var modules = assertTimeout(Duration.ofSeconds(60), () -> analyze(CODEBASE));
+
+		assertThat(modules.stream()).hasSize(CODEBASE.getNumberOfModules());
+		assertThat(modules.stream()).allSatisfy(it -> {
+			assertThat(it.getNamedInterfaces().stream()).hasSize(3);
+			assertThat(it.getPublishedEvents()).hasSize(2);
+		});
+
+		assertTimeout(Duration.ofSeconds(60), () -> {
+
+			assertThatNoException().isThrownBy(modules::verify);
+
+			assertThat(CODEBASE.getTypeNames()).allSatisfy(it -> assertThat(modules.getModuleByType(it)).isPresent());
+
+			var expected = CODEBASE.getModuleDependencies();
+
+			assertThat(modules.stream()).allSatisfy(it -> {
+				assertThat(it.getDependencies(modules).stream() //
+						.map(ApplicationModuleDependency::getTargetModule) //
+						.map(ApplicationModule::getName) //
+						.distinct()) //
+						.containsExactlyInAnyOrderElementsOf(expected.get(it.getName()));
+			});
+		});
+	}
+
+	private ApplicationModules analyze(SyntheticCodebase codebase) {
+
+		var classLoader = SyntheticCodebase.createClassLoader(codebase.writeTo(directory), getClass().getClassLoader());
+		var thread = Thread.currentThread();
+		var previous = thread.getContextClassLoader();
+
+		// The packages to import are looked up via the context ClassLoader
+		thread.setContextClassLoader(classLoader);
+
+		try {
+
+			var metadata = ModulithMetadata.of(SyntheticCodebase.BASE_PACKAGE);
+
+			return new ApplicationModules(metadata, List.of(SyntheticCodebase.BASE_PACKAGE),
+					DescribedPredicate.<JavaClass> alwaysFalse(), metadata.useFullyQualifiedModuleNames(),
+					new ImportOption.DoNotIncludeTests());
+
+		} finally {
+			thread.setContextClassLoader(previous);
+		}
+	}
+}
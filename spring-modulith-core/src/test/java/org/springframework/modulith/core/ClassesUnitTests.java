@@ -0,0 +1,83 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+
+/**
+ * Unit tests for {@link Classes}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ClassesUnitTests {
+
+	JavaClasses imported = new ClassFileImporter()
+			.importClasses(Classes.class, JavaPackage.class, NamedInterface.class, Types.class);
+
+	JavaClass classes = imported.get(Classes.class);
+	JavaClass javaPackage = imported.get(JavaPackage.class);
+	JavaClass namedInterface = imported.get(NamedInterface.class);
+	JavaClass types = imported.get(Types.class);
+
+	@Test
+	void sortsClassesByName() {
+
+		assertThat(Classes.of(List.of(types, classes, namedInterface)))
+				.containsExactly(classes, namedInterface, types);
+	}
+
+	@Test
+	void filteringRetainsOrder() {
+
+		var result = Classes.of(imported).that(simpleNameStartingWith("N").or(simpleNameStartingWith("T")));
+
+		assertThat(result).containsExactly(namedInterface, types);
+	}
+
+	@Test
+	void detectsContainedTypes() {
+
+		var result = Classes.of(List.of(classes, types));
+
+		assertThat(result.contains(classes)).isTrue();
+		assertThat(result.contains(Types.class.getName())).isTrue();
+		assertThat(result.contains(javaPackage)).isFalse();
+		assertThat(result.contains(NamedInterface.class.getName())).isFalse();
+		assertThat(result.contains(NamedInterface.class.getSimpleName())).isFalse();
+	}
+
+	@Test
+	void combinesClassesInOrderDroppingDuplicates() {
+
+		var left = Classes.of(List.of(types, classes));
+		var right = Classes.of(List.of(namedInterface, types, javaPackage));
+
+		var result = left.and(right);
+
+		assertThat(result).containsExactly(classes, javaPackage, namedInterface, types);
+		assertThat(result.contains(javaPackage)).isTrue();
+		assertThat(left.and(List.of())).isSameAs(left);
+	}
+}
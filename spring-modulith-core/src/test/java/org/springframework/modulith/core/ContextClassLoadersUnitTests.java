@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ContextClassLoaders}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ContextClassLoadersUnitTests {
+
+	@Test
+	void propagatesContextClassLoaderToOtherThreads() throws Exception {
+
+		var thread = Thread.currentThread();
+		var previous = thread.getContextClassLoader();
+		var classLoader = new URLClassLoader(new URL[0], previous);
+
+		thread.setContextClassLoader(classLoader);
+
+		try {
+
+			var function = ContextClassLoaders.propagating(__ -> Thread.currentThread().getContextClassLoader());
+
+			thread.setContextClassLoader(previous);
+
+			assertThat(CompletableFuture.supplyAsync(() -> function.apply(null)).get()).isSameAs(classLoader);
+			assertThat(thread.getContextClassLoader()).isSameAs(previous);
+
+		} finally {
+			thread.setContextClassLoader(previous);
+		}
+	}
+}
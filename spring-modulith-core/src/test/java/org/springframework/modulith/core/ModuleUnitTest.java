@@ -25,6 +25,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 
+import com.acme.withatbean.SampleAggregate;
+import com.acme.withatbean.SampleAggregate.SampleValue;
+import com.acme.withatbean.SampleConfiguration;
 import com.acme.withatbean.TestEvents.JMoleculesAnnotated;
 import com.acme.withatbean.TestEvents.JMoleculesImplementing;
 import com.tngtech.archunit.core.domain.JavaClass;
@@ -70,6 +73,16 @@ class ModuleUnitTest {
 				});
 	}
 
+	@Test
+	void classifiesDomainTypes() {
+
+		assertThat(module.getAggregateRoots()).containsExactly(classes.get(SampleAggregate.class));
+		assertThat(module.getValueTypes()).containsExactly(classes.get(SampleValue.class));
+		assertThat(module.getSpringBeans()) //
+				.extracting(SpringBean::getFullyQualifiedTypeName) //
+				.containsExactlyInAnyOrder(SampleConfiguration.class.getName(), DataSource.class.getName());
+	}
+
 	@Test // GH-87
 	void usesCapitalizedNameAsDisplayNameByDefault() {
 		assertThat(module.getDisplayName()).isEqualTo("Withatbean");
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.modulith.Modulithic;
+import org.springframework.modulith.core.VerificationCache.ModuleVerification;
+import org.springframework.modulith.core.VerificationCache.Verification;
+
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+
+/**
+ * Unit tests for {@link VerificationCache}.
+ *
+ * @author Oliver Drotbohm
+ */
+class VerificationCacheUnitTests {
+
+	Verification verification = new Verification("fingerprint", "global", Map.of( //
+			"a", new ModuleVerification("a1", Set.of()), //
+			"b", new ModuleVerification("b1", Set.of("a")), //
+			"c", new ModuleVerification("c1", Set.of("b"))));
+
+	@Test
+	void readsRecordedVerification(@TempDir Path directory) {
+
+		var cache = new VerificationCache(directory);
+
+		assertThat(cache.get("key")).isEmpty();
+
+		cache.put("key", verification);
+
+		assertThat(new VerificationCache(directory).get("key")).hasValue(verification);
+		assertThat(cache.get("other")).isEmpty();
+	}
+
+	@Test
+	void replacesRecordedVerificationWithoutLeavingTemporaryFiles(@TempDir Path directory) throws Exception {
+
+		var cache = new VerificationCache(directory);
+		var other = new Verification("other", "global", Map.of());
+
+		cache.put("key", verification);
+		cache.put("key", other);
+
+		assertThat(cache.get("key")).hasValue(other);
+
+		try (var files = Files.list(directory)) {
+			assertThat(files).singleElement()
+					.satisfies(it -> assertThat(it.getFileName().toString()).startsWith("verified-").doesNotEndWith(".tmp"));
+		}
+	}
+
+	@Test
+	void isDisabledByDefault() {
+
+		assertThat(System.getProperty(VerificationCache.ENABLED_PROPERTY)).isNull();
+
+		var cache = VerificationCache.fromSystemProperties();
+
+		assertThat(cache.isEnabled()).isFalse();
+
+		cache.put("key", verification);
+
+		assertThat(cache.get("key")).isEmpty();
+	}
+
+	@Test
+	void isEnabledWithDirectory(@TempDir Path directory) {
+		assertThat(new VerificationCache(directory).isEnabled()).isTrue();
+	}
+
+	@Test
+	void disabledCacheNeverReportsVerification() {
+
+		var cache = new VerificationCache(null);
+
+		cache.put("key", verification);
+
+		assertThat(cache.get("key")).isEmpty();
+	}
+
+	@Test
+	void calculatesStableFingerprint() {
+
+		var classes = TestUtils.getJavaClasses();
+		var others = new ClassFileImporter().importClasses(VerificationCache.class);
+
+		assertThat(VerificationCache.fingerprint(classes.stream())) //
+				.isEqualTo(VerificationCache.fingerprint(TestUtils.getJavaClasses().stream())) //
+				.isNotEqualTo(VerificationCache.fingerprint(others.stream()));
+	}
+
+	@Test
+	void verifiesChangedModulesAndTheirDependents() {
+
+		assertThat(verification.isFor("fingerprint")).isTrue();
+		assertThat(verification.getModulesToVerify("global", Map.of("a", "a1", "b", "b1", "c", "c1"))).isEmpty();
+		assertThat(verification.getModulesToVerify("global", Map.of("a", "a2", "b", "b1", "c", "c1")))
+				.containsExactlyInAnyOrder("a", "b");
+		assertThat(verification.getModulesToVerify("global", Map.of("a", "a1", "b", "b1", "c", "c2")))
+				.containsExactly("c");
+	}
+
+	@Test
+	void verifiesAllModulesIfModulesWereAddedOrRemoved() {
+
+		assertThat(verification.getModulesToVerify("global", Map.of("a", "a1", "b", "b1", "c", "c1", "d", "d1")))
+				.containsExactlyInAnyOrder("a", "b", "c", "d");
+		assertThat(verification.getModulesToVerify("global", Map.of("a", "a1", "b", "b1")))
+				.containsExactlyInAnyOrder("a", "b");
+	}
+
+	@Test
+	void verifiesAllModulesIfTypesOutsideModulesOrMetadataChanged() {
+
+		assertThat(verification.getModulesToVerify("other", Map.of("a", "a1", "b", "b1", "c", "c1")))
+				.containsExactlyInAnyOrder("a", "b", "c");
+	}
+
+	@Test
+	void considersMetadataInGlobalFingerprint() {
+
+		var classes = TestUtils.getJavaClasses();
+
+		assertThat(VerificationCache.fingerprint(ModulithMetadata.of(Plain.class), classes.stream()))
+				.isEqualTo(VerificationCache.fingerprint(ModulithMetadata.of(Plain.class), classes.stream()))
+				.isNotEqualTo(VerificationCache.fingerprint(ModulithMetadata.of(WithSharedModule.class), classes.stream()));
+	}
+
+	@Modulithic
+	static class Plain {}
+
+	@Modulithic(sharedModules = "shared")
+	static class WithSharedModule {}
+}
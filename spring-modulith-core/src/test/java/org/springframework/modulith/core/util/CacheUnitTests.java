@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.modulith.core.util.Cache.Statistics;
+
+/**
+ * Unit tests for {@link Cache}.
+ *
+ * @author Oliver Drotbohm
+ */
+class CacheUnitTests {
+
+	@Test
+	void computesValueOnlyOnce() {
+
+		var cache = Cache.<String, String> of("once", 10);
+		var invocations = new AtomicInteger();
+
+		assertThat(cache.get("key", it -> it + invocations.incrementAndGet())).isEqualTo("key1");
+		assertThat(cache.get("key", it -> it + invocations.incrementAndGet())).isEqualTo("key1");
+
+		assertThat(Cache.getStatistics()).containsEntry("once", new Statistics(1, 1, 0, 1));
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedEntry() {
+
+		var cache = Cache.<String, String> of("evicting", 2);
+
+		cache.get("first", it -> it);
+		cache.get("second", it -> it);
+		cache.get("first", it -> it);
+		cache.get("third", it -> it);
+
+		assertThat(cache.get("first", it -> "recomputed")).isEqualTo("first");
+		assertThat(cache.get("second", it -> "recomputed")).isEqualTo("recomputed");
+		assertThat(Cache.getStatistics().get("evicting").evictions()).isEqualTo(2);
+	}
+
+	@Test
+	void doesNotCacheFailedComputation() {
+
+		var cache = Cache.<String, String> of("failing", 10);
+
+		assertThatIllegalStateException().isThrownBy(() -> cache.get("key", it -> {
+			throw new IllegalStateException();
+		}));
+
+		assertThat(cache.get("key", it -> "value")).isEqualTo("value");
+	}
+
+	@Test
+	void computesValueOnlyOnceForConcurrentRequests() throws Exception {
+
+		var cache = Cache.<String, Integer> of("concurrent", 10);
+		var invocations = new AtomicInteger();
+		var latch = new CountDownLatch(1);
+		var executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			var futures = IntStream.range(0, 4) //
+					.mapToObj(__ -> executor.submit(() -> cache.get("key", it -> {
+						await(latch);
+						return invocations.incrementAndGet();
+					}))) //
+					.toList();
+
+			latch.countDown();
+
+			for (var future : futures) {
+				assertThat(future.get(1, TimeUnit.SECONDS)).isOne();
+			}
+
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(invocations.get()).isOne();
+	}
+
+	private static void await(CountDownLatch latch) {
+
+		try {
+			latch.await(1, TimeUnit.SECONDS);
+		} catch (InterruptedException o_O) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -16,7 +16,7 @@
 package org.springframework.modulith.events;
 
 import java.util.Collection;
-import java.util.List;
+import java.util.Comparator;
 import java.util.stream.Stream;
 
 import org.slf4j.Logger;
@@ -38,19 +38,35 @@ import org.springframework.util.Assert;
 public class DefaultEventPublicationRegistry implements DisposableBean, EventPublicationRegistry {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(DefaultEventPublicationRegistry.class);
+	private static final int MAX_ERROR_LENGTH = 1000;
 
 	private final EventPublicationRepository events;
+	private final int maxAttempts;
 
 	/**
 	 * Creates a new {@link DefaultEventPublicationRegistry} for the given {@link EventPublicationRepository}.
+	 * Publications that fail to be processed are never dead-lettered.
 	 *
 	 * @param events must not be {@literal null}.
 	 */
 	public DefaultEventPublicationRegistry(EventPublicationRepository events) {
+		this(events, 0);
+	}
+
+	/**
+	 * Creates a new {@link DefaultEventPublicationRegistry} for the given {@link EventPublicationRepository} and maximum
+	 * number of processing attempts after which a publication is dead-lettered.
+	 *
+	 * @param events must not be {@literal null}.
+	 * @param maxAttempts the maximum number of processing attempts, {@literal 0} or less to never dead-letter
+	 *          publications.
+	 */
+	public DefaultEventPublicationRegistry(EventPublicationRepository events, int maxAttempts) {
 
 		Assert.notNull(events, "EventPublicationRepository must not be null!");
 
 		this.events = events;
+		this.maxAttempts = maxAttempts > 0 ? maxAttempts : Integer.MAX_VALUE;
 	}
 
 	/*
@@ -58,10 +74,11 @@ public class DefaultEventPublicationRegistry implements DisposableBean, EventPub
 	 * @see org.springframework.modulith.events.EventPublicationRegistry#store(java.lang.Object, java.util.stream.Stream)
 	 */
 	@Override
-	public void store(Object event, Stream<PublicationTargetIdentifier> listeners) {
+	public Collection<EventPublication> store(Object event, Stream<PublicationTargetIdentifier> listeners) {
 
-		listeners.map(it -> map(event, it))
-				.forEach(events::create);
+		return listeners.map(it -> map(event, it))
+				.map(events::create)
+				.toList();
 	}
 
 	/*
@@ -73,6 +90,28 @@ public class DefaultEventPublicationRegistry implements DisposableBean, EventPub
 		return events.findIncompletePublications();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.EventPublicationRegistry#getShards()
+	 */
+	@Override
+	public Collection<String> getShards() {
+		return events.getShards();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.EventPublicationRegistry#findIncompletePublications(java.lang.String)
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public Collection<EventPublication> findIncompletePublications(String shard) {
+
+		Assert.notNull(shard, "Shard must not be null!");
+
+		return events.findIncompletePublications(shard);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.modulith.events.EventPublicationRegistry#markCompleted(java.lang.Object, org.springframework.modulith.events.PublicationTargetIdentifier)
@@ -84,12 +123,35 @@ public class DefaultEventPublicationRegistry implements DisposableBean, EventPub
 		Assert.notNull(event, "Domain event must not be null!");
 		Assert.notNull(targetIdentifier, "Listener identifier must not be null!");
 
+		LOGGER.debug("Marking publication of event {} to listener {} completed.", //
+				event.getClass().getName(), targetIdentifier.getValue());
+
+		// Hand the publication found to the repository, so that it can update it by its identifier
 		events.findIncompletePublicationsByEventAndTargetIdentifier(event, targetIdentifier) //
-				.map(DefaultEventPublicationRegistry::logCompleted) //
-				.map(e -> CompletableEventPublication.of(e.getEvent(), e.getTargetIdentifier()))
+				.map(it -> it instanceof CompletableEventPublication publication //
+						? publication
+						: CompletableEventPublication.of(event, targetIdentifier))
 				.ifPresent(it -> events.update(it.markCompleted()));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.EventPublicationRegistry#markFailed(java.lang.Object, org.springframework.modulith.events.PublicationTargetIdentifier, java.lang.Throwable)
+	 */
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void markFailed(Object event, PublicationTargetIdentifier targetIdentifier, Throwable cause) {
+
+		Assert.notNull(event, "Domain event must not be null!");
+		Assert.notNull(targetIdentifier, "Listener identifier must not be null!");
+		Assert.notNull(cause, "Cause must not be null!");
+
+		LOGGER.debug("Marking publication of event {} to listener {} failed.", //
+				event.getClass().getName(), targetIdentifier.getValue());
+
+		events.markFailed(event, targetIdentifier, toError(cause), maxAttempts);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.beans.factory.DisposableBean#destroy()
@@ -97,22 +159,27 @@ public class DefaultEventPublicationRegistry implements DisposableBean, EventPub
 	@Override
 	public void destroy() {
 
-		List<EventPublication> publications = events.findIncompletePublications();
+		var counts = events.countIncompletePublicationsByTargetIdentifier();
 
-		if (publications.isEmpty()) {
+		if (counts.isEmpty()) {
 
 			LOGGER.info("No publications outstanding!");
 			return;
 		}
 
-		LOGGER.info("Shutting down with the following publications left unfinished:");
+		var total = counts.values().stream().mapToLong(Long::longValue).sum();
+		var identifiers = counts.keySet().stream()
+				.sorted(Comparator.comparing(PublicationTargetIdentifier::getValue))
+				.toList();
 
-		for (int i = 0; i < publications.size(); i++) {
+		LOGGER.info("Shutting down with {} publication(s) left unfinished:", total);
 
-			String prefix = i + 1 == publications.size() ? "└─" : "├─";
-			EventPublication it = publications.get(i);
+		for (int i = 0; i < identifiers.size(); i++) {
 
-			LOGGER.info("{} {} - {}", prefix, it.getEvent().getClass().getName(), it.getTargetIdentifier().getValue());
+			String prefix = i + 1 == identifiers.size() ? "└─" : "├─";
+			PublicationTargetIdentifier identifier = identifiers.get(i);
+
+			LOGGER.info("{} {} - {}", prefix, identifier.getValue(), counts.get(identifier));
 		}
 	}
 
@@ -126,12 +193,12 @@ public class DefaultEventPublicationRegistry implements DisposableBean, EventPub
 		return result;
 	}
 
-	private static EventPublication logCompleted(EventPublication publication) {
+	private static String toError(Throwable cause) {
 
-		LOGGER.debug("Marking publication of event {} to listener {} completed.", //
-				publication.getEvent().getClass().getName(), publication.getTargetIdentifier().getValue());
+		var message = cause.getMessage();
+		var error = message == null ? cause.getClass().getName() : cause.getClass().getName() + ": " + message;
 
-		return publication;
+		return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
 	}
 
 }
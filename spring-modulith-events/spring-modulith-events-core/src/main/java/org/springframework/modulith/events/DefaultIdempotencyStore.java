@@ -0,0 +1,221 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Default {@link IdempotencyStore} keeping track of listener executions in a bounded, exact LRU cache fronted by a
+ * {@link TimeWindowedBloomFilter}. Executions can be persisted through an optional {@link IdempotencyRepository} which
+ * is then only consulted if the Bloom filter reports a potential duplicate that is not contained in the LRU cache
+ * anymore. The Bloom filter is seeded with the persisted executions on startup, so that the common case of a first
+ * execution never requires a database lookup.
+ * <p>
+ * Executions are tracked for at least the configured window and at most twice as long. Persisted executions that
+ * dropped out of the Bloom filter are pruned whenever its window rotates.
+ *
+ * @author Oliver Drotbohm
+ */
+public class DefaultIdempotencyStore implements IdempotencyStore, InitializingBean {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(DefaultIdempotencyStore.class);
+	private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+	private static final HexFormat HEX = HexFormat.of();
+
+	private final @Nullable IdempotencyRepository repository;
+	private final TimeWindowedBloomFilter filter;
+	private final Set<String> recentKeys;
+	private final Clock clock;
+	private final AtomicReference<Instant> prunedBefore;
+
+	/**
+	 * Creates a new {@link DefaultIdempotencyStore} for the given {@link IdempotencyRepository}, capacity and window.
+	 *
+	 * @param repository can be {@literal null}.
+	 * @param capacity the number of executions to keep in memory, must be greater than zero.
+	 * @param window the time window to keep track of executions for, must not be {@literal null}.
+	 */
+	public DefaultIdempotencyStore(@Nullable IdempotencyRepository repository, int capacity, Duration window) {
+		this(repository, capacity, window, Clock.systemUTC());
+	}
+
+	DefaultIdempotencyStore(@Nullable IdempotencyRepository repository, int capacity, Duration window, Clock clock) {
+
+		Assert.isTrue(capacity > 0, "Capacity must be greater than zero!");
+		Assert.notNull(window, "Window must not be null!");
+		Assert.notNull(clock, "Clock must not be null!");
+
+		this.repository = repository;
+		this.filter = new TimeWindowedBloomFilter(capacity, FALSE_POSITIVE_PROBABILITY, window, clock);
+		this.recentKeys = Collections.newSetFromMap(Collections.synchronizedMap(new LruMap(capacity)));
+		this.clock = clock;
+		this.prunedBefore = new AtomicReference<>(Instant.MIN);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.InitializingBean#afterPropertiesSet()
+	 */
+	@Override
+	public void afterPropertiesSet() {
+
+		if (repository == null) {
+			return;
+		}
+
+		var horizon = filter.getHorizon();
+
+		pruneExecutionsBefore(horizon);
+
+		var keys = repository.findKeysExecutedSince(horizon);
+
+		keys.forEach(it -> filter.add(HEX.parseHex(it)));
+
+		LOGGER.debug("Initialized idempotency store with {} previous execution(s).", keys.size());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.IdempotencyStore#isProcessed(java.lang.String, org.springframework.modulith.events.PublicationTargetIdentifier)
+	 */
+	@Override
+	public boolean isProcessed(String publicationId, PublicationTargetIdentifier identifier) {
+
+		var digest = digest(publicationId, identifier);
+
+		if (!filter.mightContain(digest)) {
+			return false;
+		}
+
+		var key = HEX.formatHex(digest);
+
+		if (recentKeys.contains(key)) {
+			return true;
+		}
+
+		if (repository == null || !repository.exists(key)) {
+			return false;
+		}
+
+		recentKeys.add(key);
+
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.IdempotencyStore#markProcessed(java.lang.String, org.springframework.modulith.events.PublicationTargetIdentifier)
+	 */
+	@Override
+	public void markProcessed(String publicationId, PublicationTargetIdentifier identifier) {
+
+		var digest = digest(publicationId, identifier);
+		var key = HEX.formatHex(digest);
+
+		filter.add(digest);
+		recentKeys.add(key);
+
+		if (repository != null) {
+			repository.save(key, clock.instant());
+			pruneExecutionsBefore(filter.getHorizon());
+		}
+	}
+
+	/**
+	 * Deletes the persisted executions before the given horizon unless they have already been deleted for it. As the
+	 * horizon only advances once the window of the Bloom filter rotates, this results in a single deletion per window.
+	 *
+	 * @param horizon must not be {@literal null}.
+	 */
+	private void pruneExecutionsBefore(Instant horizon) {
+
+		var previous = prunedBefore.get();
+
+		if (repository == null || !horizon.isAfter(previous) || !prunedBefore.compareAndSet(previous, horizon)) {
+			return;
+		}
+
+		LOGGER.debug("Pruning listener executions before {}.", horizon);
+
+		repository.deleteExecutedBefore(horizon);
+	}
+
+	private static byte[] digest(String publicationId, PublicationTargetIdentifier identifier) {
+
+		Assert.hasText(publicationId, "Publication identifier must not be null or empty!");
+		Assert.notNull(identifier, "PublicationTargetIdentifier must not be null!");
+
+		try {
+
+			var digest = MessageDigest.getInstance("SHA-256");
+
+			digest.update(identifier.getValue().getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			digest.update(publicationId.getBytes(StandardCharsets.UTF_8));
+
+			return digest.digest();
+
+		} catch (NoSuchAlgorithmException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	/**
+	 * A {@link LinkedHashMap} in access order evicting the least recently used entry once the given capacity is
+	 * exceeded.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class LruMap extends LinkedHashMap<String, Boolean> {
+
+		private static final long serialVersionUID = -2218093370263413640L;
+
+		private final int capacity;
+
+		LruMap(int capacity) {
+
+			super(16, 0.75f, true);
+
+			this.capacity = capacity;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+		 */
+		@Override
+		protected boolean removeEldestEntry(Entry<String, Boolean> eldest) {
+			return size() > capacity;
+		}
+	}
+}
@@ -16,6 +16,7 @@
 package org.springframework.modulith.events;
 
 import java.time.Instant;
+import java.util.Optional;
 
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.PayloadApplicationEvent;
@@ -59,6 +60,16 @@ public interface EventPublication extends Comparable<EventPublication> {
 	 */
 	Instant getPublicationDate();
 
+	/**
+	 * Returns the identifier the publication was persisted with by the {@link EventPublicationRepository}. Publications
+	 * not read from a repository don't have one.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	default Optional<String> getIdentifier() {
+		return Optional.empty();
+	}
+
 	/**
 	 * Returns the identifier of the target that the event is supposed to be published to.
 	 *
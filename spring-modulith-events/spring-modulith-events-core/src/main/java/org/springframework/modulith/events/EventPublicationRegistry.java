@@ -35,8 +35,10 @@ public interface EventPublicationRegistry {
 	 *
 	 * @param event must not be {@literal null}.
 	 * @param listeners must not be {@literal null}.
+	 * @return the {@link EventPublication}s stored, exposing the identifier they were persisted with, will never be
+	 *         {@literal null}.
 	 */
-	void store(Object event, Stream<PublicationTargetIdentifier> listeners);
+	Collection<EventPublication> store(Object event, Stream<PublicationTargetIdentifier> listeners);
 
 	/**
 	 * Returns all {@link EventPublication}s that have not been completed yet.
@@ -45,6 +47,22 @@ public interface EventPublicationRegistry {
 	 */
 	Collection<EventPublication> findIncompletePublications();
 
+	/**
+	 * Returns the shards {@link EventPublication}s are stored in.
+	 *
+	 * @return will never be {@literal null} or empty.
+	 * @see EventPublicationShards
+	 */
+	Collection<String> getShards();
+
+	/**
+	 * Returns all {@link EventPublication}s stored in the given shard that have not been completed yet.
+	 *
+	 * @param shard must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Collection<EventPublication> findIncompletePublications(String shard);
+
 	/**
 	 * Marks the publication for the given event and {@link PublicationTargetIdentifier} as completed.
 	 *
@@ -52,4 +70,13 @@ public interface EventPublicationRegistry {
 	 * @param targetIdentifier must not be {@literal null}.
 	 */
 	void markCompleted(Object event, PublicationTargetIdentifier targetIdentifier);
+
+	/**
+	 * Records the failed processing of the publication for the given event and {@link PublicationTargetIdentifier}.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param targetIdentifier must not be {@literal null}.
+	 * @param cause must not be {@literal null}.
+	 */
+	void markFailed(Object event, PublicationTargetIdentifier targetIdentifier, Throwable cause);
 }
@@ -16,7 +16,9 @@
 package org.springframework.modulith.events;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Repository to store {@link EventPublication}s.
@@ -31,7 +33,8 @@ public interface EventPublicationRepository {
 	 * Persists the given {@link EventPublication}.
 	 *
 	 * @param publication must not be {@literal null}.
-	 * @return will never be {@literal null}.
+	 * @return the {@link EventPublication} as persisted, exposing the identifier it was persisted with, will never be
+	 *         {@literal null}.
 	 */
 	EventPublication create(EventPublication publication);
 
@@ -50,6 +53,28 @@ public interface EventPublicationRepository {
 	 */
 	List<EventPublication> findIncompletePublications();
 
+	/**
+	 * Returns the shards the repository stores {@link EventPublication}s in. Repositories not supporting sharding store
+	 * all publications in the {@link EventPublicationShards#DEFAULT_SHARD}.
+	 *
+	 * @return will never be {@literal null} or empty.
+	 * @see EventPublicationShards
+	 */
+	default List<String> getShards() {
+		return List.of(EventPublicationShards.DEFAULT_SHARD);
+	}
+
+	/**
+	 * Returns all {@link EventPublication}s stored in the given shard that have not been completed yet.
+	 *
+	 * @param shard must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see #getShards()
+	 */
+	default List<EventPublication> findIncompletePublications(String shard) {
+		return EventPublicationShards.DEFAULT_SHARD.equals(shard) ? findIncompletePublications() : List.of();
+	}
+
 	/**
 	 * Return the incomplete {@link EventPublication} for the given serialized event and listener identifier.
 	 *
@@ -60,6 +85,33 @@ public interface EventPublicationRepository {
 	Optional<EventPublication> findIncompletePublicationsByEventAndTargetIdentifier( //
 			Object event, PublicationTargetIdentifier targetIdentifier);
 
+	/**
+	 * Records a failed attempt to process the incomplete {@link EventPublication} for the given event and
+	 * {@link PublicationTargetIdentifier}. Implementations are expected to increment the number of attempts and to store
+	 * the given error alongside the time of the attempt. Once the given maximum number of attempts is reached, the
+	 * publication is moved into the dead-letter state, which excludes it from the incomplete publications so that it is
+	 * not resubmitted anymore. The default implementation does not track failures at all.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param targetIdentifier must not be {@literal null}.
+	 * @param error must not be {@literal null}.
+	 * @param maxAttempts the number of attempts after which the publication is dead-lettered, must be greater than zero.
+	 */
+	default void markFailed(Object event, PublicationTargetIdentifier targetIdentifier, String error, int maxAttempts) {}
+
+	/**
+	 * Returns the number of incomplete {@link EventPublication}s per {@link PublicationTargetIdentifier}. Implementations
+	 * are expected to override this with an aggregating query so that callers do not have to load all incomplete
+	 * publications just to report on them.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	default Map<PublicationTargetIdentifier, Long> countIncompletePublicationsByTargetIdentifier() {
+
+		return findIncompletePublications().stream()
+				.collect(Collectors.groupingBy(EventPublication::getTargetIdentifier, Collectors.counting()));
+	}
+
 	/**
 	 * Deletes all publications that were already marked as completed.
 	 */
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events;
+
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.springframework.util.Assert;
+
+/**
+ * Routes {@link EventPublication}s to shards, i.e. separate tables or collections, based on their
+ * {@link PublicationTargetIdentifier}. Routing has to be stable across application restarts as publications are looked
+ * up in the shard they were routed to when stored. Changing the configuration thus strands incomplete publications in
+ * shards not routed to anymore.
+ *
+ * @author Oliver Drotbohm
+ */
+public interface EventPublicationShards {
+
+	/**
+	 * The name of the default shard, i.e. the table or collection used if no sharding is configured at all.
+	 */
+	String DEFAULT_SHARD = "";
+
+	/**
+	 * Stores all publications in the {@link #DEFAULT_SHARD}.
+	 */
+	EventPublicationShards NONE = of(List.of(DEFAULT_SHARD), __ -> DEFAULT_SHARD);
+
+	/**
+	 * Returns the names of all shards publications can be routed to.
+	 *
+	 * @return will never be {@literal null} or empty.
+	 */
+	List<String> getShards();
+
+	/**
+	 * Returns the name of the shard publications for the given {@link PublicationTargetIdentifier} are routed to.
+	 *
+	 * @param identifier must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	String getShardFor(PublicationTargetIdentifier identifier);
+
+	/**
+	 * Returns whether more than one shard is in use.
+	 *
+	 * @return
+	 */
+	default boolean isSharded() {
+		return getShards().size() > 1;
+	}
+
+	/**
+	 * Distributes publications evenly across the given number of shards named {@code 0} to {@code count - 1} by hashing
+	 * the {@link PublicationTargetIdentifier}.
+	 *
+	 * @param count must be greater than zero.
+	 * @return will never be {@literal null}.
+	 */
+	static EventPublicationShards hashed(int count) {
+
+		Assert.isTrue(count > 0, "Number of shards must be greater than zero!");
+
+		var shards = IntStream.range(0, count).mapToObj(String::valueOf).toList();
+
+		return of(shards, it -> shards.get(Math.floorMod(it.getValue().hashCode(), count)));
+	}
+
+	/**
+	 * Routes publications to the shard registered for the longest prefix of their {@link PublicationTargetIdentifier}.
+	 * As listener identifiers start with the fully-qualified name of the listener type, prefixes can be package names to
+	 * route the publications of all listeners within an application module to a dedicated shard. Publications not
+	 * matching any of the prefixes are routed to the {@link #DEFAULT_SHARD}.
+	 *
+	 * @param shardsByPrefix must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static EventPublicationShards byPrefix(Map<String, String> shardsByPrefix) {
+
+		Assert.notNull(shardsByPrefix, "Shards by prefix must not be null!");
+
+		var prefixes = shardsByPrefix.entrySet().stream()
+				.sorted(Comparator.comparing((Entry<String, String> it) -> it.getKey().length()).reversed())
+				.toList();
+
+		var shards = Stream.concat(Stream.of(DEFAULT_SHARD), shardsByPrefix.values().stream())
+				.collect(LinkedHashSet<String>::new, LinkedHashSet::add, LinkedHashSet::addAll);
+
+		return of(List.copyOf(shards), it -> prefixes.stream()
+				.filter(entry -> it.getValue().startsWith(entry.getKey()))
+				.map(Entry::getValue)
+				.findFirst()
+				.orElse(DEFAULT_SHARD));
+	}
+
+	private static EventPublicationShards of(List<String> shards,
+			Function<PublicationTargetIdentifier, String> router) {
+
+		return new EventPublicationShards() {
+
+			@Override
+			public List<String> getShards() {
+				return shards;
+			}
+
+			@Override
+			public String getShardFor(PublicationTargetIdentifier identifier) {
+
+				Assert.notNull(identifier, "PublicationTargetIdentifier must not be null!");
+
+				return router.apply(identifier);
+			}
+		};
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository to persistently store the keys of listener executions tracked by a {@link DefaultIdempotencyStore} so
+ * that they survive application restarts.
+ *
+ * @author Oliver Drotbohm
+ */
+public interface IdempotencyRepository {
+
+	/**
+	 * Returns whether an execution with the given key was stored.
+	 *
+	 * @param key must not be {@literal null} or empty.
+	 * @return
+	 */
+	boolean exists(String key);
+
+	/**
+	 * Stores an execution with the given key at the given point in time.
+	 *
+	 * @param key must not be {@literal null} or empty.
+	 * @param executionDate must not be {@literal null}.
+	 */
+	void save(String key, Instant executionDate);
+
+	/**
+	 * Returns the keys of all executions stored at or after the given point in time.
+	 *
+	 * @param executionDate must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	List<String> findKeysExecutedSince(Instant executionDate);
+
+	/**
+	 * Deletes all executions stored before the given point in time.
+	 *
+	 * @param executionDate must not be {@literal null}.
+	 */
+	void deleteExecutedBefore(Instant executionDate);
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events;
+
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Keeps track of the {@link ApplicationListener} executions for event publications, so that a publication that was
+ * already processed by a listener but could not be marked as completed is not processed a second time when it gets
+ * resubmitted. Executions are keyed by the {@link EventPublication#getIdentifier() identifier} of the publication and
+ * the {@link PublicationTargetIdentifier} of the listener, so that equal events published separately are processed
+ * separately.
+ *
+ * @author Oliver Drotbohm
+ * @see DefaultIdempotencyStore
+ */
+public interface IdempotencyStore {
+
+	/**
+	 * An {@link IdempotencyStore} that does not track any executions at all.
+	 */
+	public static final IdempotencyStore NONE = new IdempotencyStore() {
+
+		@Override
+		public boolean isProcessed(String publicationId, PublicationTargetIdentifier identifier) {
+			return false;
+		}
+
+		@Override
+		public void markProcessed(String publicationId, PublicationTargetIdentifier identifier) {}
+	};
+
+	/**
+	 * Returns whether the listener identified by the given {@link PublicationTargetIdentifier} has already processed the
+	 * publication with the given identifier.
+	 *
+	 * @param publicationId must not be {@literal null} or empty.
+	 * @param identifier must not be {@literal null}.
+	 * @return
+	 */
+	boolean isProcessed(String publicationId, PublicationTargetIdentifier identifier);
+
+	/**
+	 * Records the publication with the given identifier to have been processed by the listener identified by the given
+	 * {@link PublicationTargetIdentifier}.
+	 *
+	 * @param publicationId must not be {@literal null} or empty.
+	 * @param identifier must not be {@literal null}.
+	 */
+	void markProcessed(String publicationId, PublicationTargetIdentifier identifier);
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.BitSet;
+
+import org.springframework.util.Assert;
+
+/**
+ * A Bloom filter over message digests that forgets about elements added more than two time windows ago. Elements are
+ * added to the filter of the current window, lookups consider both the current and the previous one. Once the current
+ * window has elapsed, the previous filter is dropped and the current one becomes the previous one, which keeps the false
+ * positive rate bounded for a steady stream of additions.
+ *
+ * @author Oliver Drotbohm
+ */
+class TimeWindowedBloomFilter {
+
+	private final int numberOfBits;
+	private final int numberOfHashes;
+	private final Duration window;
+	private final Clock clock;
+
+	private BitSet current, previous;
+	private Instant currentWindowStart;
+
+	/**
+	 * Creates a new {@link TimeWindowedBloomFilter} sized to hold the given number of elements per window with the given
+	 * false positive probability.
+	 *
+	 * @param expectedElements must be greater than zero.
+	 * @param falsePositiveProbability must be between zero and one.
+	 * @param window must not be {@literal null}.
+	 * @param clock must not be {@literal null}.
+	 */
+	TimeWindowedBloomFilter(int expectedElements, double falsePositiveProbability, Duration window, Clock clock) {
+
+		Assert.isTrue(expectedElements > 0, "Expected elements must be greater than zero!");
+		Assert.isTrue(falsePositiveProbability > 0 && falsePositiveProbability < 1,
+				"False positive probability must be between zero and one!");
+		Assert.notNull(window, "Window must not be null!");
+		Assert.notNull(clock, "Clock must not be null!");
+
+		var bits = -expectedElements * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2));
+
+		this.numberOfBits = (int) Math.max(64, Math.ceil(bits));
+		this.numberOfHashes = (int) Math.max(1, Math.round(numberOfBits / (double) expectedElements * Math.log(2)));
+		this.window = window;
+		this.clock = clock;
+
+		this.current = new BitSet(numberOfBits);
+		this.previous = new BitSet(numberOfBits);
+		this.currentWindowStart = clock.instant();
+	}
+
+	/**
+	 * Adds the given digest to the filter.
+	 *
+	 * @param digest must not be {@literal null} and at least 16 bytes long.
+	 */
+	synchronized void add(byte[] digest) {
+
+		rotateIfNecessary();
+
+		var buffer = ByteBuffer.wrap(digest);
+		var first = buffer.getLong();
+		var second = buffer.getLong();
+
+		for (int i = 0; i < numberOfHashes; i++) {
+			current.set(indexFor(first, second, i));
+		}
+	}
+
+	/**
+	 * Returns whether the given digest might have been added to the filter. A result of {@literal false} guarantees the
+	 * digest has not been added within the last two windows.
+	 *
+	 * @param digest must not be {@literal null} and at least 16 bytes long.
+	 * @return
+	 */
+	synchronized boolean mightContain(byte[] digest) {
+
+		rotateIfNecessary();
+
+		var buffer = ByteBuffer.wrap(digest);
+		var first = buffer.getLong();
+		var second = buffer.getLong();
+
+		return contains(current, first, second) || contains(previous, first, second);
+	}
+
+	/**
+	 * Returns the point in time before which added elements are not considered by the filter anymore.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	synchronized Instant getHorizon() {
+
+		rotateIfNecessary();
+
+		return currentWindowStart.minus(window);
+	}
+
+	private boolean contains(BitSet bits, long first, long second) {
+
+		for (int i = 0; i < numberOfHashes; i++) {
+			if (!bits.get(indexFor(first, second, i))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private int indexFor(long first, long second, int i) {
+		return (int) Long.remainderUnsigned(first + i * second, numberOfBits);
+	}
+
+	private void rotateIfNecessary() {
+
+		var now = clock.instant();
+
+		if (now.isBefore(currentWindowStart.plus(window))) {
+			return;
+		}
+
+		var elapsedWindows = Duration.between(currentWindowStart, now).dividedBy(window);
+
+		this.previous = elapsedWindows == 1 ? current : new BitSet(numberOfBits);
+		this.current = new BitSet(numberOfBits);
+		this.currentWindowStart = currentWindowStart.plus(window.multipliedBy(elapsedWindows));
+	}
+}
@@ -15,15 +15,30 @@
  */
 package org.springframework.modulith.events.config;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.ConditionContext;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ConfigurationCondition;
 import org.springframework.context.annotation.Role;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.type.AnnotatedTypeMetadata;
 import org.springframework.modulith.events.DefaultEventPublicationRegistry;
+import org.springframework.modulith.events.DefaultIdempotencyStore;
 import org.springframework.modulith.events.EventPublicationRegistry;
+import org.springframework.modulith.events.EventPublicationShards;
 import org.springframework.modulith.events.EventPublicationRepository;
+import org.springframework.modulith.events.IdempotencyRepository;
+import org.springframework.modulith.events.IdempotencyStore;
 import org.springframework.modulith.events.support.CompletionRegisteringAdvisor;
+import org.springframework.modulith.events.support.InFlightPublications;
+import org.springframework.modulith.events.support.ListenerInvocationTracker;
 import org.springframework.modulith.events.support.PersistentApplicationEventMulticaster;
 
 /**
@@ -34,21 +49,118 @@ import org.springframework.modulith.events.support.PersistentApplicationEventMul
 @Configuration(proxyBeanMethods = false)
 class EventPublicationConfiguration {
 
+	private static final String SHUTDOWN_DRAIN_TIMEOUT_PROPERTY = "spring.modulith.events.shutdown.drain-timeout";
+	private static final Duration DEFAULT_SHUTDOWN_DRAIN_TIMEOUT = Duration.ofSeconds(10);
+
+	private static final String IDEMPOTENCY_ENABLED_PROPERTY = "spring.modulith.events.idempotency.enabled";
+	private static final String IDEMPOTENCY_CAPACITY_PROPERTY = "spring.modulith.events.idempotency.capacity";
+	private static final String IDEMPOTENCY_WINDOW_PROPERTY = "spring.modulith.events.idempotency.window";
+	private static final int DEFAULT_IDEMPOTENCY_CAPACITY = 10_000;
+	private static final Duration DEFAULT_IDEMPOTENCY_WINDOW = Duration.ofDays(1);
+
+	private static final String DEAD_LETTER_MAX_ATTEMPTS_PROPERTY = "spring.modulith.events.dead-letter.max-attempts";
+	private static final String HASH_SHARDS_PROPERTY = "spring.modulith.events.sharding.hash-shards";
+
 	@Bean
-	EventPublicationRegistry eventPublicationRegistry(EventPublicationRepository repository) {
-		return new DefaultEventPublicationRegistry(repository);
+	EventPublicationRegistry eventPublicationRegistry(EventPublicationRepository repository, Environment environment) {
+
+		var maxAttempts = environment.getProperty(DEAD_LETTER_MAX_ATTEMPTS_PROPERTY, Integer.class, 0);
+
+		return new DefaultEventPublicationRegistry(repository, maxAttempts);
 	}
 
 	@Bean
 	PersistentApplicationEventMulticaster applicationEventMulticaster(
-			EventPublicationRegistry eventPublicationRegistry) {
+			EventPublicationRegistry eventPublicationRegistry, ObjectProvider<TaskExecutor> taskExecutor,
+			InFlightPublications inFlightPublications) {
+
+		return new PersistentApplicationEventMulticaster(() -> eventPublicationRegistry, taskExecutor::getIfUnique,
+				inFlightPublications);
+	}
+
+	@Bean
+	@Conditional(NoEventPublicationShardsDeclared.class)
+	EventPublicationShards eventPublicationShards(Environment environment) {
+
+		var count = environment.getProperty(HASH_SHARDS_PROPERTY, Integer.class, 1);
+
+		return count > 1 ? EventPublicationShards.hashed(count) : EventPublicationShards.NONE;
+	}
+
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	static ListenerInvocationTracker listenerInvocationTracker(Environment environment) {
+
+		var timeout = environment.getProperty(SHUTDOWN_DRAIN_TIMEOUT_PROPERTY, Duration.class,
+				DEFAULT_SHUTDOWN_DRAIN_TIMEOUT);
+
+		return new ListenerInvocationTracker(timeout);
+	}
 
-		return new PersistentApplicationEventMulticaster(() -> eventPublicationRegistry);
+	@Bean
+	IdempotencyStore idempotencyStore(Environment environment, ObjectProvider<IdempotencyRepository> repository) {
+
+		if (!isIdempotencyEnabled(environment)) {
+			return IdempotencyStore.NONE;
+		}
+
+		var capacity = getIdempotencyCapacity(environment);
+		var window = environment.getProperty(IDEMPOTENCY_WINDOW_PROPERTY, Duration.class, DEFAULT_IDEMPOTENCY_WINDOW);
+
+		return new DefaultIdempotencyStore(repository.getIfAvailable(), capacity, window);
+	}
+
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	static InFlightPublications inFlightPublications(Environment environment) {
+
+		return isIdempotencyEnabled(environment)
+				? new InFlightPublications(getIdempotencyCapacity(environment))
+				: InFlightPublications.NONE;
 	}
 
 	@Bean
 	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
-	static CompletionRegisteringAdvisor completionRegisteringAdvisor(ObjectFactory<EventPublicationRegistry> registry) {
-		return new CompletionRegisteringAdvisor(registry::getObject);
+	static CompletionRegisteringAdvisor completionRegisteringAdvisor(ObjectFactory<EventPublicationRegistry> registry,
+			ListenerInvocationTracker listenerInvocationTracker, ObjectFactory<IdempotencyStore> idempotencyStore,
+			InFlightPublications inFlightPublications) {
+		return new CompletionRegisteringAdvisor(registry::getObject, listenerInvocationTracker,
+				idempotencyStore::getObject, inFlightPublications);
+	}
+
+	private static boolean isIdempotencyEnabled(Environment environment) {
+		return environment.getProperty(IDEMPOTENCY_ENABLED_PROPERTY, Boolean.class, false);
+	}
+
+	private static int getIdempotencyCapacity(Environment environment) {
+		return environment.getProperty(IDEMPOTENCY_CAPACITY_PROPERTY, Integer.class, DEFAULT_IDEMPOTENCY_CAPACITY);
+	}
+
+	/**
+	 * Only registers the default {@link EventPublicationShards} if the application does not declare its own ones.
+	 */
+	static class NoEventPublicationShardsDeclared implements ConfigurationCondition {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.context.annotation.ConfigurationCondition#getConfigurationPhase()
+		 */
+		@Override
+		public ConfigurationPhase getConfigurationPhase() {
+			return ConfigurationPhase.REGISTER_BEAN;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.context.annotation.Condition#matches(org.springframework.context.annotation.ConditionContext, org.springframework.core.type.AnnotatedTypeMetadata)
+		 */
+		@Override
+		public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+
+			var beanFactory = context.getBeanFactory();
+
+			return beanFactory == null
+					|| beanFactory.getBeanNamesForType(EventPublicationShards.class, true, false).length == 0;
+		}
 	}
 }
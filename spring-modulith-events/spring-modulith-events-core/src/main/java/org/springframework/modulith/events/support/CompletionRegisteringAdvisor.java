@@ -16,6 +16,7 @@
 package org.springframework.modulith.events.support;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.function.Supplier;
 
 import org.aopalliance.aop.Advice;
@@ -33,6 +34,7 @@ import org.springframework.core.Ordered;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.lang.NonNull;
 import org.springframework.modulith.events.EventPublicationRegistry;
+import org.springframework.modulith.events.IdempotencyStore;
 import org.springframework.modulith.events.PublicationTargetIdentifier;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalApplicationListenerMethodAdapter;
@@ -59,8 +61,27 @@ public class CompletionRegisteringAdvisor extends AbstractPointcutAdvisor {
 	 * @param registry must not be {@literal null}.
 	 */
 	public CompletionRegisteringAdvisor(Supplier<EventPublicationRegistry> registry) {
+		this(registry, new ListenerInvocationTracker(Duration.ZERO), () -> IdempotencyStore.NONE,
+				InFlightPublications.NONE);
+	}
+
+	/**
+	 * Creates a new {@link CompletionRegisteringAdvisor} for the given {@link EventPublicationRegistry},
+	 * {@link ListenerInvocationTracker}, {@link IdempotencyStore} and the {@link InFlightPublications} the
+	 * {@link PersistentApplicationEventMulticaster} hands the publications of the events dispatched to.
+	 *
+	 * @param registry must not be {@literal null}.
+	 * @param tracker must not be {@literal null}.
+	 * @param idempotencyStore must not be {@literal null}.
+	 * @param inFlightPublications must not be {@literal null}.
+	 */
+	public CompletionRegisteringAdvisor(Supplier<EventPublicationRegistry> registry, ListenerInvocationTracker tracker,
+			Supplier<IdempotencyStore> idempotencyStore, InFlightPublications inFlightPublications) {
 
 		Assert.notNull(registry, "EventPublicationRegistry must not be null!");
+		Assert.notNull(tracker, "ListenerInvocationTracker must not be null!");
+		Assert.notNull(idempotencyStore, "IdempotencyStore must not be null!");
+		Assert.notNull(inFlightPublications, "InFlightPublications must not be null!");
 
 		this.pointcut = new AnnotationMatchingPointcut(null, TransactionalEventListener.class, true) {
 
@@ -74,7 +95,8 @@ public class CompletionRegisteringAdvisor extends AbstractPointcutAdvisor {
 			}
 		};
 
-		this.advice = new CompletionRegisteringMethodInterceptor(registry);
+		this.advice = new CompletionRegisteringMethodInterceptor(registry, tracker, idempotencyStore,
+				inFlightPublications);
 	}
 
 	/*
@@ -143,17 +165,32 @@ public class CompletionRegisteringAdvisor extends AbstractPointcutAdvisor {
 				100, CompletionRegisteringMethodInterceptor::createAdapter);
 
 		private final @NonNull Supplier<EventPublicationRegistry> registry;
+		private final @NonNull ListenerInvocationTracker tracker;
+		private final @NonNull Supplier<IdempotencyStore> idempotencyStore;
+		private final @NonNull InFlightPublications inFlightPublications;
 
 		/**
-		 * Creates a new {@link CompletionRegisteringMethodInterceptor} for the given {@link EventPublicationRegistry}.
+		 * Creates a new {@link CompletionRegisteringMethodInterceptor} for the given {@link EventPublicationRegistry},
+		 * {@link ListenerInvocationTracker}, {@link IdempotencyStore} and {@link InFlightPublications}.
 		 *
 		 * @param registry must not be {@literal null}.
+		 * @param tracker must not be {@literal null}.
+		 * @param idempotencyStore must not be {@literal null}.
+		 * @param inFlightPublications must not be {@literal null}.
 		 */
-		CompletionRegisteringMethodInterceptor(Supplier<EventPublicationRegistry> registry) {
+		CompletionRegisteringMethodInterceptor(Supplier<EventPublicationRegistry> registry,
+				ListenerInvocationTracker tracker, Supplier<IdempotencyStore> idempotencyStore,
+				InFlightPublications inFlightPublications) {
 
 			Assert.notNull(registry, "EventPublicationRegistry must not be null!");
+			Assert.notNull(tracker, "ListenerInvocationTracker must not be null!");
+			Assert.notNull(idempotencyStore, "IdempotencyStore must not be null!");
+			Assert.notNull(inFlightPublications, "InFlightPublications must not be null!");
 
 			this.registry = registry;
+			this.tracker = tracker;
+			this.idempotencyStore = idempotencyStore;
+			this.inFlightPublications = inFlightPublications;
 		}
 
 		/*
@@ -163,8 +200,44 @@ public class CompletionRegisteringAdvisor extends AbstractPointcutAdvisor {
 		@Override
 		public Object invoke(MethodInvocation invocation) throws Throwable {
 
+			var method = invocation.getMethod();
+
+			if (!tracker.register()) {
+
+				LOG.debug("Shutting down. Skipping invocation of listener {} and leaving event publication uncompleted.",
+						method);
+
+				return null;
+			}
+
+			try {
+				return invokeAndRegisterCompletion(invocation);
+			} finally {
+				tracker.unregister();
+			}
+		}
+
+		private Object invokeAndRegisterCompletion(MethodInvocation invocation) throws Throwable {
+
 			Object result = null;
 			var method = invocation.getMethod();
+			var event = invocation.getArguments()[0];
+			var identifier = PublicationTargetIdentifier.of(ADAPTERS.get(method).getListenerId());
+			var executions = idempotencyStore.get();
+
+			// Executions are tracked per publication, so that equal events published separately are not skipped
+			var publicationId = inFlightPublications.remove(event, identifier) //
+					.filter(__ -> executions != IdempotencyStore.NONE);
+
+			if (publicationId.filter(it -> executions.isProcessed(it, identifier)).isPresent()) {
+
+				LOG.debug("Listener {} already processed publication {}. Skipping invocation and completing it.", method,
+						publicationId.get());
+
+				registry.get().markCompleted(event, identifier);
+
+				return result;
+			}
 
 			try {
 				result = invocation.proceed();
@@ -177,13 +250,14 @@ public class CompletionRegisteringAdvisor extends AbstractPointcutAdvisor {
 							method, o_O.getMessage());
 				}
 
+				registry.get().markFailed(event, identifier, o_O);
+
 				return result;
 			}
 
 			// Mark publication complete if the method is a transactional event listener.
-			String adapterId = ADAPTERS.get(method).getListenerId();
-			PublicationTargetIdentifier identifier = PublicationTargetIdentifier.of(adapterId);
-			registry.get().markCompleted(invocation.getArguments()[0], identifier);
+			publicationId.ifPresent(it -> executions.markProcessed(it, identifier));
+			registry.get().markCompleted(event, identifier);
 
 			return result;
 		}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+import org.springframework.modulith.events.EventPublication;
+import org.springframework.modulith.events.IdempotencyStore;
+import org.springframework.modulith.events.PublicationTargetIdentifier;
+import org.springframework.util.Assert;
+
+/**
+ * Hands the identifiers of the {@link EventPublication}s created or resubmitted by the
+ * {@link PersistentApplicationEventMulticaster} to the {@link CompletionRegisteringAdvisor}, so that listener
+ * executions can be tracked in an {@link IdempotencyStore} without looking up the publication for every listener
+ * invocation. Publications are registered for the event instance handed to the listeners and removed once the
+ * corresponding listener is invoked. As listeners might never be invoked for an event, e.g. because their condition
+ * does not match, only the given number of most recently published events is kept.
+ *
+ * @author Oliver Drotbohm
+ * @see IdempotencyStore
+ */
+public class InFlightPublications {
+
+	/**
+	 * {@link InFlightPublications} that do not keep track of any publication.
+	 */
+	public static final InFlightPublications NONE = new InFlightPublications();
+
+	private final Map<EventKey, Map<PublicationTargetIdentifier, String>> identifiers;
+
+	/**
+	 * Creates a new {@link InFlightPublications} keeping track of the publications of the given number of events.
+	 *
+	 * @param capacity must be greater than zero.
+	 */
+	public InFlightPublications(int capacity) {
+
+		Assert.isTrue(capacity > 0, "Capacity must be greater than zero!");
+
+		this.identifiers = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f) {
+
+			private static final long serialVersionUID = 2573297524470224385L;
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+			 */
+			@Override
+			protected boolean removeEldestEntry(Entry<EventKey, Map<PublicationTargetIdentifier, String>> eldest) {
+				return size() > capacity;
+			}
+		});
+	}
+
+	private InFlightPublications() {
+		this.identifiers = Collections.emptyMap();
+	}
+
+	/**
+	 * Registers the identifiers of the given {@link EventPublication}s for the given event instance.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param publications must not be {@literal null}.
+	 */
+	void register(Object event, Collection<EventPublication> publications) {
+
+		Assert.notNull(event, "Event must not be null!");
+		Assert.notNull(publications, "EventPublications must not be null!");
+
+		if (this == NONE) {
+			return;
+		}
+
+		var byListener = new HashMap<PublicationTargetIdentifier, String>();
+
+		publications.forEach(it -> it.getIdentifier() //
+				.ifPresent(id -> byListener.put(it.getTargetIdentifier(), id)));
+
+		if (!byListener.isEmpty()) {
+			identifiers.put(new EventKey(event), byListener);
+		}
+	}
+
+	/**
+	 * Removes and returns the identifier of the publication of the given event instance to the listener with the given
+	 * {@link PublicationTargetIdentifier}.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param identifier must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Optional<String> remove(Object event, PublicationTargetIdentifier identifier) {
+
+		Assert.notNull(event, "Event must not be null!");
+		Assert.notNull(identifier, "PublicationTargetIdentifier must not be null!");
+
+		if (this == NONE) {
+			return Optional.empty();
+		}
+
+		synchronized (identifiers) {
+
+			var key = new EventKey(event);
+			var byListener = identifiers.get(key);
+
+			if (byListener == null) {
+				return Optional.empty();
+			}
+
+			var result = Optional.ofNullable(byListener.remove(identifier));
+
+			if (byListener.isEmpty()) {
+				identifiers.remove(key);
+			}
+
+			return result;
+		}
+	}
+
+	/**
+	 * Removes all publications registered for the given event instance.
+	 *
+	 * @param event must not be {@literal null}.
+	 */
+	void removeAll(Object event) {
+
+		Assert.notNull(event, "Event must not be null!");
+
+		if (this != NONE) {
+			identifiers.remove(new EventKey(event));
+		}
+	}
+
+	/**
+	 * Identifies events by instance, so that equal events published separately are kept apart.
+	 */
+	private record EventKey(Object event) {
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Record#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof EventKey that && this.event == that.event;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Record#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(event);
+		}
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.util.Assert;
+
+/**
+ * Keeps track of the transactional event listener invocations currently in progress and drains them on application
+ * shutdown. Once {@link #stop()} has been called, no new invocations are accepted, so that the corresponding event
+ * publications stay incomplete and get resubmitted on the next application start. Invocations already running are
+ * given the configured timeout to complete.
+ *
+ * @author Oliver Drotbohm
+ * @see CompletionRegisteringAdvisor
+ */
+public class ListenerInvocationTracker implements SmartLifecycle {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ListenerInvocationTracker.class);
+
+	private final Duration timeout;
+	private final Object monitor = new Object();
+
+	private int invocationsInProgress;
+	private boolean draining;
+
+	/**
+	 * Creates a new {@link ListenerInvocationTracker} waiting for the given timeout for listener invocations in progress
+	 * on shutdown.
+	 *
+	 * @param timeout must not be {@literal null} or negative.
+	 */
+	public ListenerInvocationTracker(Duration timeout) {
+
+		Assert.notNull(timeout, "Timeout must not be null!");
+		Assert.isTrue(!timeout.isNegative(), "Timeout must not be negative!");
+
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Registers the start of a listener invocation. Callers must only proceed with the invocation if this method returns
+	 * {@literal true} and have to call {@link #unregister()} once the invocation has finished.
+	 *
+	 * @return whether the invocation is allowed to proceed.
+	 */
+	boolean register() {
+
+		synchronized (monitor) {
+
+			if (draining) {
+				return false;
+			}
+
+			invocationsInProgress++;
+
+			return true;
+		}
+	}
+
+	/**
+	 * Registers the end of a listener invocation previously registered via {@link #register()}.
+	 */
+	void unregister() {
+
+		synchronized (monitor) {
+
+			invocationsInProgress--;
+
+			if (invocationsInProgress == 0) {
+				monitor.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of listener invocations currently in progress.
+	 *
+	 * @return
+	 */
+	public int getInvocationsInProgress() {
+
+		synchronized (monitor) {
+			return invocationsInProgress;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.Lifecycle#start()
+	 */
+	@Override
+	public void start() {
+
+		synchronized (monitor) {
+			this.draining = false;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.Lifecycle#stop()
+	 */
+	@Override
+	public void stop() {
+
+		synchronized (monitor) {
+
+			this.draining = true;
+
+			if (invocationsInProgress == 0) {
+				return;
+			}
+
+			LOGGER.info("Waiting up to {} for {} event listener invocation(s) to complete…", timeout,
+					invocationsInProgress);
+
+			var deadline = System.nanoTime() + timeout.toNanos();
+			var remaining = timeout.toNanos();
+
+			while (invocationsInProgress > 0 && remaining > 0) {
+
+				try {
+					monitor.wait(Math.max(1, remaining / 1_000_000));
+				} catch (InterruptedException o_O) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+
+				remaining = deadline - System.nanoTime();
+			}
+
+			if (invocationsInProgress > 0) {
+				LOGGER.warn("{} event listener invocation(s) still in progress after {}. Shutting down anyway.",
+						invocationsInProgress, timeout);
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.Lifecycle#isRunning()
+	 */
+	@Override
+	public boolean isRunning() {
+
+		synchronized (monitor) {
+			return !draining;
+		}
+	}
+}
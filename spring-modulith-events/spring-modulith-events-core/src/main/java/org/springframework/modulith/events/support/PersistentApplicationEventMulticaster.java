@@ -16,7 +16,11 @@
 package org.springframework.modulith.events.support;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -38,6 +42,8 @@ import org.springframework.modulith.events.PublicationTargetIdentifier;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalApplicationListener;
 import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 /**
@@ -47,6 +53,9 @@ import org.springframework.util.Assert;
  * <p>
  * Republication is handled in {@link #afterSingletonsInstantiated()} inspecting the {@link EventPublicationRegistry}
  * for incomplete publications and
+ * <p>
+ * If publications are distributed across multiple shards and an {@link Executor} is available, the shards are
+ * processed in parallel using that {@link Executor}.
  *
  * @author Oliver Drotbohm
  * @see CompletionRegisteringAdvisor
@@ -57,6 +66,8 @@ public class PersistentApplicationEventMulticaster extends AbstractApplicationEv
 	private static final Logger LOGGER = LoggerFactory.getLogger(PersistentApplicationEventMulticaster.class);
 
 	private final @NonNull Supplier<EventPublicationRegistry> registry;
+	private final @NonNull Supplier<Executor> executor;
+	private final @NonNull InFlightPublications inFlightPublications;
 
 	/**
 	 * Creates a new {@link PersistentApplicationEventMulticaster} for the given {@link EventPublicationRegistry}.
@@ -64,10 +75,41 @@ public class PersistentApplicationEventMulticaster extends AbstractApplicationEv
 	 * @param registry must not be {@literal null}.
 	 */
 	public PersistentApplicationEventMulticaster(Supplier<EventPublicationRegistry> registry) {
+		this(registry, () -> null);
+	}
+
+	/**
+	 * Creates a new {@link PersistentApplicationEventMulticaster} for the given {@link EventPublicationRegistry} and
+	 * {@link Executor} to resubmit the incomplete publications of multiple shards in parallel. If the {@link Supplier}
+	 * returns {@literal null}, the shards are processed sequentially.
+	 *
+	 * @param registry must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 */
+	public PersistentApplicationEventMulticaster(Supplier<EventPublicationRegistry> registry,
+			Supplier<Executor> executor) {
+		this(registry, executor, InFlightPublications.NONE);
+	}
+
+	/**
+	 * Creates a new {@link PersistentApplicationEventMulticaster} for the given {@link EventPublicationRegistry},
+	 * {@link Executor} and {@link InFlightPublications} to hand the publications created and resubmitted to the
+	 * {@link CompletionRegisteringAdvisor}.
+	 *
+	 * @param registry must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @param inFlightPublications must not be {@literal null}.
+	 */
+	public PersistentApplicationEventMulticaster(Supplier<EventPublicationRegistry> registry,
+			Supplier<Executor> executor, InFlightPublications inFlightPublications) {
 
 		Assert.notNull(registry, "EventPublicationRegistry must not be null!");
+		Assert.notNull(executor, "Executor must not be null!");
+		Assert.notNull(inFlightPublications, "InFlightPublications must not be null!");
 
 		this.registry = registry;
+		this.executor = executor;
+		this.inFlightPublications = inFlightPublications;
 	}
 
 	/*
@@ -97,13 +139,33 @@ public class PersistentApplicationEventMulticaster extends AbstractApplicationEv
 		var txListeners = new TransactionalEventListeners(listeners);
 		var eventToPersist = getEventToPersist(event);
 
-		registry.get().store(eventToPersist, txListeners.stream() //
+		var publications = registry.get().store(eventToPersist, txListeners.stream() //
 				.map(TransactionalApplicationListener::getListenerId) //
 				.map(PublicationTargetIdentifier::of));
 
+		inFlightPublications.register(eventToPersist, publications);
+
 		for (ApplicationListener listener : listeners) {
 			listener.onApplicationEvent(event);
 		}
+
+		// Registered after the listeners' synchronizations to run after them
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				/*
+				 * (non-Javadoc)
+				 * @see org.springframework.transaction.support.TransactionSynchronization#afterCompletion(int)
+				 */
+				@Override
+				public void afterCompletion(int status) {
+
+					if (status != STATUS_COMMITTED) {
+						inFlightPublications.removeAll(eventToPersist);
+					}
+				}
+			});
+		}
 	}
 
 	/*
@@ -113,9 +175,52 @@ public class PersistentApplicationEventMulticaster extends AbstractApplicationEv
 	@Override
 	public void afterSingletonsInstantiated() {
 
-		LOGGER.debug("Looking up previously pending event publications…");
+		var shards = registry.get().getShards();
+		var executor = shards.size() < 2 ? null : this.executor.get();
+
+		if (executor == null) {
+			shards.forEach(this::resubmitIncompletePublications);
+			return;
+		}
 
-		var publications = registry.get().findIncompletePublications();
+		var resubmissions = new LinkedHashMap<String, CompletableFuture<Void>>();
+
+		shards.forEach(it -> resubmissions.put(it,
+				CompletableFuture.runAsync(() -> resubmitIncompletePublications(it), executor)));
+
+		RuntimeException failure = null;
+
+		// Wait for all shards, so that the failure of one does not hide the ones of the others
+		for (var resubmission : resubmissions.entrySet()) {
+
+			try {
+
+				resubmission.getValue().join();
+
+			} catch (CompletionException o_O) {
+
+				var cause = o_O.getCause();
+
+				LOGGER.error("Resubmitting incomplete publications of shard '{}' failed!", resubmission.getKey(), cause);
+
+				if (failure == null) {
+					failure = cause instanceof RuntimeException exception ? exception : o_O;
+				} else {
+					failure.addSuppressed(cause);
+				}
+			}
+		}
+
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private void resubmitIncompletePublications(String shard) {
+
+		LOGGER.debug("Looking up previously pending event publications in shard '{}'…", shard);
+
+		var publications = registry.get().findIncompletePublications(shard);
 
 		LOGGER.debug("{} found.", publications.isEmpty() ? "None" : publications.size());
 
@@ -141,7 +246,10 @@ public class PersistentApplicationEventMulticaster extends AbstractApplicationEv
 	private ApplicationListener<ApplicationEvent> executeListenerWithCompletion(EventPublication publication,
 			TransactionalApplicationListener<ApplicationEvent> listener) {
 
-		listener.processEvent(publication.getApplicationEvent());
+		var event = publication.getApplicationEvent();
+
+		inFlightPublications.register(getEventToPersist(event), List.of(publication));
+		listener.processEvent(event);
 
 		return listener;
 	}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Unit tests for {@link DefaultEventPublicationRegistry}.
+ *
+ * @author Oliver Drotbohm
+ */
+class DefaultEventPublicationRegistryUnitTests {
+
+	static final PublicationTargetIdentifier IDENTIFIER = PublicationTargetIdentifier.of("listener");
+
+	EventPublicationRepository repository = mock(EventPublicationRepository.class);
+
+	@Test
+	void forwardsFailureWithConfiguredMaximumNumberOfAttempts() {
+
+		var registry = new DefaultEventPublicationRegistry(repository, 3);
+
+		registry.markFailed("event", IDENTIFIER, new IllegalStateException("Failure!"));
+
+		verify(repository).markFailed("event", IDENTIFIER, "java.lang.IllegalStateException: Failure!", 3);
+	}
+
+	@Test
+	void neverDeadLettersPublicationsByDefault() {
+
+		var registry = new DefaultEventPublicationRegistry(repository);
+
+		registry.markFailed("event", IDENTIFIER, new IllegalStateException());
+
+		verify(repository).markFailed("event", IDENTIFIER, "java.lang.IllegalStateException", Integer.MAX_VALUE);
+	}
+
+	@Test
+	void truncatesLongErrorMessages() {
+
+		var registry = new DefaultEventPublicationRegistry(repository, 3);
+		var captor = ArgumentCaptor.forClass(String.class);
+
+		registry.markFailed("event", IDENTIFIER, new IllegalStateException("x".repeat(5000)));
+
+		verify(repository).markFailed(eq("event"), eq(IDENTIFIER), captor.capture(), eq(3));
+
+		assertThat(captor.getValue()).hasSize(1000).startsWith("java.lang.IllegalStateException: xxx");
+	}
+
+	@Test
+	void completesPublicationFoundInRepository() {
+
+		var registry = new DefaultEventPublicationRegistry(repository);
+		var publication = mock(CompletableEventPublication.class);
+
+		when(repository.findIncompletePublicationsByEventAndTargetIdentifier("event", IDENTIFIER))
+				.thenReturn(Optional.of(publication));
+		when(publication.markCompleted()).thenReturn(publication);
+
+		registry.markCompleted("event", IDENTIFIER);
+
+		verify(publication).markCompleted();
+		verify(publication, never()).getEvent();
+		verify(repository).update(publication);
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Unit tests for {@link DefaultIdempotencyStore}.
+ *
+ * @author Oliver Drotbohm
+ */
+class DefaultIdempotencyStoreUnitTests {
+
+	static final PublicationTargetIdentifier IDENTIFIER = PublicationTargetIdentifier.of("listener");
+
+	IdempotencyRepository repository = mock(IdempotencyRepository.class);
+
+	@Test
+	void detectsProcessedPublications() {
+
+		var store = new DefaultIdempotencyStore(null, 10, Duration.ofMinutes(1));
+
+		assertThat(store.isProcessed("first", IDENTIFIER)).isFalse();
+
+		store.markProcessed("first", IDENTIFIER);
+
+		assertThat(store.isProcessed("first", IDENTIFIER)).isTrue();
+		assertThat(store.isProcessed("second", IDENTIFIER)).isFalse();
+		assertThat(store.isProcessed("first", PublicationTargetIdentifier.of("other"))).isFalse();
+	}
+
+	@Test
+	void doesNotConsultRepositoryForUnknownPublications() {
+
+		var store = new DefaultIdempotencyStore(repository, 10, Duration.ofMinutes(1));
+
+		assertThat(store.isProcessed("first", IDENTIFIER)).isFalse();
+
+		verify(repository, never()).exists(any());
+	}
+
+	@Test
+	void persistsProcessedPublications() {
+
+		var store = new DefaultIdempotencyStore(repository, 10, Duration.ofMinutes(1));
+
+		store.markProcessed("first", IDENTIFIER);
+
+		verify(repository).save(any(), any());
+	}
+
+	@Test
+	void detectsPublicationsProcessedBeforeRestart() {
+
+		var previous = new DefaultIdempotencyStore(repository, 10, Duration.ofMinutes(1));
+		previous.markProcessed("first", IDENTIFIER);
+
+		var captor = ArgumentCaptor.forClass(String.class);
+		verify(repository).save(captor.capture(), any());
+
+		when(repository.findKeysExecutedSince(any())).thenReturn(List.of(captor.getValue()));
+		when(repository.exists(captor.getValue())).thenReturn(true);
+
+		var store = new DefaultIdempotencyStore(repository, 10, Duration.ofMinutes(1));
+		store.afterPropertiesSet();
+
+		assertThat(store.isProcessed("first", IDENTIFIER)).isTrue();
+		verify(repository, atLeastOnce()).deleteExecutedBefore(any());
+	}
+
+	@Test
+	void fallsBackToRepositoryForEvictedEntries() {
+
+		var store = new DefaultIdempotencyStore(repository, 1, Duration.ofMinutes(1));
+
+		store.markProcessed("first", IDENTIFIER);
+		store.markProcessed("second", IDENTIFIER);
+
+		when(repository.exists(any())).thenReturn(true);
+
+		assertThat(store.isProcessed("first", IDENTIFIER)).isTrue();
+		verify(repository).exists(any());
+	}
+
+	@Test
+	void prunesPersistedExecutionsOnceWindowRotated() {
+
+		var clock = mock(Clock.class);
+		var now = Instant.now();
+		var window = Duration.ofMinutes(1);
+
+		when(clock.instant()).thenReturn(now);
+
+		var store = new DefaultIdempotencyStore(repository, 10, window, clock);
+		store.afterPropertiesSet();
+		store.markProcessed("first", IDENTIFIER);
+
+		verify(repository, times(1)).deleteExecutedBefore(any());
+
+		when(clock.instant()).thenReturn(now.plus(window));
+
+		store.markProcessed("second", IDENTIFIER);
+		store.markProcessed("third", IDENTIFIER);
+
+		verify(repository).deleteExecutedBefore(now);
+		verify(repository, times(2)).deleteExecutedBefore(any());
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link EventPublicationShards}.
+ *
+ * @author Oliver Drotbohm
+ */
+class EventPublicationShardsUnitTests {
+
+	@Test
+	void routesAllPublicationsToDefaultShardByDefault() {
+
+		var shards = EventPublicationShards.NONE;
+
+		assertThat(shards.getShards()).containsExactly(EventPublicationShards.DEFAULT_SHARD);
+		assertThat(shards.getShardFor(PublicationTargetIdentifier.of("listener")))
+				.isEqualTo(EventPublicationShards.DEFAULT_SHARD);
+		assertThat(shards.isSharded()).isFalse();
+	}
+
+	@Test
+	void distributesPublicationsAcrossHashedShards() {
+
+		var shards = EventPublicationShards.hashed(4);
+
+		assertThat(shards.getShards()).containsExactly("0", "1", "2", "3");
+		assertThat(shards.isSharded()).isTrue();
+
+		var used = IntStream.range(0, 100)
+				.mapToObj(it -> PublicationTargetIdentifier.of("listener" + it))
+				.map(shards::getShardFor)
+				.distinct()
+				.toList();
+
+		assertThat(used).containsExactlyInAnyOrderElementsOf(shards.getShards());
+	}
+
+	@Test
+	void routesPublicationsToSameHashedShardConsistently() {
+
+		var identifier = PublicationTargetIdentifier.of("example.order.OrderListener.on(example.order.OrderCompleted)");
+
+		assertThat(EventPublicationShards.hashed(8).getShardFor(identifier))
+				.isEqualTo(EventPublicationShards.hashed(8).getShardFor(identifier));
+	}
+
+	@Test
+	void routesPublicationsByLongestMatchingPrefix() {
+
+		var shards = EventPublicationShards.byPrefix(Map.of("example.order", "orders",
+				"example.order.internal", "internal", "example.inventory", "inventory"));
+
+		assertThat(shards.getShards()).hasSize(4).first().isEqualTo(EventPublicationShards.DEFAULT_SHARD);
+		assertThat(shards.getShardFor(PublicationTargetIdentifier.of("example.order.Listener.on(Object)")))
+				.isEqualTo("orders");
+		assertThat(shards.getShardFor(PublicationTargetIdentifier.of("example.order.internal.Listener.on(Object)")))
+				.isEqualTo("internal");
+		assertThat(shards.getShardFor(PublicationTargetIdentifier.of("example.customer.Listener.on(Object)")))
+				.isEqualTo(EventPublicationShards.DEFAULT_SHARD);
+	}
+
+	@Test
+	void rejectsInvalidNumberOfHashedShards() {
+		assertThatIllegalArgumentException().isThrownBy(() -> EventPublicationShards.hashed(0));
+	}
+}
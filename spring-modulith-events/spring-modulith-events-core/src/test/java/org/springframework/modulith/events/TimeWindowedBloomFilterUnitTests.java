@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TimeWindowedBloomFilter}.
+ *
+ * @author Oliver Drotbohm
+ */
+class TimeWindowedBloomFilterUnitTests {
+
+	static final Duration WINDOW = Duration.ofMinutes(10);
+	static final Instant NOW = Instant.parse("2023-01-01T00:00:00Z");
+
+	Clock clock = mock(Clock.class);
+
+	@Test
+	void containsAddedElements() {
+
+		when(clock.instant()).thenReturn(NOW);
+
+		var filter = new TimeWindowedBloomFilter(1000, 0.01, WINDOW, clock);
+
+		IntStream.range(0, 1000).forEach(it -> filter.add(digest(it)));
+
+		assertThat(IntStream.range(0, 1000)).allMatch(it -> filter.mightContain(digest(it)));
+	}
+
+	@Test
+	void keepsFalsePositivesWithinBounds() {
+
+		when(clock.instant()).thenReturn(NOW);
+
+		var filter = new TimeWindowedBloomFilter(1000, 0.01, WINDOW, clock);
+
+		IntStream.range(0, 1000).forEach(it -> filter.add(digest(it)));
+
+		var falsePositives = IntStream.range(1000, 11000).filter(it -> filter.mightContain(digest(it))).count();
+
+		assertThat(falsePositives).isLessThan(300);
+	}
+
+	@Test
+	void forgetsElementsAfterTwoWindows() {
+
+		when(clock.instant()).thenReturn(NOW);
+
+		var filter = new TimeWindowedBloomFilter(1000, 0.01, WINDOW, clock);
+		filter.add(digest(42));
+
+		when(clock.instant()).thenReturn(NOW.plus(WINDOW));
+
+		assertThat(filter.mightContain(digest(42))).isTrue();
+
+		when(clock.instant()).thenReturn(NOW.plus(WINDOW.multipliedBy(2)));
+
+		assertThat(filter.mightContain(digest(42))).isFalse();
+	}
+
+	@Test
+	void exposesHorizon() {
+
+		when(clock.instant()).thenReturn(NOW);
+
+		var filter = new TimeWindowedBloomFilter(1000, 0.01, WINDOW, clock);
+
+		assertThat(filter.getHorizon()).isEqualTo(NOW.minus(WINDOW));
+	}
+
+	private static byte[] digest(int value) {
+
+		var random = new Random(value);
+
+		return ByteBuffer.allocate(16).putLong(random.nextLong()).putLong(random.nextLong()).array();
+	}
+}
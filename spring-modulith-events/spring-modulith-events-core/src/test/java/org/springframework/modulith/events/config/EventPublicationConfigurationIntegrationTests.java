@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.modulith.events.EventPublicationRepository;
+import org.springframework.modulith.events.EventPublicationShards;
+import org.springframework.modulith.events.PublicationTargetIdentifier;
+
+/**
+ * Integration tests for {@link EventPublicationConfiguration}.
+ *
+ * @author Oliver Drotbohm
+ */
+class EventPublicationConfigurationIntegrationTests {
+
+	@Test
+	void registersSingleShardByDefault() {
+
+		withContext(Map.of(), context -> {
+			assertThat(context.getBean(EventPublicationShards.class)).isSameAs(EventPublicationShards.NONE);
+		});
+	}
+
+	@Test
+	void registersHashedShardsIfConfigured() {
+
+		withContext(Map.of("spring.modulith.events.sharding.hash-shards", "3"), context -> {
+			assertThat(context.getBean(EventPublicationShards.class).getShards()).containsExactly("0", "1", "2");
+		});
+	}
+
+	@Test
+	void backsOffIfShardsAreDeclared() {
+
+		var shards = EventPublicationShards.byPrefix(Map.of("example", "example"));
+
+		withContext(Map.of("spring.modulith.events.sharding.hash-shards", "3"), context -> {
+
+			assertThat(context.getBean(EventPublicationShards.class)).isSameAs(shards);
+			assertThat(context.getBean(EventPublicationShards.class)
+					.getShardFor(PublicationTargetIdentifier.of("example.Listener"))).isEqualTo("example");
+
+		}, shards);
+	}
+
+	private static void withContext(Map<String, Object> properties, Consumer<AnnotationConfigApplicationContext> callback,
+			EventPublicationShards... shards) {
+
+		try (var context = new AnnotationConfigApplicationContext()) {
+
+			context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", properties));
+			context.registerBean(EventPublicationRepository.class, () -> mock(EventPublicationRepository.class));
+
+			for (EventPublicationShards it : shards) {
+				context.registerBean(EventPublicationShards.class, () -> it);
+			}
+
+			context.register(EventPublicationConfiguration.class);
+			context.refresh();
+
+			callback.accept(context);
+		}
+	}
+}
@@ -19,13 +19,19 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.aop.framework.Advised;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.context.event.EventListener;
+import org.springframework.modulith.events.EventPublication;
 import org.springframework.modulith.events.EventPublicationRegistry;
+import org.springframework.modulith.events.IdempotencyStore;
+import org.springframework.modulith.events.PublicationTargetIdentifier;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
@@ -36,7 +42,10 @@ import org.springframework.transaction.event.TransactionalEventListener;
  */
 class CompletionRegisteringAdvisorUnitTests {
 
+	static final PublicationTargetIdentifier IDENTIFIER = PublicationTargetIdentifier.of("listener");
+
 	EventPublicationRegistry registry = mock(EventPublicationRegistry.class);
+	InFlightPublications inFlightPublications = new InFlightPublications(10);
 	SomeEventListener bean = new SomeEventListener();
 
 	@Test
@@ -59,6 +68,129 @@ class CompletionRegisteringAdvisorUnitTests {
 		assertNonCompletion(SomeEventListener::nonEventListener);
 	}
 
+	@Test
+	void skipsListenerInvocationOnceShutdownDrainStarted() {
+
+		var tracker = new ListenerInvocationTracker(Duration.ZERO);
+		var listener = spy(bean);
+
+		var factory = new ProxyFactory(listener);
+		factory.setProxyTargetClass(true);
+		factory.addAdvisor(new CompletionRegisteringAdvisor(() -> registry, tracker, () -> IdempotencyStore.NONE,
+				InFlightPublications.NONE));
+		var proxy = (SomeEventListener) factory.getProxy();
+
+		tracker.stop();
+		proxy.onAfterCommit(new Object());
+
+		verify(listener, never()).onAfterCommit(any());
+		verify(registry, never()).markCompleted(any(), any());
+	}
+
+	@Test
+	void skipsListenerInvocationForAlreadyProcessedPublicationButCompletesIt() {
+
+		var store = mock(IdempotencyStore.class);
+		var listener = spy(bean);
+		var event = new Object();
+
+		registerPublication(event, "first");
+		when(store.isProcessed(eq("first"), any())).thenReturn(true);
+
+		((SomeEventListener) createProxyFor(listener, store)).onAfterCommit(event);
+
+		verify(listener, never()).onAfterCommit(any());
+		verify(store, never()).markProcessed(any(), any());
+		verify(registry).markCompleted(eq(event), any());
+	}
+
+	@Test
+	void invokesListenerForEqualEventOfOtherPublication() {
+
+		var store = mock(IdempotencyStore.class);
+		var listener = spy(bean);
+		var event = new Object();
+
+		registerPublication(event, "second");
+		when(store.isProcessed(eq("first"), any())).thenReturn(true);
+
+		((SomeEventListener) createProxyFor(listener, store)).onAfterCommit(event);
+
+		verify(listener).onAfterCommit(event);
+		verify(store).markProcessed(eq("second"), any());
+		verify(registry).markCompleted(eq(event), any());
+	}
+
+	@Test
+	void recordsProcessedPublicationAfterSuccessfulListenerInvocation() {
+
+		var store = mock(IdempotencyStore.class);
+		var event = new Object();
+
+		registerPublication(event, "first");
+
+		((SomeEventListener) createProxyFor(bean, store)).onAfterCommit(event);
+
+		verify(store).markProcessed(eq("first"), any());
+		verify(registry).markCompleted(eq(event), any());
+	}
+
+	@Test
+	void invokesListenerWithoutTrackingIfPublicationIsNotInFlight() {
+
+		var store = mock(IdempotencyStore.class);
+		var listener = spy(bean);
+		var event = new Object();
+
+		((SomeEventListener) createProxyFor(listener, store)).onAfterCommit(event);
+
+		verify(listener).onAfterCommit(event);
+		verify(store, never()).isProcessed(any(), any());
+		verify(store, never()).markProcessed(any(), any());
+	}
+
+	@Test
+	void consumesInFlightPublicationWithoutConsultingRegistry() {
+
+		var store = mock(IdempotencyStore.class);
+		var event = new Object();
+		var proxy = (SomeEventListener) createProxyFor(bean, store);
+
+		registerPublication(event, "first");
+
+		proxy.onAfterCommit(event);
+		proxy.onAfterCommit(event);
+
+		verify(store).markProcessed(eq("first"), any());
+		verify(registry, never()).findIncompletePublications();
+		verify(registry, times(2)).markCompleted(eq(event), any());
+	}
+
+	@Test
+	void doesNotTrackExecutionsWithoutIdempotencyStore() {
+
+		var event = new Object();
+
+		registerPublication(event, "first");
+
+		((SomeEventListener) createProxyFor(bean, IdempotencyStore.NONE)).onAfterCommit(event);
+
+		assertThat(inFlightPublications.remove(event, IDENTIFIER)).isEmpty();
+		verify(registry).markCompleted(eq(event), any());
+	}
+
+	@Test
+	void recordsFailureOfListenerInvocation() {
+
+		var event = new Object();
+		var proxy = (SomeEventListener) createProxyFor(bean);
+
+		proxy.onAfterCommitFailing(event);
+
+		verify(registry).markFailed(eq(event), any(), any(IllegalStateException.class));
+		verify(registry, never()).markCompleted(any(), any());
+	}
+
 	private void assertCompletion(BiConsumer<SomeEventListener, Object> consumer) {
 		assertCompletion(consumer, true);
 	}
@@ -85,11 +217,34 @@ class CompletionRegisteringAdvisorUnitTests {
 		return factory.getProxy();
 	}
 
+	private Object createProxyFor(Object bean, IdempotencyStore store) {
+
+		ProxyFactory factory = new ProxyFactory(bean);
+		factory.setProxyTargetClass(true);
+		factory.addAdvisor(new CompletionRegisteringAdvisor(() -> registry,
+				new ListenerInvocationTracker(Duration.ZERO), () -> store, inFlightPublications));
+		return factory.getProxy();
+	}
+
+	private void registerPublication(Object event, String id) {
+
+		var publication = mock(EventPublication.class);
+		when(publication.getIdentifier()).thenReturn(Optional.of(id));
+		when(publication.getTargetIdentifier()).thenReturn(IDENTIFIER);
+
+		inFlightPublications.register(event, List.of(publication));
+	}
+
 	static class SomeEventListener {
 
-		@TransactionalEventListener
+		@TransactionalEventListener(id = "listener")
 		void onAfterCommit(Object event) {}
 
+		@TransactionalEventListener
+		void onAfterCommitFailing(Object event) {
+			throw new IllegalStateException("Failure!");
+		}
+
 		@TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
 		void onAfterRollback(Object object) {}
 
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ListenerInvocationTracker}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ListenerInvocationTrackerUnitTests {
+
+	@Test
+	void acceptsInvocationsUntilStopped() {
+
+		var tracker = new ListenerInvocationTracker(Duration.ZERO);
+
+		assertThat(tracker.isRunning()).isTrue();
+		assertThat(tracker.register()).isTrue();
+
+		tracker.unregister();
+		tracker.stop();
+
+		assertThat(tracker.isRunning()).isFalse();
+		assertThat(tracker.register()).isFalse();
+	}
+
+	@Test
+	void acceptsInvocationsAgainAfterRestart() {
+
+		var tracker = new ListenerInvocationTracker(Duration.ZERO);
+
+		tracker.stop();
+		tracker.start();
+
+		assertThat(tracker.register()).isTrue();
+	}
+
+	@Test
+	void waitsForInvocationsInProgressOnStop() throws Exception {
+
+		var tracker = new ListenerInvocationTracker(Duration.ofSeconds(5));
+
+		assertThat(tracker.register()).isTrue();
+
+		var stopped = CompletableFuture.runAsync(tracker::stop);
+
+		Thread.sleep(50);
+
+		assertThat(stopped).isNotDone();
+
+		tracker.unregister();
+
+		stopped.get(1, TimeUnit.SECONDS);
+
+		assertThat(tracker.getInvocationsInProgress()).isZero();
+	}
+
+	@Test
+	void stopsAfterTimeoutEvenIfInvocationsAreStillInProgress() {
+
+		var tracker = new ListenerInvocationTracker(Duration.ofMillis(20));
+
+		assertThat(tracker.register()).isTrue();
+
+		tracker.stop();
+
+		assertThat(tracker.isRunning()).isFalse();
+		assertThat(tracker.getInvocationsInProgress()).isOne();
+	}
+
+	@Test
+	void rejectsNegativeTimeout() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new ListenerInvocationTracker(Duration.ofSeconds(-1)));
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.modulith.events.EventPublication;
+import org.springframework.modulith.events.EventPublicationRegistry;
+import org.springframework.modulith.events.PublicationTargetIdentifier;
+import org.springframework.transaction.event.TransactionalApplicationListener;
+
+/**
+ * Unit tests for {@link PersistentApplicationEventMulticaster}.
+ *
+ * @author Oliver Drotbohm
+ */
+class PersistentApplicationEventMulticasterUnitTests {
+
+	EventPublicationRegistry registry = mock(EventPublicationRegistry.class);
+	PersistentApplicationEventMulticaster multicaster = new PersistentApplicationEventMulticaster(() -> registry);
+
+	@Test
+	void looksUpIncompletePublicationsOfSingleShardInCallingThread() {
+
+		when(registry.getShards()).thenReturn(List.of(""));
+
+		var threads = ConcurrentHashMap.<Thread> newKeySet();
+
+		when(registry.findIncompletePublications("")).then(it -> {
+			threads.add(Thread.currentThread());
+			return List.of();
+		});
+
+		multicaster.afterSingletonsInstantiated();
+
+		assertThat(threads).containsExactly(Thread.currentThread());
+	}
+
+	@Test
+	void looksUpIncompletePublicationsOfAllShardsUsingExecutor() {
+
+		var shards = List.of("0", "1", "2");
+		var executor = spy(new SimpleAsyncTaskExecutor());
+		Set<String> looked = ConcurrentHashMap.newKeySet();
+
+		when(registry.getShards()).thenReturn(shards);
+		when(registry.findIncompletePublications(anyString())).then(it -> {
+			looked.add(it.getArgument(0));
+			return List.of();
+		});
+
+		new PersistentApplicationEventMulticaster(() -> registry, () -> executor).afterSingletonsInstantiated();
+
+		assertThat(looked).containsExactlyInAnyOrderElementsOf(shards);
+		verify(executor, times(shards.size())).execute(any(Runnable.class));
+	}
+
+	@Test
+	void looksUpIncompletePublicationsOfAllShardsWithoutExecutor() {
+
+		var shards = List.of("0", "1", "2");
+		Set<String> looked = ConcurrentHashMap.newKeySet();
+
+		when(registry.getShards()).thenReturn(shards);
+		when(registry.findIncompletePublications(anyString())).then(it -> {
+			looked.add(it.getArgument(0));
+			return List.of();
+		});
+
+		multicaster.afterSingletonsInstantiated();
+
+		assertThat(looked).containsExactlyInAnyOrderElementsOf(shards);
+		verify(registry, never()).findIncompletePublications();
+	}
+
+	@Test
+	void rethrowsFailureOfShardResubmittedUsingExecutor() {
+
+		var shards = List.of("0", "1", "2");
+		Set<String> looked = ConcurrentHashMap.newKeySet();
+
+		when(registry.getShards()).thenReturn(shards);
+		when(registry.findIncompletePublications(anyString())).then(it -> {
+
+			String shard = it.getArgument(0);
+			looked.add(shard);
+
+			if (!shard.equals("1")) {
+				throw new IllegalStateException(shard);
+			}
+
+			return List.of();
+		});
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> new PersistentApplicationEventMulticaster(() -> registry, SimpleAsyncTaskExecutor::new)
+						.afterSingletonsInstantiated())
+				.withMessage("0")
+				.satisfies(it -> assertThat(it.getSuppressed()).extracting(Throwable::getMessage).containsExactly("2"));
+
+		assertThat(looked).containsExactlyInAnyOrderElementsOf(shards);
+	}
+
+	@Test
+	void handsStoredPublicationsToListenerInvocation() {
+
+		var inFlight = new InFlightPublications(10);
+		var event = new Object();
+		var publication = createPublication(event);
+		var handedOver = new ArrayList<Optional<String>>();
+
+		when(registry.store(eq(event), any())).thenReturn(List.of(publication));
+
+		var multicaster = new PersistentApplicationEventMulticaster(() -> registry, () -> null, inFlight);
+		multicaster.addApplicationListener(createListener(handedOver, inFlight));
+		multicaster.multicastEvent(new PayloadApplicationEvent<>(this, event));
+
+		assertThat(handedOver).containsExactly(Optional.of("first"));
+	}
+
+	@Test
+	void handsResubmittedPublicationToListenerInvocation() {
+
+		var inFlight = new InFlightPublications(10);
+		var publication = createPublication(new Object());
+		var handedOver = new ArrayList<Optional<String>>();
+
+		when(registry.getShards()).thenReturn(List.of(""));
+		when(registry.findIncompletePublications("")).thenReturn(List.of(publication));
+
+		var multicaster = new PersistentApplicationEventMulticaster(() -> registry, () -> null, inFlight);
+		multicaster.addApplicationListener(createListener(handedOver, inFlight));
+		multicaster.afterSingletonsInstantiated();
+
+		assertThat(handedOver).containsExactly(Optional.of("first"));
+	}
+
+	private static EventPublication createPublication(Object event) {
+
+		var publication = mock(EventPublication.class, CALLS_REAL_METHODS);
+
+		doReturn(event).when(publication).getEvent();
+		doReturn(PublicationTargetIdentifier.of("listener")).when(publication).getTargetIdentifier();
+		doReturn(Optional.of("first")).when(publication).getIdentifier();
+
+		return publication;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static TransactionalApplicationListener<PayloadApplicationEvent<?>> createListener(
+			List<Optional<String>> handedOver, InFlightPublications inFlight) {
+
+		var listener = mock(TransactionalApplicationListener.class);
+
+		doReturn("listener").when(listener).getListenerId();
+		doAnswer(it -> handedOver.add(inFlight.remove(((PayloadApplicationEvent<?>) it.getArgument(0)).getPayload(),
+				PublicationTargetIdentifier.of("listener")))).when(listener).processEvent(any());
+		doAnswer(it -> {
+			listener.processEvent(it.getArgument(0));
+			return null;
+		}).when(listener).onApplicationEvent(any());
+
+		return listener;
+	}
+}
@@ -18,15 +18,23 @@ package org.springframework.modulith.events.jdbc;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.regex.Pattern;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.modulith.events.EventPublicationShards;
 import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
 
 /**
- * Initializes the DB schema used to store events
+ * Initializes the DB schema used to store events. Tables created by versions not tracking failed listener invocations
+ * yet get the columns needed added.
  *
  * @author Dmitry Belyaev
  * @author Björn Kieling
@@ -34,9 +42,14 @@ import org.springframework.util.StreamUtils;
  */
 class DatabaseSchemaInitializer implements InitializingBean {
 
+	private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseSchemaInitializer.class);
+	private static final Pattern TABLE_NAME = Pattern.compile("\\bEVENT_PUBLICATION\\b", Pattern.CASE_INSENSITIVE);
+
 	private final JdbcOperations jdbcOperations;
 	private final ResourceLoader resourceLoader;
 	private final DatabaseType databaseType;
+	private final boolean includeIdempotencySchema;
+	private final EventPublicationShards shards;
 
 	/**
 	 * Creates a new {@link DatabaseSchemaInitializer} for the given {@link JdbcOperations}, {@link ResourceLoader} and
@@ -48,10 +61,41 @@ class DatabaseSchemaInitializer implements InitializingBean {
 	 */
 	public DatabaseSchemaInitializer(JdbcOperations jdbcOperations, ResourceLoader resourceLoader,
 			DatabaseType databaseType) {
+		this(jdbcOperations, resourceLoader, databaseType, false);
+	}
+
+	/**
+	 * Creates a new {@link DatabaseSchemaInitializer} for the given {@link JdbcOperations}, {@link ResourceLoader} and
+	 * {@link DatabaseType}, optionally also creating the table to track listener executions in.
+	 *
+	 * @param jdbcOperations must not be {@literal null}.
+	 * @param resourceLoader must not be {@literal null}.
+	 * @param databaseType must not be {@literal null}.
+	 * @param includeIdempotencySchema whether to create the table backing {@link JdbcIdempotencyRepository}.
+	 */
+	public DatabaseSchemaInitializer(JdbcOperations jdbcOperations, ResourceLoader resourceLoader,
+			DatabaseType databaseType, boolean includeIdempotencySchema) {
+		this(jdbcOperations, resourceLoader, databaseType, includeIdempotencySchema, EventPublicationShards.NONE);
+	}
+
+	/**
+	 * Creates a new {@link DatabaseSchemaInitializer} for the given {@link JdbcOperations}, {@link ResourceLoader},
+	 * {@link DatabaseType} and {@link EventPublicationShards}, creating one publication table per shard.
+	 *
+	 * @param jdbcOperations must not be {@literal null}.
+	 * @param resourceLoader must not be {@literal null}.
+	 * @param databaseType must not be {@literal null}.
+	 * @param includeIdempotencySchema whether to create the table backing {@link JdbcIdempotencyRepository}.
+	 * @param shards must not be {@literal null}.
+	 */
+	public DatabaseSchemaInitializer(JdbcOperations jdbcOperations, ResourceLoader resourceLoader,
+			DatabaseType databaseType, boolean includeIdempotencySchema, EventPublicationShards shards) {
 
 		this.jdbcOperations = jdbcOperations;
 		this.resourceLoader = resourceLoader;
 		this.databaseType = databaseType;
+		this.includeIdempotencySchema = includeIdempotencySchema;
+		this.shards = shards;
 	}
 
 	/*
@@ -61,11 +105,55 @@ class DatabaseSchemaInitializer implements InitializingBean {
 	@Override
 	public void afterPropertiesSet() {
 
-		var schemaResourceFilename = databaseType.getSchemaResourceFilename();
-		var schemaDdlResource = resourceLoader.getResource(schemaResourceFilename);
-		var schemaDdl = asString(schemaDdlResource);
+		var schemaDdl = read(databaseType.getSchemaResourceFilename());
+
+		for (String shard : shards.getShards()) {
+
+			var table = JdbcEventPublicationRepository.getTableName(shard);
+
+			jdbcOperations.execute(TABLE_NAME.matcher(schemaDdl).replaceAll(table));
+
+			if (!tracksFailures(table)) {
+				addFailureTrackingColumns(table);
+			}
+		}
+
+		if (includeIdempotencySchema) {
+			execute(databaseType.getIdempotencySchemaResourceFilename());
+		}
+	}
+
+	private boolean tracksFailures(String table) {
+
+		try {
+
+			jdbcOperations.queryForList("SELECT ATTEMPTS FROM " + table + " WHERE 1 = 0");
+
+			return true;
+
+		} catch (DataAccessException o_O) {
+			return false;
+		}
+	}
+
+	private void addFailureTrackingColumns(String table) {
+
+		LOGGER.info("Adding columns to track failed listener invocations to table {}.", table);
+
+		var ddl = read(databaseType.getFailureTrackingSchemaResourceFilename());
+
+		Arrays.stream(TABLE_NAME.matcher(ddl).replaceAll(table).split(";"))
+				.map(String::trim)
+				.filter(StringUtils::hasText)
+				.forEach(jdbcOperations::execute);
+	}
+
+	private void execute(String schemaResourceFilename) {
+		jdbcOperations.execute(read(schemaResourceFilename));
+	}
 
-		jdbcOperations.execute(schemaDdl);
+	private String read(String schemaResourceFilename) {
+		return asString(resourceLoader.getResource(schemaResourceFilename));
 	}
 
 	private static String asString(Resource resource) {
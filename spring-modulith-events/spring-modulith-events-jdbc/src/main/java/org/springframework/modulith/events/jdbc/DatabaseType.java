@@ -85,4 +85,12 @@ enum DatabaseType {
 	String getSchemaResourceFilename() {
 		return "/schema-" + value + ".sql";
 	}
+
+	String getFailureTrackingSchemaResourceFilename() {
+		return "/schema-failure-tracking-" + value + ".sql";
+	}
+
+	String getIdempotencySchemaResourceFilename() {
+		return "/schema-idempotency-" + value + ".sql";
+	}
 }
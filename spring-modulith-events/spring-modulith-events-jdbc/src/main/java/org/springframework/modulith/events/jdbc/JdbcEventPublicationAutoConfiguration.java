@@ -17,12 +17,15 @@ package org.springframework.modulith.events.jdbc;
 
 import javax.sql.DataSource;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.jdbc.DatabaseDriver;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.modulith.events.EventPublicationShards;
 import org.springframework.modulith.events.EventSerializer;
 import org.springframework.modulith.events.config.EventPublicationConfigurationExtension;
 
@@ -34,6 +37,8 @@ import org.springframework.modulith.events.config.EventPublicationConfigurationE
 @Configuration(proxyBeanMethods = false)
 class JdbcEventPublicationAutoConfiguration implements EventPublicationConfigurationExtension {
 
+	private static final String IDEMPOTENCY_ENABLED_PROPERTY = "spring.modulith.events.idempotency.enabled";
+
 	@Bean
 	DatabaseType databaseType(DataSource dataSource) {
 		return DatabaseType.from(DatabaseDriver.fromDataSource(dataSource));
@@ -41,16 +46,26 @@ class JdbcEventPublicationAutoConfiguration implements EventPublicationConfigura
 
 	@Bean
 	JdbcEventPublicationRepository jdbcEventPublicationRepository(JdbcTemplate jdbcTemplate,
-			EventSerializer serializer, DatabaseType databaseType) {
+			EventSerializer serializer, DatabaseType databaseType, ObjectProvider<EventPublicationShards> shards) {
 
-		return new JdbcEventPublicationRepository(jdbcTemplate, serializer, databaseType);
+		return new JdbcEventPublicationRepository(jdbcTemplate, serializer, databaseType,
+				shards.getIfAvailable(() -> EventPublicationShards.NONE));
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = IDEMPOTENCY_ENABLED_PROPERTY, havingValue = "true")
+	JdbcIdempotencyRepository jdbcIdempotencyRepository(JdbcTemplate jdbcTemplate) {
+		return new JdbcIdempotencyRepository(jdbcTemplate);
 	}
 
 	@Bean
 	@ConditionalOnProperty(name = "spring.modulith.events.schema-initialization.enabled", havingValue = "true")
 	DatabaseSchemaInitializer databaseSchemaInitializer(JdbcTemplate jdbcTemplate, ResourceLoader resourceLoader,
-			DatabaseType databaseType) {
+			DatabaseType databaseType, Environment environment, ObjectProvider<EventPublicationShards> shards) {
+
+		var includeIdempotencySchema = environment.getProperty(IDEMPOTENCY_ENABLED_PROPERTY, Boolean.class, false);
 
-		return new DatabaseSchemaInitializer(jdbcTemplate, resourceLoader, databaseType);
+		return new DatabaseSchemaInitializer(jdbcTemplate, resourceLoader, databaseType, includeIdempotencySchema,
+				shards.getIfAvailable(() -> EventPublicationShards.NONE));
 	}
 }
@@ -20,20 +20,27 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.lang.Nullable;
 import org.springframework.modulith.events.CompletableEventPublication;
 import org.springframework.modulith.events.EventPublication;
 import org.springframework.modulith.events.EventPublicationRepository;
+import org.springframework.modulith.events.EventPublicationShards;
 import org.springframework.modulith.events.EventSerializer;
 import org.springframework.modulith.events.PublicationTargetIdentifier;
 import org.springframework.transaction.annotation.Transactional;
@@ -50,36 +57,58 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(JdbcEventPublicationRepository.class);
 
+	private static final String TABLE_NAME = "EVENT_PUBLICATION";
+
 	private static final String SQL_STATEMENT_INSERT = """
-			INSERT INTO EVENT_PUBLICATION (ID, EVENT_TYPE, LISTENER_ID, PUBLICATION_DATE, SERIALIZED_EVENT)
+			INSERT INTO %s (ID, EVENT_TYPE, LISTENER_ID, PUBLICATION_DATE, SERIALIZED_EVENT)
 			VALUES (?, ?, ?, ?, ?)
 			""";
 
 	private static final String SQL_STATEMENT_FIND_UNCOMPLETED = """
 			SELECT ID, COMPLETION_DATE, EVENT_TYPE, LISTENER_ID, PUBLICATION_DATE, SERIALIZED_EVENT
-			FROM EVENT_PUBLICATION
+			FROM %s
+			WHERE COMPLETION_DATE IS NULL
+				AND DEAD_LETTER_DATE IS NULL
+			""";
+
+	private static final String SQL_STATEMENT_COUNT_UNCOMPLETED_BY_LISTENER_ID = """
+			SELECT LISTENER_ID, COUNT(*) AS PUBLICATIONS
+			FROM %s
 			WHERE COMPLETION_DATE IS NULL
+				AND DEAD_LETTER_DATE IS NULL
+			GROUP BY LISTENER_ID
 			""";
 
 	private static final String SQL_STATEMENT_UPDATE = """
-			UPDATE EVENT_PUBLICATION
+			UPDATE %s
 			SET COMPLETION_DATE = ?
 			WHERE ID = ?
 			""";
 
+	private static final String SQL_STATEMENT_UPDATE_FAILED = """
+			UPDATE %s
+			SET
+					ATTEMPTS = ATTEMPTS + 1,
+					LAST_ERROR = ?,
+					LAST_ATTEMPT_DATE = ?,
+					DEAD_LETTER_DATE = ?
+			WHERE ID = ?
+			""";
+
 	private static final String SQL_STATEMENT_FIND_BY_EVENT_AND_LISTENER_ID = """
 			SELECT *
-			FROM EVENT_PUBLICATION
+			FROM %s
 			WHERE
 					SERIALIZED_EVENT = ?
 					AND LISTENER_ID = ?
 					AND COMPLETION_DATE IS NULL
+					AND DEAD_LETTER_DATE IS NULL
 			ORDER BY PUBLICATION_DATE
 			""";
 
-	private static final String SQL_STATEMENT_DELETE_UNCOMPLETED = """
+	private static final String SQL_STATEMENT_DELETE_COMPLETED = """
 					DELETE
-					FROM EVENT_PUBLICATION
+					FROM %s
 					WHERE
 							COMPLETION_DATE IS NOT NULL
 			""";
@@ -87,6 +116,8 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 	private final JdbcOperations operations;
 	private final EventSerializer serializer;
 	private final DatabaseType databaseType;
+	private final EventPublicationShards shards;
+	private final Map<String, Statements> statements;
 
 	/**
 	 * Creates a new {@link JdbcEventPublicationRepository} for the given {@link JdbcOperations}, {@link EventSerializer}
@@ -98,14 +129,46 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 	 */
 	public JdbcEventPublicationRepository(JdbcOperations operations, EventSerializer serializer,
 			DatabaseType databaseType) {
+		this(operations, serializer, databaseType, EventPublicationShards.NONE);
+	}
+
+	/**
+	 * Creates a new {@link JdbcEventPublicationRepository} for the given {@link JdbcOperations}, {@link EventSerializer},
+	 * {@link DatabaseType} and {@link EventPublicationShards}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param serializer must not be {@literal null}.
+	 * @param databaseType must not be {@literal null}.
+	 * @param shards must not be {@literal null}.
+	 */
+	public JdbcEventPublicationRepository(JdbcOperations operations, EventSerializer serializer,
+			DatabaseType databaseType, EventPublicationShards shards) {
 
 		Assert.notNull(operations, "JdbcOperations must not be null!");
 		Assert.notNull(serializer, "EventSerializer must not be null!");
 		Assert.notNull(databaseType, "DatabaseType must not be null!");
+		Assert.notNull(shards, "EventPublicationShards must not be null!");
 
 		this.operations = operations;
 		this.serializer = serializer;
 		this.databaseType = databaseType;
+		this.shards = shards;
+		this.statements = shards.getShards().stream()
+				.collect(Collectors.toMap(Function.identity(), it -> Statements.forTable(getTableName(it))));
+	}
+
+	/**
+	 * Returns the name of the table to store the publications routed to the given shard in.
+	 *
+	 * @param shard must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static String getTableName(String shard) {
+
+		Assert.notNull(shard, "Shard must not be null!");
+		Assert.isTrue(shard.matches("\\w*"), () -> "Invalid shard name '%s'!".formatted(shard));
+
+		return shard.isEmpty() ? TABLE_NAME : TABLE_NAME + "_" + shard.toUpperCase(Locale.ROOT);
 	}
 
 	/*
@@ -116,34 +179,46 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 	@Transactional
 	public EventPublication create(EventPublication publication) {
 
+		var id = UUID.randomUUID();
 		var serializedEvent = serializeEvent(publication.getEvent());
+		var eventType = publication.getEvent().getClass();
+		var listenerId = publication.getTargetIdentifier().getValue();
 
 		operations.update( //
-				SQL_STATEMENT_INSERT, //
-				uuidToDatabase(UUID.randomUUID()), //
-				publication.getEvent().getClass().getName(), //
-				publication.getTargetIdentifier().getValue(), //
+				statementsFor(publication.getTargetIdentifier()).insert(), //
+				uuidToDatabase(id), //
+				eventType.getName(), //
+				listenerId, //
 				Timestamp.from(publication.getPublicationDate()), //
 				serializedEvent);
 
-		return publication;
+		return new JdbcEventPublication(id, publication.getPublicationDate(), listenerId, serializedEvent, eventType,
+				serializer, null);
 	}
 
 	@Override
 	@Transactional
 	public EventPublication update(CompletableEventPublication publication) {
 
+		if (publication instanceof JdbcEventPublication jdbcPublication) {
+
+			update(jdbcPublication.id, publication, statementsFor(publication.getTargetIdentifier()));
+
+			return publication;
+		}
+
 		var serializedEvent = serializeEvent(publication.getEvent());
 		var listenerId = publication.getTargetIdentifier().getValue();
+		var statements = statementsFor(publication.getTargetIdentifier());
 		var potentialPublicationIdsToBeUpdated = operations.query( //
-				SQL_STATEMENT_FIND_BY_EVENT_AND_LISTENER_ID, //
+				statements.findByEventAndListenerId(), //
 				(rs, rowNum) -> getUuidFromResultSet(rs), //
 				serializedEvent, //
 				listenerId);
 
 		potentialPublicationIdsToBeUpdated.stream()
 				.findFirst()
-				.ifPresent(id -> update(id, publication));
+				.ifPresent(id -> update(id, publication, statements));
 
 		return publication;
 	}
@@ -154,9 +229,10 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 			Object event, PublicationTargetIdentifier targetIdentifier) {
 
 		var serializedEvent = serializeEvent(event);
-		var listenerId = targetIdentifier.getValue();
+		var statements = statementsFor(targetIdentifier);
 
-		return findAllIncompletePublicationsByEventAndListenerId(serializedEvent, listenerId).stream() //
+		return findAllIncompletePublicationsByEventAndListenerId(serializedEvent, targetIdentifier.getValue(), statements)
+				.stream() //
 				.findFirst();
 	}
 
@@ -165,37 +241,120 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 	@SuppressWarnings("null")
 	public List<EventPublication> findIncompletePublications() {
 
+		return shards.getShards().stream()
+				.flatMap(it -> findIncompletePublications(it).stream())
+				.toList();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.EventPublicationRepository#getShards()
+	 */
+	@Override
+	public List<String> getShards() {
+		return shards.getShards();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.EventPublicationRepository#findIncompletePublications(java.lang.String)
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	@SuppressWarnings("null")
+	public List<EventPublication> findIncompletePublications(String shard) {
+
 		return operations.query( //
-				SQL_STATEMENT_FIND_UNCOMPLETED, //
+				statementsFor(shard).findUncompleted(), //
 				this::resultSetToPublications);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.EventPublicationRepository#countIncompletePublicationsByTargetIdentifier()
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public Map<PublicationTargetIdentifier, Long> countIncompletePublicationsByTargetIdentifier() {
+
+		Map<PublicationTargetIdentifier, Long> result = new HashMap<>();
+
+		statements.values().forEach(it -> operations.query(it.countUncompletedByListenerId(),
+				(RowCallbackHandler) rs -> result.merge(PublicationTargetIdentifier.of(rs.getString("LISTENER_ID")),
+						rs.getLong("PUBLICATIONS"), Long::sum)));
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.EventPublicationRepository#markFailed(java.lang.Object, org.springframework.modulith.events.PublicationTargetIdentifier, java.lang.String, int)
+	 */
+	@Override
+	@Transactional
+	public void markFailed(Object event, PublicationTargetIdentifier targetIdentifier, String error, int maxAttempts) {
+
+		var statements = statementsFor(targetIdentifier);
+		var attempts = operations.query( //
+				statements.findByEventAndListenerId(), //
+				(rs, rowNum) -> new Attempts(getUuidFromResultSet(rs), rs.getInt("ATTEMPTS")), //
+				serializeEvent(event), //
+				targetIdentifier.getValue());
+
+		attempts.stream()
+				.findFirst()
+				.ifPresent(it -> {
+
+					var now = Timestamp.from(Instant.now());
+
+					operations.update( //
+							statements.updateFailed(), //
+							error, //
+							now, //
+							it.attempts() + 1 >= maxAttempts ? now : null, //
+							uuidToDatabase(it.id()));
+				});
+	}
+
 	@Override
 	public void deleteCompletedPublications() {
-		operations.execute(SQL_STATEMENT_DELETE_UNCOMPLETED);
+		statements.values().forEach(it -> operations.execute(it.deleteCompleted()));
 	}
 
-	private void update(UUID id, CompletableEventPublication publication) {
+	private void update(UUID id, CompletableEventPublication publication, Statements statements) {
 
 		var timestamp = publication.getCompletionDate().map(Timestamp::from).orElse(null);
 
 		operations.update( //
-				SQL_STATEMENT_UPDATE, //
+				statements.update(), //
 				timestamp, //
 				uuidToDatabase(id));
 	}
 
 	@SuppressWarnings("null")
 	private List<EventPublication> findAllIncompletePublicationsByEventAndListenerId(
-			String serializedEvent, String listenerId) {
+			String serializedEvent, String listenerId, Statements statements) {
 
 		return operations.query( //
-				SQL_STATEMENT_FIND_BY_EVENT_AND_LISTENER_ID, //
+				statements.findByEventAndListenerId(), //
 				this::resultSetToPublications, //
 				serializedEvent, //
 				listenerId);
 	}
 
+	private Statements statementsFor(PublicationTargetIdentifier identifier) {
+		return statementsFor(shards.getShardFor(identifier));
+	}
+
+	private Statements statementsFor(String shard) {
+
+		var result = statements.get(shard);
+
+		Assert.notNull(result, () -> "Unknown shard '%s'!".formatted(shard));
+
+		return result;
+	}
+
 	private String serializeEvent(Object event) {
 		return serializer.serialize(event).toString();
 	}
@@ -268,6 +427,33 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 		}
 	}
 
+	/**
+	 * The number of processing attempts recorded for the publication with the given identifier.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private record Attempts(UUID id, int attempts) {}
+
+	/**
+	 * The SQL statements to access the table backing a single shard.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private record Statements(String insert, String findUncompleted, String countUncompletedByListenerId,
+			String update, String updateFailed, String findByEventAndListenerId, String deleteCompleted) {
+
+		static Statements forTable(String table) {
+
+			return new Statements(SQL_STATEMENT_INSERT.formatted(table),
+					SQL_STATEMENT_FIND_UNCOMPLETED.formatted(table),
+					SQL_STATEMENT_COUNT_UNCOMPLETED_BY_LISTENER_ID.formatted(table),
+					SQL_STATEMENT_UPDATE.formatted(table),
+					SQL_STATEMENT_UPDATE_FAILED.formatted(table),
+					SQL_STATEMENT_FIND_BY_EVENT_AND_LISTENER_ID.formatted(table),
+					SQL_STATEMENT_DELETE_COMPLETED.formatted(table));
+		}
+	}
+
 	private static class JdbcEventPublication implements CompletableEventPublication {
 
 		private final UUID id;
@@ -316,6 +502,15 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 			return serializer.deserialize(serializedEvent, eventType);
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.EventPublication#getIdentifier()
+		 */
+		@Override
+		public Optional<String> getIdentifier() {
+			return Optional.of(id.toString());
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see org.springframework.modulith.events.EventPublication#getTargetIdentifier()
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.jdbc;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.modulith.events.IdempotencyRepository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+/**
+ * JDBC-based {@link IdempotencyRepository}.
+ *
+ * @author Oliver Drotbohm
+ */
+class JdbcIdempotencyRepository implements IdempotencyRepository {
+
+	private static final String SQL_STATEMENT_INSERT = """
+			INSERT INTO EVENT_PUBLICATION_EXECUTION (EXECUTION_KEY, EXECUTION_DATE)
+			VALUES (?, ?)
+			""";
+
+	private static final String SQL_STATEMENT_COUNT_BY_KEY = """
+			SELECT COUNT(*)
+			FROM EVENT_PUBLICATION_EXECUTION
+			WHERE EXECUTION_KEY = ?
+			""";
+
+	private static final String SQL_STATEMENT_FIND_KEYS_SINCE = """
+			SELECT EXECUTION_KEY
+			FROM EVENT_PUBLICATION_EXECUTION
+			WHERE EXECUTION_DATE >= ?
+			""";
+
+	private static final String SQL_STATEMENT_DELETE_BEFORE = """
+			DELETE
+			FROM EVENT_PUBLICATION_EXECUTION
+			WHERE EXECUTION_DATE < ?
+			""";
+
+	private final JdbcOperations operations;
+
+	/**
+	 * Creates a new {@link JdbcIdempotencyRepository} for the given {@link JdbcOperations}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 */
+	public JdbcIdempotencyRepository(JdbcOperations operations) {
+
+		Assert.notNull(operations, "JdbcOperations must not be null!");
+
+		this.operations = operations;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.IdempotencyRepository#exists(java.lang.String)
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public boolean exists(String key) {
+
+		var count = operations.queryForObject(SQL_STATEMENT_COUNT_BY_KEY, Long.class, key);
+
+		return count != null && count > 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.IdempotencyRepository#save(java.lang.String, java.time.Instant)
+	 */
+	@Override
+	@Transactional
+	public void save(String key, Instant executionDate) {
+
+		try {
+			operations.update(SQL_STATEMENT_INSERT, key, Timestamp.from(executionDate));
+		} catch (DuplicateKeyException o_O) {
+			// Execution already recorded
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.IdempotencyRepository#findKeysExecutedSince(java.time.Instant)
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<String> findKeysExecutedSince(Instant executionDate) {
+
+		return operations.queryForList(SQL_STATEMENT_FIND_KEYS_SINCE, String.class, Timestamp.from(executionDate));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.IdempotencyRepository#deleteExecutedBefore(java.time.Instant)
+	 */
+	@Override
+	@Transactional
+	public void deleteExecutedBefore(Instant executionDate) {
+		operations.update(SQL_STATEMENT_DELETE_BEFORE, Timestamp.from(executionDate));
+	}
+}
@@ -0,0 +1,4 @@
+ALTER TABLE EVENT_PUBLICATION ADD COLUMN ATTEMPTS INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE EVENT_PUBLICATION ADD COLUMN LAST_ERROR VARCHAR(1000);
+ALTER TABLE EVENT_PUBLICATION ADD COLUMN LAST_ATTEMPT_DATE TIMESTAMP(9);
+ALTER TABLE EVENT_PUBLICATION ADD COLUMN DEAD_LETTER_DATE TIMESTAMP(9);
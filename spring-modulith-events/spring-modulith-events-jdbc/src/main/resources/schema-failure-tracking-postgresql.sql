@@ -0,0 +1,4 @@
+ALTER TABLE event_publication ADD COLUMN attempts INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE event_publication ADD COLUMN last_error TEXT;
+ALTER TABLE event_publication ADD COLUMN last_attempt_date TIMESTAMP WITH TIME ZONE;
+ALTER TABLE event_publication ADD COLUMN dead_letter_date TIMESTAMP WITH TIME ZONE;
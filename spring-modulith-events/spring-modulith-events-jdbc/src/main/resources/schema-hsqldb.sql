@@ -1,10 +1,14 @@
 CREATE TABLE IF NOT EXISTS EVENT_PUBLICATION
 (
-  ID               UUID NOT NULL,
-  COMPLETION_DATE  TIMESTAMP(9),
-  EVENT_TYPE       VARCHAR(512) NOT NULL,
-  LISTENER_ID      VARCHAR(512) NOT NULL,
-  PUBLICATION_DATE TIMESTAMP(9) NOT NULL,
-  SERIALIZED_EVENT VARCHAR(4000) NOT NULL,
+  ID                UUID NOT NULL,
+  COMPLETION_DATE   TIMESTAMP(9),
+  EVENT_TYPE        VARCHAR(512) NOT NULL,
+  LISTENER_ID       VARCHAR(512) NOT NULL,
+  PUBLICATION_DATE  TIMESTAMP(9) NOT NULL,
+  SERIALIZED_EVENT  VARCHAR(4000) NOT NULL,
+  ATTEMPTS          INTEGER DEFAULT 0 NOT NULL,
+  LAST_ERROR        VARCHAR(1000),
+  LAST_ATTEMPT_DATE TIMESTAMP(9),
+  DEAD_LETTER_DATE  TIMESTAMP(9),
   PRIMARY KEY (ID)
 )
@@ -0,0 +1,6 @@
+CREATE TABLE IF NOT EXISTS EVENT_PUBLICATION_EXECUTION
+(
+  EXECUTION_KEY    VARCHAR(64) NOT NULL,
+  EXECUTION_DATE   TIMESTAMP(6) NOT NULL,
+  PRIMARY KEY (EXECUTION_KEY)
+)
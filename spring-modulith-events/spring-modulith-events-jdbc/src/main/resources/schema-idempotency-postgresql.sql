@@ -0,0 +1,6 @@
+CREATE TABLE IF NOT EXISTS event_publication_execution
+(
+  execution_key    VARCHAR(64) NOT NULL,
+  execution_date   TIMESTAMP WITH TIME ZONE NOT NULL,
+  PRIMARY KEY (execution_key)
+)
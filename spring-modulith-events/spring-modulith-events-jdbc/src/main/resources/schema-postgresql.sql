@@ -1,10 +1,14 @@
 CREATE TABLE IF NOT EXISTS event_publication
 (
-  id               UUID NOT NULL,
-  listener_id      TEXT NOT NULL,
-  event_type       TEXT NOT NULL,
-  serialized_event TEXT NOT NULL,
-  publication_date TIMESTAMP WITH TIME ZONE NOT NULL,
-  completion_date  TIMESTAMP WITH TIME ZONE,
+  id                UUID NOT NULL,
+  listener_id       TEXT NOT NULL,
+  event_type        TEXT NOT NULL,
+  serialized_event  TEXT NOT NULL,
+  publication_date  TIMESTAMP WITH TIME ZONE NOT NULL,
+  completion_date   TIMESTAMP WITH TIME ZONE,
+  attempts          INTEGER DEFAULT 0 NOT NULL,
+  last_error        TEXT,
+  last_attempt_date TIMESTAMP WITH TIME ZONE,
+  dead_letter_date  TIMESTAMP WITH TIME ZONE,
   PRIMARY KEY (id)
 )
@@ -19,6 +19,8 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Nested;
@@ -28,11 +30,14 @@ import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.modulith.events.EventPublicationShards;
 import org.springframework.modulith.events.EventSerializer;
 import org.springframework.modulith.testapp.TestApplication;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.util.StreamUtils;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 /**
@@ -57,6 +62,8 @@ class DatabaseSchemaInitializerIntegrationTests {
 
 		@Autowired JdbcOperations operations;
 		@Autowired Optional<DatabaseSchemaInitializer> initializer;
+		@Autowired ResourceLoader resourceLoader;
+		@Autowired DatabaseType databaseType;
 
 		@Test // GH-3
 		void doesNotRegisterAnInitializerBean() {
@@ -67,6 +74,31 @@ class DatabaseSchemaInitializerIntegrationTests {
 		void shouldCreateDatabaseSchemaOnStartUp() {
 			assertThatNoException().isThrownBy(() -> operations.queryForObject(COUNT_PUBLICATIONS, Long.class));
 		}
+
+		@Test
+		void addsFailureTrackingColumnsToExistingTable() throws Exception {
+
+			var schema = StreamUtils.copyToString(
+					resourceLoader.getResource(databaseType.getSchemaResourceFilename()).getInputStream(),
+					StandardCharsets.UTF_8);
+
+			// Table as created by versions not tracking failures yet
+			operations.execute(schema
+					.replaceAll("(?im)^\\s*(ATTEMPTS|LAST_ERROR|LAST_ATTEMPT_DATE|DEAD_LETTER_DATE)\\s.*\\R", "")
+					.replaceAll("(?i)\\bEVENT_PUBLICATION\\b", "EVENT_PUBLICATION_LEGACY"));
+
+			try {
+
+				new DatabaseSchemaInitializer(operations, resourceLoader, databaseType, false,
+						EventPublicationShards.byPrefix(Map.of("", "legacy"))).afterPropertiesSet();
+
+				assertThatNoException().isThrownBy(() -> operations.queryForList(
+						"SELECT ATTEMPTS, LAST_ERROR, LAST_ATTEMPT_DATE, DEAD_LETTER_DATE FROM EVENT_PUBLICATION_LEGACY"));
+
+			} finally {
+				operations.execute("DROP TABLE EVENT_PUBLICATION_LEGACY");
+			}
+		}
 	}
 
 	@Nested
@@ -86,6 +86,7 @@ class JdbcEventPublicationRepositoryIntegrationTests {
 			assertThat(eventPublications).element(0).satisfies(it -> {
 				assertThat(it.getEvent()).isEqualTo(publication.getEvent());
 				assertThat(it.getTargetIdentifier()).isEqualTo(publication.getTargetIdentifier());
+				assertThat(it.getIdentifier()).isPresent();
 			});
 
 			assertThat(repository.findIncompletePublicationsByEventAndTargetIdentifier(testEvent, TARGET_IDENTIFIER))
@@ -206,6 +207,80 @@ class JdbcEventPublicationRepositoryIntegrationTests {
 			}
 		}
 
+		@Nested
+		class CountIncompletePublications {
+
+			@Test
+			void shouldCountIncompletePublicationsPerListener() {
+
+				var testEvent1 = new TestEvent("abc");
+				var serializedEvent1 = "{\"eventId\":\"abc\"}";
+				var testEvent2 = new TestEvent("def");
+				var serializedEvent2 = "{\"eventId\":\"def\"}";
+				var otherIdentifier = PublicationTargetIdentifier.of("other");
+
+				when(serializer.serialize(testEvent1)).thenReturn(serializedEvent1);
+				when(serializer.serialize(testEvent2)).thenReturn(serializedEvent2);
+
+				var publication = CompletableEventPublication.of(testEvent1, TARGET_IDENTIFIER);
+
+				repository.create(publication);
+				repository.create(CompletableEventPublication.of(testEvent2, TARGET_IDENTIFIER));
+				repository.create(CompletableEventPublication.of(testEvent2, otherIdentifier));
+
+				repository.update(publication.markCompleted());
+
+				assertThat(repository.countIncompletePublicationsByTargetIdentifier())
+						.containsOnly(entry(TARGET_IDENTIFIER, 1L), entry(otherIdentifier, 1L));
+			}
+		}
+
+		@Nested
+		class MarkFailed {
+
+			@Test
+			void shouldRecordFailedAttempts() {
+
+				var testEvent = new TestEvent("abc");
+				var serializedEvent = "{\"eventId\":\"abc\"}";
+
+				when(serializer.serialize(testEvent)).thenReturn(serializedEvent);
+				when(serializer.deserialize(serializedEvent, TestEvent.class)).thenReturn(testEvent);
+
+				repository.create(CompletableEventPublication.of(testEvent, TARGET_IDENTIFIER));
+				repository.markFailed(testEvent, TARGET_IDENTIFIER, "Failure!", 3);
+				repository.markFailed(testEvent, TARGET_IDENTIFIER, "Another failure!", 3);
+
+				assertThat(operations.queryForMap("SELECT * FROM EVENT_PUBLICATION"))
+						.containsEntry("ATTEMPTS", 2)
+						.containsEntry("LAST_ERROR", "Another failure!")
+						.containsEntry("DEAD_LETTER_DATE", null)
+						.hasEntrySatisfying("LAST_ATTEMPT_DATE", it -> assertThat(it).isNotNull());
+
+				assertThat(repository.findIncompletePublications()).hasSize(1);
+			}
+
+			@Test
+			void shouldDeadLetterPublicationOnceMaximumNumberOfAttemptsIsReached() {
+
+				var testEvent = new TestEvent("abc");
+				var serializedEvent = "{\"eventId\":\"abc\"}";
+
+				when(serializer.serialize(testEvent)).thenReturn(serializedEvent);
+
+				repository.create(CompletableEventPublication.of(testEvent, TARGET_IDENTIFIER));
+				repository.markFailed(testEvent, TARGET_IDENTIFIER, "Failure!", 2);
+				repository.markFailed(testEvent, TARGET_IDENTIFIER, "Failure!", 2);
+
+				assertThat(operations.queryForObject("SELECT DEAD_LETTER_DATE FROM EVENT_PUBLICATION", Object.class))
+						.isNotNull();
+				assertThat(repository.findIncompletePublications()).isEmpty();
+				assertThat(repository.findIncompletePublicationsByEventAndTargetIdentifier(testEvent, TARGET_IDENTIFIER))
+						.isEmpty();
+				assertThat(repository.countIncompletePublicationsByTargetIdentifier()).isEmpty();
+			}
+		}
+
 		@Nested
 		class DeleteCompletedPublications {
 
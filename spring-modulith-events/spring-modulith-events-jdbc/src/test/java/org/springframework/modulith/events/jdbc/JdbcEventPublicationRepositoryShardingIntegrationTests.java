@@ -0,0 +1,146 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.jdbc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import lombok.Value;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.modulith.events.CompletableEventPublication;
+import org.springframework.modulith.events.EventPublicationShards;
+import org.springframework.modulith.events.EventSerializer;
+import org.springframework.modulith.events.PublicationTargetIdentifier;
+import org.springframework.modulith.testapp.TestApplication;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * Integration tests for {@link JdbcEventPublicationRepository} distributing publications across multiple tables.
+ *
+ * @author Oliver Drotbohm
+ */
+@JdbcTest
+@Import(TestApplication.class)
+@ActiveProfiles("h2")
+@ContextConfiguration(classes = { JdbcEventPublicationAutoConfiguration.class,
+		JdbcEventPublicationRepositoryShardingIntegrationTests.ShardsConfiguration.class })
+class JdbcEventPublicationRepositoryShardingIntegrationTests {
+
+	@Autowired JdbcOperations operations;
+	@Autowired JdbcEventPublicationRepository repository;
+	@Autowired EventPublicationShards shards;
+
+	@MockBean EventSerializer serializer;
+
+	PublicationTargetIdentifier first, second;
+
+	@BeforeEach
+	void setUp() {
+
+		shards.getShards().forEach(it -> operations.execute("TRUNCATE TABLE " + tableFor(it)));
+
+		var identifiers = IntStream.range(0, 100)
+				.mapToObj(it -> PublicationTargetIdentifier.of("listener" + it))
+				.toList();
+
+		first = identifiers.stream().filter(it -> shards.getShardFor(it).equals("0")).findFirst().orElseThrow();
+		second = identifiers.stream().filter(it -> shards.getShardFor(it).equals("1")).findFirst().orElseThrow();
+	}
+
+	@Test
+	void storesPublicationsInTablePerShard() {
+
+		var testEvent = new TestEvent("abc");
+		var serializedEvent = "{\"eventId\":\"abc\"}";
+
+		when(serializer.serialize(testEvent)).thenReturn(serializedEvent);
+		when(serializer.deserialize(serializedEvent, TestEvent.class)).thenReturn(testEvent);
+
+		repository.create(CompletableEventPublication.of(testEvent, first));
+		repository.create(CompletableEventPublication.of(testEvent, second));
+
+		assertThat(count("EVENT_PUBLICATION_0")).isOne();
+		assertThat(count("EVENT_PUBLICATION_1")).isOne();
+
+		assertThat(repository.getShards()).containsExactly("0", "1");
+		assertThat(repository.findIncompletePublications()).hasSize(2);
+		assertThat(repository.findIncompletePublications("0")).hasSize(1)
+				.element(0).extracting(it -> it.getTargetIdentifier()).isEqualTo(first);
+		assertThat(repository.countIncompletePublicationsByTargetIdentifier())
+				.containsOnly(entry(first, 1L), entry(second, 1L));
+	}
+
+	@Test
+	void completesPublicationInShardRoutedTo() {
+
+		var testEvent = new TestEvent("abc");
+		var serializedEvent = "{\"eventId\":\"abc\"}";
+
+		when(serializer.serialize(testEvent)).thenReturn(serializedEvent);
+		when(serializer.deserialize(serializedEvent, TestEvent.class)).thenReturn(testEvent);
+
+		var publication = CompletableEventPublication.of(testEvent, second);
+
+		repository.create(CompletableEventPublication.of(testEvent, first));
+		repository.create(publication);
+
+		assertThat(repository.findIncompletePublicationsByEventAndTargetIdentifier(testEvent, second)).isPresent();
+
+		repository.update(publication.markCompleted());
+
+		assertThat(repository.findIncompletePublications("0")).hasSize(1);
+		assertThat(repository.findIncompletePublications("1")).isEmpty();
+
+		repository.deleteCompletedPublications();
+
+		assertThat(count("EVENT_PUBLICATION_0")).isOne();
+		assertThat(count("EVENT_PUBLICATION_1")).isZero();
+	}
+
+	private long count(String table) {
+		return operations.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+	}
+
+	private static String tableFor(String shard) {
+		return JdbcEventPublicationRepository.getTableName(shard);
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class ShardsConfiguration {
+
+		@Bean
+		EventPublicationShards eventPublicationShards() {
+			return EventPublicationShards.hashed(2);
+		}
+	}
+
+	@Value
+	private static final class TestEvent {
+		String eventId;
+	}
+}
@@ -18,11 +18,15 @@ package org.springframework.modulith.events.jpa;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.UUID;
 
 import org.springframework.util.Assert;
+import org.springframework.util.DigestUtils;
 
 /**
  * JPA entity to represent event publications.
@@ -32,15 +36,21 @@ import org.springframework.util.Assert;
  * @author Björn Kieling
  */
 @Entity
+@Table(indexes = @Index(columnList = "serializedEventHash, listenerId"))
 class JpaEventPublication {
 
 	final @Id @Column(length = 16) UUID id;
 	final Instant publicationDate;
 	final String listenerId;
 	final String serializedEvent;
+	final @Column(length = 32) String serializedEventHash;
 	final Class<?> eventType;
 
 	Instant completionDate;
+	Integer attempts;
+	@Column(length = 1000) String lastError;
+	Instant lastAttemptDate;
+	Instant deadLetterDate;
 
 	/**
 	 * Creates a new {@link JpaEventPublication} for the given publication date, listener id, serialized event and event
@@ -62,7 +72,9 @@ class JpaEventPublication {
 		this.publicationDate = publicationDate;
 		this.listenerId = listenerId;
 		this.serializedEvent = serializedEvent;
+		this.serializedEventHash = hash(serializedEvent);
 		this.eventType = eventType;
+		this.attempts = 0;
 	}
 
 	JpaEventPublication() {
@@ -71,12 +83,21 @@ class JpaEventPublication {
 		this.publicationDate = null;
 		this.listenerId = null;
 		this.serializedEvent = null;
+		this.serializedEventHash = null;
 		this.eventType = null;
 	}
 
-	JpaEventPublication markCompleted() {
+	/**
+	 * Returns the hash of the given serialized event as stored in the indexed {@code serializedEventHash} column, so that
+	 * lookups by event do not have to compare the full serialized event on all rows.
+	 *
+	 * @param serializedEvent must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static String hash(String serializedEvent) {
+
+		Assert.notNull(serializedEvent, "Serialized event must not be null!");
 
-		this.completionDate = Instant.now();
-		return this;
+		return DigestUtils.md5DigestAsHex(serializedEvent.getBytes(StandardCharsets.UTF_8));
 	}
 }
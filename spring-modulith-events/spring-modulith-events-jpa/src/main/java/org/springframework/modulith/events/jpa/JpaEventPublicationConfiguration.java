@@ -21,6 +21,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.modulith.events.EventSerializer;
 import org.springframework.modulith.events.config.EventPublicationConfigurationExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * @author Oliver Drotbohm
@@ -31,7 +33,15 @@ import org.springframework.modulith.events.config.EventPublicationConfigurationE
 class JpaEventPublicationConfiguration implements EventPublicationConfigurationExtension {
 
 	@Bean
-	JpaEventPublicationRepository jpaEventPublicationRepository(EntityManager em, EventSerializer serializer) {
-		return new JpaEventPublicationRepository(em, serializer);
+	JpaEventPublicationRepository jpaEventPublicationRepository(EntityManager em, EventSerializer serializer,
+			PlatformTransactionManager transactionManager) {
+
+		var repository = new JpaEventPublicationRepository(em, serializer);
+
+		// Publications stored without a hash have to get one before they are looked up, e.g. during replay
+		new TransactionTemplate(transactionManager)
+				.executeWithoutResult(__ -> repository.backfillSerializedEventHashes());
+
+		return repository;
 	}
 }
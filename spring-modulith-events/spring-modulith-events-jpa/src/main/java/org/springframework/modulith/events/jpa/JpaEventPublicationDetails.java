@@ -0,0 +1,31 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.jpa;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Read-only projection of a {@link JpaEventPublication}. Used as query result type to avoid the publications read from
+ * the database becoming managed entities and thus occupying the persistence context and being subject to dirty
+ * checking.
+ *
+ * @author Oliver Drotbohm
+ */
+record JpaEventPublicationDetails(UUID id, Instant publicationDate, String listenerId, String serializedEvent,
+		Class<?> eventType, @Nullable Instant completionDate) {}
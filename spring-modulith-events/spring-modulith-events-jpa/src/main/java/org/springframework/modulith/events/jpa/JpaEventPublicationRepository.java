@@ -19,14 +19,18 @@ import jakarta.persistence.EntityManager;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.springframework.modulith.events.CompletableEventPublication;
 import org.springframework.modulith.events.EventPublication;
 import org.springframework.modulith.events.EventPublicationRepository;
 import org.springframework.modulith.events.EventSerializer;
 import org.springframework.modulith.events.PublicationTargetIdentifier;
+import org.springframework.lang.Nullable;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
@@ -39,20 +43,97 @@ import org.springframework.util.Assert;
  */
 class JpaEventPublicationRepository implements EventPublicationRepository {
 
-	private static String BY_EVENT_AND_LISTENER_ID = """
-			select p
+	private static final int BACKFILL_BATCH_SIZE = 100;
+
+	private static final String DETAILS = """
+			select new org.springframework.modulith.events.jpa.JpaEventPublicationDetails(
+				p.id, p.publicationDate, p.listenerId, p.serializedEvent, p.eventType, p.completionDate)
+			from JpaEventPublication p
+			""";
+
+	private static final String BY_EVENT_AND_LISTENER_ID = DETAILS + """
+			where
+				p.serializedEventHash = ?1
+				and p.listenerId = ?2
+				and p.serializedEvent = ?3
+				and p.completionDate is null
+				and p.deadLetterDate is null
+			order by
+				p.publicationDate
+			""";
+
+	private static final String ID_BY_EVENT_AND_LISTENER_ID = """
+			select p.id
+			from JpaEventPublication p
+			where
+				p.serializedEventHash = ?1
+				and p.listenerId = ?2
+				and p.serializedEvent = ?3
+				and p.completionDate is null
+				and p.deadLetterDate is null
+			order by
+				p.publicationDate
+			""";
+
+	private static final String INCOMPLETE = DETAILS + """
+			where
+				p.completionDate is null
+				and p.deadLetterDate is null
+			""";
+
+	private static final String MARK_COMPLETED_BY_ID = """
+			update JpaEventPublication p
+			set p.completionDate = ?1
+			where
+				p.id = ?2
+			""";
+
+	private static final String ATTEMPTS_BY_EVENT_AND_LISTENER_ID = """
+			select p.id, coalesce(p.attempts, 0)
 			from JpaEventPublication p
-				where
-					p.serializedEvent = ?1
-					and p.listenerId = ?2
-					and p.completionDate is null
+			where
+				p.serializedEventHash = ?1
+				and p.listenerId = ?2
+				and p.serializedEvent = ?3
+				and p.completionDate is null
+				and p.deadLetterDate is null
+			order by
+				p.publicationDate
+			""";
+
+	private static final String MARK_FAILED_BY_ID = """
+			update JpaEventPublication p
+			set
+				p.attempts = coalesce(p.attempts, 0) + 1,
+				p.lastError = ?1,
+				p.lastAttemptDate = ?2,
+				p.deadLetterDate = ?3
+			where
+				p.id = ?4
 			""";
 
-	private static String INCOMPLETE = """
-			select p
+	private static final String COUNT_INCOMPLETE_BY_LISTENER_ID = """
+			select p.listenerId, count(p)
 			from JpaEventPublication p
 			where
 				p.completionDate is null
+				and p.deadLetterDate is null
+			group by
+				p.listenerId
+			""";
+
+	private static final String WITHOUT_HASH = """
+			select p.id, p.serializedEvent
+			from JpaEventPublication p
+			where
+				p.serializedEventHash is null
+			""";
+
+	private static final String SET_HASH_BY_ID = """
+			update JpaEventPublication p
+			set p.serializedEventHash = ?1
+			where
+				p.id = ?2
 			""";
 
 	private static final String DELETE_COMPLETED = """
@@ -89,9 +170,12 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 	@Transactional
 	public EventPublication create(EventPublication publication) {
 
-		entityManager.persist(domainToEntity(publication));
+		var entity = domainToEntity(publication);
 
-		return publication;
+		entityManager.persist(entity);
+
+		return detailsToDomain(new JpaEventPublicationDetails(entity.id, entity.publicationDate, entity.listenerId,
+				entity.serializedEvent, entity.eventType, null));
 	}
 
 	/*
@@ -102,11 +186,15 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 	@Transactional
 	public EventPublication update(CompletableEventPublication publication) {
 
-		var id = publication.getTargetIdentifier().getValue();
-		var event = publication.getEvent();
+		var id = publication instanceof JpaEventPublicationAdapter adapter
+				? Optional.of(adapter.details.id())
+				: findIdBySerializedEventAndListenerIdAndCompletionDateNull(publication.getEvent(),
+						publication.getTargetIdentifier().getValue());
 
-		findEntityBySerializedEventAndListenerIdAndCompletionDateNull(event, id) //
-				.ifPresent(entity -> entity.completionDate = publication.getCompletionDate().orElse(null));
+		id.ifPresent(it -> entityManager.createQuery(MARK_COMPLETED_BY_ID)
+				.setParameter(1, publication.getCompletionDate().orElse(null))
+				.setParameter(2, it)
+				.executeUpdate());
 
 		return publication;
 	}
@@ -119,9 +207,10 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 	@Transactional(readOnly = true)
 	public List<EventPublication> findIncompletePublications() {
 
-		return entityManager.createQuery(INCOMPLETE, JpaEventPublication.class)
-				.getResultStream()
-				.map(this::entityToDomain)
+		return entityManager.createQuery(INCOMPLETE, JpaEventPublicationDetails.class)
+				.getResultList()
+				.stream()
+				.map(this::detailsToDomain)
 				.toList();
 	}
 
@@ -134,8 +223,60 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 	public Optional<EventPublication> findIncompletePublicationsByEventAndTargetIdentifier( //
 			Object event, PublicationTargetIdentifier targetIdentifier) {
 
-		return findEntityBySerializedEventAndListenerIdAndCompletionDateNull(event, targetIdentifier.getValue())
-				.map(this::entityToDomain);
+		var serializedEvent = serializeEvent(event);
+
+		return entityManager.createQuery(BY_EVENT_AND_LISTENER_ID, JpaEventPublicationDetails.class)
+				.setParameter(1, JpaEventPublication.hash(serializedEvent))
+				.setParameter(2, targetIdentifier.getValue())
+				.setParameter(3, serializedEvent)
+				.setMaxResults(1)
+				.getResultStream()
+				.findFirst()
+				.map(this::detailsToDomain);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.EventPublicationRepository#markFailed(java.lang.Object, org.springframework.modulith.events.PublicationTargetIdentifier, java.lang.String, int)
+	 */
+	@Override
+	@Transactional
+	public void markFailed(Object event, PublicationTargetIdentifier targetIdentifier, String error, int maxAttempts) {
+
+		var serializedEvent = serializeEvent(event);
+
+		entityManager.createQuery(ATTEMPTS_BY_EVENT_AND_LISTENER_ID, Object[].class)
+				.setParameter(1, JpaEventPublication.hash(serializedEvent))
+				.setParameter(2, targetIdentifier.getValue())
+				.setParameter(3, serializedEvent)
+				.setMaxResults(1)
+				.getResultStream()
+				.findFirst()
+				.ifPresent(it -> {
+
+					var now = Instant.now();
+					var attempts = ((Number) it[1]).intValue();
+
+					entityManager.createQuery(MARK_FAILED_BY_ID)
+							.setParameter(1, error)
+							.setParameter(2, now)
+							.setParameter(3, attempts + 1 >= maxAttempts ? now : null)
+							.setParameter(4, it[0])
+							.executeUpdate();
+				});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.EventPublicationRepository#countIncompletePublicationsByTargetIdentifier()
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public Map<PublicationTargetIdentifier, Long> countIncompletePublicationsByTargetIdentifier() {
+
+		return entityManager.createQuery(COUNT_INCOMPLETE_BY_LISTENER_ID, Object[].class)
+				.getResultStream()
+				.collect(Collectors.toMap(it -> PublicationTargetIdentifier.of((String) it[0]), it -> (Long) it[1]));
 	}
 
 	/*
@@ -148,16 +289,48 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 		entityManager.createQuery(DELETE_COMPLETED).executeUpdate();
 	}
 
-	private Optional<JpaEventPublication> findEntityBySerializedEventAndListenerIdAndCompletionDateNull( //
-			Object event, String listenerId) {
+	/**
+	 * Calculates the hash of the serialized event for all publications stored before the {@code serializedEventHash}
+	 * column was introduced, so that they can be looked up via the index on that column.
+	 *
+	 * @return the number of publications updated.
+	 */
+	@Transactional
+	public int backfillSerializedEventHashes() {
 
-		var serializedEvent = serializeEvent(event);
+		var result = 0;
+		List<Object[]> batch;
 
-		var query = entityManager.createQuery(BY_EVENT_AND_LISTENER_ID, JpaEventPublication.class)
-				.setParameter(1, serializedEvent)
-				.setParameter(2, listenerId);
+		do {
 
-		return query.getResultStream().findFirst();
+			batch = entityManager.createQuery(WITHOUT_HASH, Object[].class)
+					.setMaxResults(BACKFILL_BATCH_SIZE)
+					.getResultList();
+
+			for (var it : batch) {
+
+				result += entityManager.createQuery(SET_HASH_BY_ID)
+						.setParameter(1, JpaEventPublication.hash((String) it[1]))
+						.setParameter(2, it[0])
+						.executeUpdate();
+			}
+
+		} while (batch.size() == BACKFILL_BATCH_SIZE);
+
+		return result;
+	}
+
+	private Optional<UUID> findIdBySerializedEventAndListenerIdAndCompletionDateNull(Object event, String listenerId) {
+
+		var serializedEvent = serializeEvent(event);
+
+		return entityManager.createQuery(ID_BY_EVENT_AND_LISTENER_ID, UUID.class)
+				.setParameter(1, JpaEventPublication.hash(serializedEvent))
+				.setParameter(2, listenerId)
+				.setParameter(3, serializedEvent)
+				.setMaxResults(1)
+				.getResultStream()
+				.findFirst();
 	}
 
 	private String serializeEvent(Object event) {
@@ -169,29 +342,41 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 				serializeEvent(domain.getEvent()), domain.getEvent().getClass());
 	}
 
-	private EventPublication entityToDomain(JpaEventPublication entity) {
-		return new JpaEventPublicationAdapter(entity, serializer);
+	private EventPublication detailsToDomain(JpaEventPublicationDetails details) {
+		return new JpaEventPublicationAdapter(details, serializer);
 	}
 
 	private static class JpaEventPublicationAdapter implements CompletableEventPublication {
 
-		private final JpaEventPublication publication;
+		private final JpaEventPublicationDetails details;
 		private final EventSerializer serializer;
 
+		private @Nullable Instant completionDate;
+
 		/**
-		 * Creates a new {@link JpaEventPublicationAdapter} for the given {@link JpaEventPublication} and
+		 * Creates a new {@link JpaEventPublicationAdapter} for the given {@link JpaEventPublicationDetails} and
 		 * {@link EventSerializer}.
 		 *
-		 * @param publication must not be {@literal null}.
+		 * @param details must not be {@literal null}.
 		 * @param serializer must not be {@literal null}.
 		 */
-		public JpaEventPublicationAdapter(JpaEventPublication publication, EventSerializer serializer) {
+		public JpaEventPublicationAdapter(JpaEventPublicationDetails details, EventSerializer serializer) {
 
-			Assert.notNull(publication, "JpaEventPublication must not be null!");
+			Assert.notNull(details, "JpaEventPublicationDetails must not be null!");
 			Assert.notNull(serializer, "EventSerializer must not be null!");
 
-			this.publication = publication;
+			this.details = details;
 			this.serializer = serializer;
+			this.completionDate = details.completionDate();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.EventPublication#getIdentifier()
+		 */
+		@Override
+		public Optional<String> getIdentifier() {
+			return Optional.of(details.id().toString());
 		}
 
 		/*
@@ -200,7 +385,7 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 		 */
 		@Override
 		public Object getEvent() {
-			return serializer.deserialize(publication.serializedEvent, publication.eventType);
+			return serializer.deserialize(details.serializedEvent(), details.eventType());
 		}
 
 		/*
@@ -209,7 +394,7 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 		 */
 		@Override
 		public PublicationTargetIdentifier getTargetIdentifier() {
-			return PublicationTargetIdentifier.of(publication.listenerId);
+			return PublicationTargetIdentifier.of(details.listenerId());
 		}
 
 		/*
@@ -218,7 +403,7 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 		 */
 		@Override
 		public Instant getPublicationDate() {
-			return publication.publicationDate;
+			return details.publicationDate();
 		}
 
 		/*
@@ -227,7 +412,7 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 		 */
 		@Override
 		public Optional<Instant> getCompletionDate() {
-			return Optional.ofNullable(publication.completionDate);
+			return Optional.ofNullable(completionDate);
 		}
 
 		/*
@@ -236,7 +421,7 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 		 */
 		@Override
 		public boolean isPublicationCompleted() {
-			return publication.completionDate != null;
+			return completionDate != null;
 		}
 
 		/*
@@ -245,7 +430,9 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 		 */
 		@Override
 		public CompletableEventPublication markCompleted() {
-			publication.markCompleted();
+
+			this.completionDate = Instant.now();
+
 			return this;
 		}
 
@@ -254,7 +441,7 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 		 * @see java.lang.Object#equals(java.lang.Object)
 		 */
 		@Override
-		public boolean equals(Object obj) {
+		public boolean equals(@Nullable Object obj) {
 
 			if (this == obj) {
 				return true;
@@ -264,7 +451,8 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 				return false;
 			}
 
-			return Objects.equals(publication, that.publication)
+			return Objects.equals(details, that.details)
+					&& Objects.equals(completionDate, that.completionDate)
 					&& Objects.equals(serializer, that.serializer);
 		}
 
@@ -274,7 +462,7 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 		 */
 		@Override
 		public int hashCode() {
-			return Objects.hash(publication, serializer);
+			return Objects.hash(details, completionDate, serializer);
 		}
 	}
 }
@@ -27,6 +27,7 @@ import java.util.List;
 
 import javax.sql.DataSource;
 
+import org.hibernate.Session;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.context.annotation.Bean;
@@ -128,6 +129,7 @@ class JpaEventPublicationRepositoryIntegrationTests {
 		assertThat(eventPublications).hasSize(1);
 		assertThat(eventPublications.get(0).getEvent()).isEqualTo(publication.getEvent());
 		assertThat(eventPublications.get(0).getTargetIdentifier()).isEqualTo(publication.getTargetIdentifier());
+		assertThat(eventPublications.get(0).getIdentifier()).isPresent();
 		assertThat(repository.findIncompletePublicationsByEventAndTargetIdentifier(testEvent, TARGET_IDENTIFIER))
 				.isPresent();
 
@@ -168,6 +170,182 @@ class JpaEventPublicationRepositoryIntegrationTests {
 		assertThat(actual).isEmpty();
 	}
 
+	@Test
+	void readsIncompletePublicationsWithoutManagingEntities() {
+
+		var testEvent = new TestEvent("abc");
+		var serializedEvent = "{\"eventId\":\"abc\"}";
+
+		when(eventSerializer.serialize(testEvent)).thenReturn(serializedEvent);
+
+		repository.create(CompletableEventPublication.of(testEvent, TARGET_IDENTIFIER));
+
+		em.flush();
+		em.clear();
+
+		assertThat(repository.findIncompletePublications()).hasSize(1);
+		assertThat(repository.findIncompletePublicationsByEventAndTargetIdentifier(testEvent, TARGET_IDENTIFIER))
+				.isPresent();
+		assertThat(em.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+	}
+
+	@Test
+	void completesPublicationPreviouslyLookedUp() {
+
+		var testEvent = new TestEvent("abc");
+		var serializedEvent = "{\"eventId\":\"abc\"}";
+
+		when(eventSerializer.serialize(testEvent)).thenReturn(serializedEvent);
+
+		repository.create(CompletableEventPublication.of(testEvent, TARGET_IDENTIFIER));
+
+		var publication = (CompletableEventPublication) repository.findIncompletePublications().get(0);
+
+		repository.update(publication.markCompleted());
+
+		assertThat(repository.findIncompletePublications()).isEmpty();
+	}
+
+	@Test
+	void storesHashOfSerializedEvent() {
+
+		var testEvent = new TestEvent("abc");
+		var serializedEvent = "{\"eventId\":\"abc\"}";
+
+		when(eventSerializer.serialize(testEvent)).thenReturn(serializedEvent);
+
+		repository.create(CompletableEventPublication.of(testEvent, TARGET_IDENTIFIER));
+
+		assertThat(em.createQuery("select p from JpaEventPublication p", JpaEventPublication.class).getResultList())
+				.extracting(it -> it.serializedEventHash)
+				.containsExactly(JpaEventPublication.hash(serializedEvent));
+	}
+
+	@Test
+	void backfillsHashOfPublicationStoredWithoutHash() {
+
+		var testEvent = new TestEvent("abc");
+		var serializedEvent = "{\"eventId\":\"abc\"}";
+
+		when(eventSerializer.serialize(testEvent)).thenReturn(serializedEvent);
+
+		var publication = CompletableEventPublication.of(testEvent, TARGET_IDENTIFIER);
+
+		repository.create(publication);
+
+		// Simulate a publication stored before the hash column was introduced
+		em.createQuery("update JpaEventPublication p set p.serializedEventHash = null").executeUpdate();
+		em.clear();
+
+		assertThat(repository.findIncompletePublicationsByEventAndTargetIdentifier(testEvent, TARGET_IDENTIFIER))
+				.isEmpty();
+		assertThat(repository.backfillSerializedEventHashes()).isEqualTo(1);
+		assertThat(repository.backfillSerializedEventHashes()).isZero();
+
+		assertThat(repository.findIncompletePublicationsByEventAndTargetIdentifier(testEvent, TARGET_IDENTIFIER))
+				.isPresent();
+
+		repository.update(publication.markCompleted());
+
+		assertThat(repository.findIncompletePublications()).isEmpty();
+	}
+
+	@Test
+	void countsIncompletePublicationsPerListener() {
+
+		var testEvent1 = new TestEvent("abc");
+		var serializedEvent1 = "{\"eventId\":\"abc\"}";
+		var testEvent2 = new TestEvent("def");
+		var serializedEvent2 = "{\"eventId\":\"def\"}";
+		var otherIdentifier = PublicationTargetIdentifier.of("other");
+
+		when(eventSerializer.serialize(testEvent1)).thenReturn(serializedEvent1);
+		when(eventSerializer.serialize(testEvent2)).thenReturn(serializedEvent2);
+
+		var publication = CompletableEventPublication.of(testEvent1, TARGET_IDENTIFIER);
+
+		repository.create(publication);
+		repository.create(CompletableEventPublication.of(testEvent2, TARGET_IDENTIFIER));
+		repository.create(CompletableEventPublication.of(testEvent2, otherIdentifier));
+
+		repository.update(publication.markCompleted());
+
+		assertThat(repository.countIncompletePublicationsByTargetIdentifier())
+				.containsOnly(entry(TARGET_IDENTIFIER, 1L), entry(otherIdentifier, 1L));
+	}
+
+	@Test
+	void recordsFailedAttempts() {
+
+		var testEvent = new TestEvent("abc");
+		var serializedEvent = "{\"eventId\":\"abc\"}";
+
+		when(eventSerializer.serialize(testEvent)).thenReturn(serializedEvent);
+
+		repository.create(CompletableEventPublication.of(testEvent, TARGET_IDENTIFIER));
+		repository.markFailed(testEvent, TARGET_IDENTIFIER, "Failure!", 3);
+		repository.markFailed(testEvent, TARGET_IDENTIFIER, "Another failure!", 3);
+
+		em.clear();
+
+		assertThat(em.createQuery("select p from JpaEventPublication p", JpaEventPublication.class).getSingleResult())
+				.satisfies(it -> {
+					assertThat(it.attempts).isEqualTo(2);
+					assertThat(it.lastError).isEqualTo("Another failure!");
+					assertThat(it.lastAttemptDate).isNotNull();
+					assertThat(it.deadLetterDate).isNull();
+				});
+
+		assertThat(repository.findIncompletePublications()).hasSize(1);
+	}
+
+	@Test
+	void recordsFailedAttemptsForPublicationStoredWithoutAttempts() {
+
+		var testEvent = new TestEvent("abc");
+		var serializedEvent = "{\"eventId\":\"abc\"}";
+
+		when(eventSerializer.serialize(testEvent)).thenReturn(serializedEvent);
+
+		repository.create(CompletableEventPublication.of(testEvent, TARGET_IDENTIFIER));
+
+		// Simulate a publication stored before the attempts column was introduced
+		em.createQuery("update JpaEventPublication p set p.attempts = null").executeUpdate();
+		em.clear();
+
+		repository.markFailed(testEvent, TARGET_IDENTIFIER, "Failure!", 3);
+
+		em.clear();
+
+		assertThat(em.createQuery("select p from JpaEventPublication p", JpaEventPublication.class).getSingleResult())
+				.satisfies(it -> {
+					assertThat(it.attempts).isEqualTo(1);
+					assertThat(it.deadLetterDate).isNull();
+				});
+	}
+
+	@Test
+	void deadLettersPublicationOnceMaximumNumberOfAttemptsIsReached() {
+
+		var testEvent = new TestEvent("abc");
+		var serializedEvent = "{\"eventId\":\"abc\"}";
+
+		when(eventSerializer.serialize(testEvent)).thenReturn(serializedEvent);
+
+		repository.create(CompletableEventPublication.of(testEvent, TARGET_IDENTIFIER));
+		repository.markFailed(testEvent, TARGET_IDENTIFIER, "Failure!", 2);
+		repository.markFailed(testEvent, TARGET_IDENTIFIER, "Failure!", 2);
+
+		em.clear();
+
+		assertThat(em.createQuery("select p from JpaEventPublication p", JpaEventPublication.class).getSingleResult()
+				.deadLetterDate).isNotNull();
+
+		assertThat(repository.findIncompletePublications()).isEmpty();
+		assertThat(repository.findIncompletePublicationsByEventAndTargetIdentifier(testEvent, TARGET_IDENTIFIER)).isEmpty();
+		assertThat(repository.countIncompletePublicationsByTargetIdentifier()).isEmpty();
+	}
+
 	@Test // GH-20
 	void shouldDeleteCompletedEvents() {
 
@@ -38,6 +38,10 @@ class MongoDbEventPublication {
 	final Object event;
 
 	@Nullable Instant completionDate;
+	int attempts;
+	@Nullable String lastError;
+	@Nullable Instant lastAttemptDate;
+	@Nullable Instant deadLetterDate;
 
 	/**
 	 * Creates a new {@link MongoDbEventPublication} for the given id, publication date, listener id, event and completion
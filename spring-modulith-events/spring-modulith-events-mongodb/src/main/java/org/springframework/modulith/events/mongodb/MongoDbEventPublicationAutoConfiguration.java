@@ -15,9 +15,11 @@
  */
 package org.springframework.modulith.events.mongodb;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.modulith.events.EventPublicationShards;
 import org.springframework.modulith.events.config.EventPublicationConfigurationExtension;
 
 /**
@@ -29,7 +31,10 @@ import org.springframework.modulith.events.config.EventPublicationConfigurationE
 class MongoDbEventPublicationAutoConfiguration implements EventPublicationConfigurationExtension {
 
 	@Bean
-	MongoDbEventPublicationRepository mongoDbEventPublicationRepository(MongoTemplate template) {
-		return new MongoDbEventPublicationRepository(template);
+	MongoDbEventPublicationRepository mongoDbEventPublicationRepository(MongoTemplate template,
+			ObjectProvider<EventPublicationShards> shards) {
+
+		return new MongoDbEventPublicationRepository(template,
+				shards.getIfAvailable(() -> EventPublicationShards.NONE));
 	}
 }
@@ -15,20 +15,27 @@
  */
 package org.springframework.modulith.events.mongodb;
 
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
 import static org.springframework.data.mongodb.core.query.Criteria.*;
 import static org.springframework.data.mongodb.core.query.Query.*;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.bson.Document;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.modulith.events.CompletableEventPublication;
 import org.springframework.modulith.events.EventPublication;
 import org.springframework.modulith.events.EventPublicationRepository;
+import org.springframework.modulith.events.EventPublicationShards;
 import org.springframework.modulith.events.PublicationTargetIdentifier;
 import org.springframework.util.Assert;
 
@@ -42,6 +49,8 @@ import org.springframework.util.Assert;
 class MongoDbEventPublicationRepository implements EventPublicationRepository {
 
 	private final MongoTemplate mongoTemplate;
+	private final EventPublicationShards shards;
+	private final Map<String, String> collections;
 
 	/**
 	 * Creates a new {@link MongoDbEventPublicationRepository} for the given {@link MongoTemplate}.
@@ -49,18 +58,36 @@ class MongoDbEventPublicationRepository implements EventPublicationRepository {
 	 * @param mongoTemplate must not be {@literal null}.
 	 */
 	public MongoDbEventPublicationRepository(MongoTemplate mongoTemplate) {
+		this(mongoTemplate, EventPublicationShards.NONE);
+	}
+
+	/**
+	 * Creates a new {@link MongoDbEventPublicationRepository} for the given {@link MongoTemplate} and
+	 * {@link EventPublicationShards}, storing the publications of each shard in a dedicated collection.
+	 *
+	 * @param mongoTemplate must not be {@literal null}.
+	 * @param shards must not be {@literal null}.
+	 */
+	public MongoDbEventPublicationRepository(MongoTemplate mongoTemplate, EventPublicationShards shards) {
 
 		Assert.notNull(mongoTemplate, "MongoTemplate must not be null!");
+		Assert.notNull(shards, "EventPublicationShards must not be null!");
+
+		var collection = mongoTemplate.getCollectionName(MongoDbEventPublication.class);
 
 		this.mongoTemplate = mongoTemplate;
+		this.shards = shards;
+		this.collections = shards.getShards().stream()
+				.collect(Collectors.toMap(Function.identity(), it -> it.isEmpty() ? collection : collection + "_" + it));
 	}
 
 	@Override
 	public EventPublication create(EventPublication publication) {
 
-		mongoTemplate.save(domainToDocument(publication));
+		var collection = collectionFor(publication.getTargetIdentifier());
+		var document = mongoTemplate.save(domainToDocument(publication), collection);
 
-		return publication;
+		return documentToDomain(document);
 	}
 
 	@Override
@@ -71,7 +98,7 @@ class MongoDbEventPublicationRepository implements EventPublicationRepository {
 						.stream() //
 						.findFirst() //
 						.map(document -> document.markCompleted(publication.getCompletionDate().orElse(null))) //
-						.map(mongoTemplate::save) //
+						.map(document -> mongoTemplate.save(document, collectionFor(publication.getTargetIdentifier()))) //
 						.map(this::documentToDomain) //
 						.orElse(publication);
 	}
@@ -79,9 +106,22 @@ class MongoDbEventPublicationRepository implements EventPublicationRepository {
 	@Override
 	public List<EventPublication> findIncompletePublications() {
 
-		var query = query(where("completionDate").isNull());
+		return shards.getShards().stream()
+				.flatMap(it -> findIncompletePublications(it).stream())
+				.toList();
+	}
+
+	@Override
+	public List<String> getShards() {
+		return shards.getShards();
+	}
+
+	@Override
+	public List<EventPublication> findIncompletePublications(String shard) {
 
-		return mongoTemplate.find(query, MongoDbEventPublication.class).stream() //
+		var query = query(where("completionDate").isNull().and("deadLetterDate").isNull());
+
+		return mongoTemplate.find(query, MongoDbEventPublication.class, collectionFor(shard)).stream() //
 				.<EventPublication> map(this::documentToDomain) //
 				.toList();
 	}
@@ -100,9 +140,46 @@ class MongoDbEventPublicationRepository implements EventPublicationRepository {
 		return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
 	}
 
+	@Override
+	public Map<PublicationTargetIdentifier, Long> countIncompletePublicationsByTargetIdentifier() {
+
+		var aggregation = newAggregation( //
+				match(where("completionDate").isNull().and("deadLetterDate").isNull()), //
+				group("listenerId").count().as("count"));
+
+		return collections.values().stream() //
+				.flatMap(it -> mongoTemplate.aggregate(aggregation, it, Document.class).getMappedResults().stream()) //
+				.collect(Collectors.toMap(it -> PublicationTargetIdentifier.of(it.getString("_id")),
+						it -> ((Number) it.get("count")).longValue(), Long::sum));
+	}
+
+	@Override
+	public void markFailed(Object event, PublicationTargetIdentifier targetIdentifier, String error, int maxAttempts) {
+
+		findDocumentsByEventAndTargetIdentifierAndCompletionDateNull(event, targetIdentifier) //
+				.stream() //
+				.findFirst() //
+				.ifPresent(it -> {
+
+					var now = Instant.now();
+					var update = new Update() //
+							.inc("attempts", 1) //
+							.set("lastError", error) //
+							.set("lastAttemptDate", now);
+
+					if (it.attempts + 1 >= maxAttempts) {
+						update.set("deadLetterDate", now);
+					}
+
+					mongoTemplate.updateFirst(query(where("id").is(it.id)), update, MongoDbEventPublication.class,
+							collectionFor(targetIdentifier));
+				});
+	}
+
 	@Override
 	public void deleteCompletedPublications() {
-		mongoTemplate.remove(query(where("completionDate").ne(null)), MongoDbEventPublication.class);
+		collections.values().forEach(it -> mongoTemplate.remove(query(where("completionDate").ne(null)),
+				MongoDbEventPublication.class, it));
 	}
 
 	private List<MongoDbEventPublication> findDocumentsByEventAndTargetIdentifierAndCompletionDateNull( //
@@ -114,10 +191,24 @@ class MongoDbEventPublicationRepository implements EventPublicationRepository {
 		var query = query(
 				where("event").is(eventAsMongoType) //
 						.and("listenerId").is(targetIdentifier.getValue()) //
-						.and("completionDate").isNull()) //
+						.and("completionDate").isNull() //
+						.and("deadLetterDate").isNull()) //
 								.with(Sort.by("publicationDate").ascending());
 
-		return mongoTemplate.find(query, MongoDbEventPublication.class);
+		return mongoTemplate.find(query, MongoDbEventPublication.class, collectionFor(targetIdentifier));
+	}
+
+	private String collectionFor(PublicationTargetIdentifier identifier) {
+		return collectionFor(shards.getShardFor(identifier));
+	}
+
+	private String collectionFor(String shard) {
+
+		var result = collections.get(shard);
+
+		Assert.notNull(result, () -> "Unknown shard '%s'!".formatted(shard));
+
+		return result;
 	}
 
 	private MongoDbEventPublication domainToDocument(EventPublication publication) {
@@ -140,6 +231,11 @@ class MongoDbEventPublicationRepository implements EventPublicationRepository {
 			this.publication = publication;
 		}
 
+		@Override
+		public Optional<String> getIdentifier() {
+			return Optional.of(publication.id.toHexString());
+		}
+
 		@Override
 		public Object getEvent() {
 			return publication.event;
@@ -165,6 +165,66 @@ class MongoDbEventPublicationRepositoryTest {
 		}
 	}
 
+	@Nested
+	class CountIncompletePublications {
+
+		@Test
+		void shouldCountIncompletePublicationsPerListener() {
+
+			var otherIdentifier = PublicationTargetIdentifier.of("other");
+			var publication = CompletableEventPublication.of(new TestEvent("abc"), TARGET_IDENTIFIER);
+
+			repository.create(publication);
+			repository.create(CompletableEventPublication.of(new TestEvent("def"), TARGET_IDENTIFIER));
+			repository.create(CompletableEventPublication.of(new TestEvent("def"), otherIdentifier));
+
+			repository.update(publication.markCompleted());
+
+			assertThat(repository.countIncompletePublicationsByTargetIdentifier())
+					.containsOnly(entry(TARGET_IDENTIFIER, 1L), entry(otherIdentifier, 1L));
+		}
+	}
+
+	@Nested
+	class MarkFailed {
+
+		@Test
+		void shouldRecordFailedAttempts() {
+
+			var testEvent = new TestEvent("abc");
+
+			repository.create(CompletableEventPublication.of(testEvent, TARGET_IDENTIFIER));
+			repository.markFailed(testEvent, TARGET_IDENTIFIER, "Failure!", 3);
+			repository.markFailed(testEvent, TARGET_IDENTIFIER, "Another failure!", 3);
+
+			assertThat(mongoTemplate.findAll(MongoDbEventPublication.class)).hasSize(1).element(0).satisfies(it -> {
+				assertThat(it.attempts).isEqualTo(2);
+				assertThat(it.lastError).isEqualTo("Another failure!");
+				assertThat(it.lastAttemptDate).isNotNull();
+				assertThat(it.deadLetterDate).isNull();
+			});
+
+			assertThat(repository.findIncompletePublications()).hasSize(1);
+		}
+
+		@Test
+		void shouldDeadLetterPublicationOnceMaximumNumberOfAttemptsIsReached() {
+
+			var testEvent = new TestEvent("abc");
+
+			repository.create(CompletableEventPublication.of(testEvent, TARGET_IDENTIFIER));
+			repository.markFailed(testEvent, TARGET_IDENTIFIER, "Failure!", 2);
+			repository.markFailed(testEvent, TARGET_IDENTIFIER, "Failure!", 2);
+
+			assertThat(mongoTemplate.findAll(MongoDbEventPublication.class)).element(0)
+					.satisfies(it -> assertThat(it.deadLetterDate).isNotNull());
+			assertThat(repository.findIncompletePublications()).isEmpty();
+			assertThat(repository.findIncompletePublicationsByEventAndTargetIdentifier(testEvent, TARGET_IDENTIFIER))
+					.isEmpty();
+			assertThat(repository.countIncompletePublicationsByTargetIdentifier()).isEmpty();
+		}
+	}
+
 	@Nested
 	class DeleteCompletedPublications {
 
@@ -25,6 +25,7 @@ import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 import com.acme.myproject.Application;
+import com.acme.myproject.complex.api.ComplexApiComponent;
 import com.acme.myproject.complex.internal.FirstTypeBasedPort;
 import com.acme.myproject.complex.internal.SecondTypeBasePort;
 import com.acme.myproject.moduleA.ServiceComponentA;
@@ -54,6 +55,88 @@ class ApplicationModulesIntegrationTest {
 		});
 	}
 
+	@Test
+	void resolvesBootstrapDependenciesPerDepth() {
+
+		var moduleC = modules.getModuleByName("moduleC").orElseThrow();
+
+		assertThat(moduleC.getBootstrapDependencies(modules, DependencyDepth.NONE)).isEmpty();
+		assertThat(moduleC.getBootstrapDependencies(modules, DependencyDepth.IMMEDIATE)) //
+				.extracting(ApplicationModule::getName) //
+				.containsExactly("moduleB");
+		assertThat(moduleC.getBootstrapDependencies(modules, DependencyDepth.ALL)) //
+				.extracting(ApplicationModule::getName) //
+				.containsExactly("moduleB", "moduleA");
+	}
+
+	@Test
+	void resolvesBootstrapBasePackagesPerDepthOnce() {
+
+		var moduleC = modules.getModuleByName("moduleC").orElseThrow();
+
+		for (var depth : DependencyDepth.values()) {
+
+			var packages = moduleC.getBootstrapBasePackages(modules, depth).toList();
+
+			assertThat(packages.get(0)).isEqualTo(moduleC.getBasePackage());
+			assertThat(packages.subList(1, packages.size())) //
+					.containsExactlyElementsOf(moduleC.getBootstrapDependencies(modules, depth) //
+							.map(ApplicationModule::getBasePackage) //
+							.toList());
+			assertThat(modules.getDependencyGraph().getBootstrapBasePackages(moduleC, depth)).isSameAs(
+					modules.getDependencyGraph().getBootstrapBasePackages(moduleC, depth));
+		}
+	}
+
+	@Test
+	void dependencyGraphExposesCalculatedDependencies() {
+
+		var graph = modules.getDependencyGraph();
+
+		modules.forEach(it -> {
+
+			assertThat(graph.getDependencies(it)).containsExactlyElementsOf(it.calculateDependencies(modules).toList());
+			assertThat(graph.getModuleDependencies(it)) //
+					.containsExactlyInAnyOrderElementsOf(it.getDependencies(modules).stream() //
+							.map(ApplicationModuleDependency::getTargetModule) //
+							.distinct() //
+							.toList());
+		});
+	}
+
+	@Test
+	void detectsCyclesOnTheModuleDependencyGraph() {
+
+		assertThat(modules.getDependencyGraph().getCycles()) //
+				.singleElement() //
+				.satisfies(it -> assertThat(it).extracting(ApplicationModule::getName).containsExactly("cycleA", "cycleB"));
+	}
+
+	@Test
+	void detectsCyclesReachableFromGivenModulesOnly() {
+
+		var graph = modules.getDependencyGraph();
+		var cycleA = modules.getModuleByName("cycleA").orElseThrow();
+		var moduleA = modules.getModuleByName("moduleA").orElseThrow();
+
+		assertThat(graph.getCyclesReachableFrom(List.of(cycleA))).isEqualTo(graph.getCycles());
+		assertThat(graph.getCyclesReachableFrom(List.of(moduleA))).isEmpty();
+		assertThat(graph.getCyclesReachableFrom(modules.stream().toList())).isEqualTo(graph.getCycles());
+	}
+
+	@Test
+	void sharesClassImportBetweenInstancesIgnoringDifferentTypes() {
+
+		var withoutCycleA = ApplicationModules.of(Application.class, ApplicationModules.Filters.withoutModules("cycleA"));
+
+		assertThat(withoutCycleA).isNotSameAs(modules);
+		assertThat(withoutCycleA.getModuleByName("cycleA")).isEmpty();
+		assertThat(withoutCycleA.getModuleByName("moduleA").flatMap(it -> it.getType(ServiceComponentA.class.getName())))
+				.containsSame(modules.getModuleByName("moduleA") //
+						.flatMap(it -> it.getType(ServiceComponentA.class.getName())) //
+						.orElseThrow());
+	}
+
 	@Test
 	void usesExplicitlyAnnotatedDisplayName() {
 
@@ -91,6 +174,28 @@ class ApplicationModulesIntegrationTest {
 		});
 	}
 
+	@Test
+	void indexesNamedInterfacesByContainedType() {
+
+		assertThat(modules.getModuleByName("complex")).hasValueSatisfying(it -> {
+
+			var interfaces = it.getNamedInterfaces();
+			var port = it.getType(FirstTypeBasedPort.class.getName()).orElseThrow();
+			var api = it.getType(ComplexApiComponent.class.getName()).orElseThrow();
+			var internal = it.getType("com.acme.myproject.complex.internal.ComplextInternalComponent").orElseThrow();
+
+			assertThat(interfaces.getNamedInterfacesContaining(port)).extracting(NamedInterface::getName)
+					.containsExactlyInAnyOrder("Port 1", "Port 2");
+			assertThat(interfaces.getNamedInterfacesContaining(api)).extracting(NamedInterface::getName)
+					.containsExactly("API");
+			assertThat(interfaces.getNamedInterfacesContaining(internal)).isEmpty();
+
+			assertThat(it.isExposed(port)).isTrue();
+			assertThat(it.isExposed(api)).isTrue();
+			assertThat(it.isExposed(internal)).isFalse();
+		});
+	}
+
 	@Test
 	void detectsReferenceToUndeclaredNamedInterface() {
 
@@ -142,6 +247,35 @@ class ApplicationModulesIntegrationTest {
 				.isEqualTo(modules.getModuleByName("moduleA"));
 	}
 
+	@Test
+	void doesNotConsiderPackagesWithModulePackageNameAsPrefixPartOfTheModule() {
+
+		assertThat(modules.getModuleForPackage("com.acme.myproject.moduleAB")).isEmpty();
+		assertThat(modules.getModuleForPackage("com.acme")).isEmpty();
+	}
+
+	@Test
+	void findsModuleByTypeName() {
+
+		var moduleA = modules.getModuleByName("moduleA");
+
+		assertThat(modules.getModuleByType(ServiceComponentA.class)).isEqualTo(moduleA);
+		assertThat(modules.getModuleByType(ServiceComponentA.class.getName())).isEqualTo(moduleA);
+		assertThat(modules.getModuleByType(ServiceComponentA.class.getSimpleName())).isEqualTo(moduleA);
+		assertThat(modules.getModuleByType(String.class)).isEmpty();
+		assertThat(modules.contains(modules.getModuleByName("moduleB").orElseThrow()
+				.getType(ServiceComponentB.class.getName()).orElseThrow())).isTrue();
+	}
+
+	@Test
+	void reportsViolationsInStableOrder() {
+
+		var violations = modules.detectViolations();
+
+		assertThat(violations.hasViolations()).isTrue();
+		assertThat(modules.detectViolations().getMessage()).isEqualTo(violations.getMessage());
+	}
+
 	@Test
 	void createsModulesFromJavaPackage() {
 
@@ -17,6 +17,12 @@ package org.springframework.modulith.core.util;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.modulith.core.ApplicationModules;
 
@@ -30,6 +36,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  */
 public class ApplicationModulesExporterUnitTests {
 
+	ApplicationModulesExporter exporter = new ApplicationModulesExporter(ApplicationModules.of(Application.class));
+
 	@Test // #119
 	void rendersApplicationModulesAsJson() {
 
@@ -39,4 +47,39 @@ public class ApplicationModulesExporterUnitTests {
 			new ObjectMapper().readTree(json);
 		});
 	}
+
+	@Test
+	void writesSameJsonToWriterOutputStreamAndGzippedBytes() throws Exception {
+
+		var json = exporter.toJson();
+
+		var writer = new StringWriter();
+		exporter.writeTo(writer);
+
+		var stream = new ByteArrayOutputStream();
+		exporter.writeTo(stream);
+
+		try (var gzipped = new GZIPInputStream(new ByteArrayInputStream(exporter.toGzippedJson()))) {
+			assertThat(new String(gzipped.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(json);
+		}
+
+		assertThat(writer.toString()).isEqualTo(json);
+		assertThat(stream.toString(StandardCharsets.UTF_8)).isEqualTo(json);
+	}
+
+	@Test
+	void escapesStringValues() throws Exception {
+
+		var writer = new StringWriter();
+
+		new JsonWriter(writer).beginObject() //
+				.name("key").value("\"quoted\"\\\n") //
+				.name("empty").beginArray().endArray() //
+				.endObject();
+
+		var node = new ObjectMapper().readTree(writer.toString());
+
+		assertThat(node.get("key").asText()).isEqualTo("\"quoted\"\\\n");
+		assertThat(node.get("empty").isEmpty()).isTrue();
+	}
 }
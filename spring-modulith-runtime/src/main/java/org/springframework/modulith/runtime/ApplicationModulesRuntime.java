@@ -15,8 +15,11 @@
  */
 package org.springframework.modulith.runtime;
 
+import java.util.Comparator;
+import java.util.Optional;
 import java.util.function.Supplier;
 
+import org.springframework.lang.Nullable;
 import org.springframework.modulith.core.ApplicationModules;
 import org.springframework.util.Assert;
 
@@ -30,6 +33,7 @@ public class ApplicationModulesRuntime implements Supplier<ApplicationModules> {
 
 	private final Supplier<ApplicationModules> modules;
 	private final ApplicationRuntime runtime;
+	private final @Nullable PrecomputedApplicationModules precomputed;
 
 	/**
 	 * Creates a new {@link ApplicationModulesRuntime} for the given {@link ApplicationModules} and
@@ -39,12 +43,26 @@ public class ApplicationModulesRuntime implements Supplier<ApplicationModules> {
 	 * @param runtime must not be {@literal null}.
 	 */
 	public ApplicationModulesRuntime(Supplier<ApplicationModules> modules, ApplicationRuntime runtime) {
+		this(modules, runtime, null);
+	}
+
+	/**
+	 * Creates a new {@link ApplicationModulesRuntime} for the given {@link ApplicationModules},
+	 * {@link ApplicationRuntime} and {@link PrecomputedApplicationModules}.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @param runtime must not be {@literal null}.
+	 * @param precomputed can be {@literal null}.
+	 */
+	public ApplicationModulesRuntime(Supplier<ApplicationModules> modules, ApplicationRuntime runtime,
+			@Nullable PrecomputedApplicationModules precomputed) {
 
 		Assert.notNull(modules, "ApplicationModules must not be null!");
 		Assert.notNull(runtime, "ApplicationRuntime must not be null!");
 
 		this.modules = modules;
 		this.runtime = runtime;
+		this.precomputed = precomputed;
 	}
 
 	/*
@@ -56,6 +74,29 @@ public class ApplicationModulesRuntime implements Supplier<ApplicationModules> {
 		return modules.get();
 	}
 
+	/**
+	 * Returns the {@link PrecomputedApplicationModules} computed during AOT processing, if available.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<PrecomputedApplicationModules> getPrecomputed() {
+		return Optional.ofNullable(precomputed);
+	}
+
+	/**
+	 * Returns a {@link Comparator} to sort objects by the application module their type resides in. Uses the
+	 * {@link PrecomputedApplicationModules} if available to avoid the analysis of the {@link ApplicationModules}.
+	 *
+	 * @return will never be {@literal null}.
+	 * @see ApplicationModules#getComparator()
+	 */
+	public Comparator<Object> getComparator() {
+
+		return precomputed != null
+				? precomputed.getComparator()
+				: modules.get().getComparator();
+	}
+
 	/**
 	 * Returns whether a given {@link Class} is considered an application one (versus Framework ones).
 	 *
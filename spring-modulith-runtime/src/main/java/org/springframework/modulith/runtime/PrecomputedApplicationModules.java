@@ -0,0 +1,270 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.lang.Nullable;
+import org.springframework.modulith.core.ApplicationModule;
+import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.core.util.ApplicationModulesExporter;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * The parts of an {@link ApplicationModules} instance needed at runtime, computed at build time during Spring AOT
+ * processing and stored as resources within the application. Allows the runtime support to order components by
+ * application module and expose the module structure without analyzing the application's bytecode on startup.
+ *
+ * @author Oliver Drotbohm
+ */
+public class PrecomputedApplicationModules {
+
+	public static final String LOCATION = "META-INF/spring-modulith/";
+	public static final String MODULES_RESOURCE = LOCATION + "application-modules.txt";
+	public static final String STRUCTURE_RESOURCE = LOCATION + "application-modules.json";
+
+	private static final int NO_RANK = -1;
+
+	private final Map<String, String> basePackages;
+	private final List<String> names;
+	private final Map<String, Integer> ranksByBasePackage;
+	private final String structure;
+	private final ClassValue<Integer> ranksByType = new ClassValue<>() {
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.ClassValue#computeValue(java.lang.Class)
+		 */
+		@Override
+		protected Integer computeValue(Class<?> type) {
+
+			var rank = getRank(type.getName());
+
+			return rank == null ? NO_RANK : rank;
+		}
+	};
+
+	/**
+	 * Creates a new {@link PrecomputedApplicationModules} for the given base packages by module name and the given JSON
+	 * structure.
+	 *
+	 * @param basePackages the base packages by application module name in the modules' dependency order, must not be
+	 *          {@literal null}.
+	 * @param structure must not be {@literal null}.
+	 */
+	private PrecomputedApplicationModules(Map<String, String> basePackages, String structure) {
+
+		Assert.notNull(basePackages, "Base packages must not be null!");
+		Assert.notNull(structure, "Structure must not be null!");
+
+		this.basePackages = basePackages;
+		this.names = List.copyOf(basePackages.keySet());
+		this.ranksByBasePackage = new HashMap<>();
+		this.structure = structure;
+
+		var rank = 0;
+
+		for (var basePackage : basePackages.values()) {
+			ranksByBasePackage.put(basePackage, rank++);
+		}
+	}
+
+	/**
+	 * Precomputes the runtime relevant parts of the given {@link ApplicationModules}.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static PrecomputedApplicationModules of(ApplicationModules modules) {
+
+		Assert.notNull(modules, "ApplicationModules must not be null!");
+
+		var basePackages = StreamSupport.stream(modules.spliterator(), false)
+				.collect(Collectors.toMap(ApplicationModule::getName, it -> it.getBasePackage().getName(), (l, r) -> l,
+						LinkedHashMap::new));
+
+		return new PrecomputedApplicationModules(basePackages, new ApplicationModulesExporter(modules).toJson());
+	}
+
+	/**
+	 * Loads the {@link PrecomputedApplicationModules} from the resources written during AOT processing using the given
+	 * {@link ClassLoader}.
+	 *
+	 * @param classLoader can be {@literal null} to use the default {@link ClassLoader}.
+	 * @return will never be {@literal null}.
+	 */
+	public static Optional<PrecomputedApplicationModules> load(@Nullable ClassLoader classLoader) {
+
+		var loader = classLoader == null ? ClassUtils.getDefaultClassLoader() : classLoader;
+		var modules = read(loader, MODULES_RESOURCE);
+		var structure = read(loader, STRUCTURE_RESOURCE);
+
+		if (modules == null || structure == null) {
+			return Optional.empty();
+		}
+
+		var basePackages = modules.lines()
+				.filter(it -> !it.isBlank())
+				.map(it -> it.split("=", 2))
+				.collect(Collectors.toMap(it -> it[0], it -> it[1], (l, r) -> l, LinkedHashMap::new));
+
+		return Optional.of(new PrecomputedApplicationModules(basePackages, structure));
+	}
+
+	/**
+	 * Returns the names of all application modules in their dependency order, i.e. modules are listed before the ones
+	 * depending on them.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<String> getModuleNames() {
+		return names;
+	}
+
+	/**
+	 * Returns the name of the application module the type with the given fully-qualified name resides in.
+	 *
+	 * @param typeName must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<String> getModuleNameForType(String typeName) {
+
+		Assert.hasText(typeName, "Type name must not be null or empty!");
+
+		return Optional.ofNullable(getRank(typeName))
+				.map(names::get);
+	}
+
+	/**
+	 * Returns a {@link Comparator} ordering objects the same way {@link ApplicationModules#getComparator()} does.
+	 *
+	 * @return will never be {@literal null}.
+	 * @see ApplicationModules#getComparator()
+	 */
+	public Comparator<Object> getComparator() {
+
+		return (left, right) -> {
+
+			var leftRank = getRankFor(left);
+
+			if (leftRank == NO_RANK) {
+				return 1;
+			}
+
+			var rightRank = getRankFor(right);
+
+			if (rightRank == NO_RANK) {
+				return -1;
+			}
+
+			var result = Integer.compare(leftRank, rightRank);
+
+			return result != 0 ? result : AnnotationAwareOrderComparator.INSTANCE.compare(left, right);
+		};
+	}
+
+	/**
+	 * Returns the JSON representation of the application module structure as rendered by
+	 * {@link ApplicationModulesExporter}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public String getStructure() {
+		return structure;
+	}
+
+	/**
+	 * Returns the resources to store the {@link PrecomputedApplicationModules} in by resource path, so that they can be
+	 * {@link #load(ClassLoader) loaded} at runtime.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Map<String, String> toResources() {
+
+		var modules = basePackages.entrySet().stream()
+				.map(it -> it.getKey() + "=" + it.getValue())
+				.collect(Collectors.joining("\n"));
+
+		return Map.of(MODULES_RESOURCE, modules, STRUCTURE_RESOURCE, structure);
+	}
+
+	/**
+	 * Returns the rank of the module the type of the given object (or the given type itself) resides in or
+	 * {@value #NO_RANK} if the given object is {@literal null} or its type does not reside in any module. Ranks are
+	 * calculated once per type.
+	 *
+	 * @param object can be {@literal null}.
+	 * @return
+	 */
+	private int getRankFor(@Nullable Object object) {
+
+		if (object == null) {
+			return NO_RANK;
+		}
+
+		return ranksByType.get(object instanceof Class<?> it ? it : object.getClass());
+	}
+
+	/**
+	 * Returns the rank of the module the type with the given name resides in by looking up the type's package and its
+	 * parent packages, so that the module with the most specific base package wins.
+	 *
+	 * @param typeName must not be {@literal null}.
+	 * @return
+	 */
+	@Nullable
+	private Integer getRank(String typeName) {
+
+		var candidate = ClassUtils.getPackageName(typeName);
+
+		while (!candidate.isEmpty()) {
+
+			var rank = ranksByBasePackage.get(candidate);
+
+			if (rank != null) {
+				return rank;
+			}
+
+			var index = candidate.lastIndexOf('.');
+			candidate = index == -1 ? "" : candidate.substring(0, index);
+		}
+
+		return null;
+	}
+
+	@Nullable
+	private static String read(ClassLoader classLoader, String location) {
+
+		try (InputStream stream = classLoader.getResourceAsStream(location)) {
+			return stream == null ? null : new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+	}
+}
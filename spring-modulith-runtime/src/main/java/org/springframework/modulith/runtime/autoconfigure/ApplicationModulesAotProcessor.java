@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.runtime.autoconfigure;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.lang.Nullable;
+import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.runtime.PrecomputedApplicationModules;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Analyzes the {@link ApplicationModules} of the application during AOT processing and stores the
+ * {@link PrecomputedApplicationModules} as resources so that they don't have to be computed on application startup.
+ *
+ * @author Oliver Drotbohm
+ */
+class ApplicationModulesAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationModulesAotProcessor.class);
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor#processAheadOfTime(org.springframework.beans.factory.config.ConfigurableListableBeanFactory)
+	 */
+	@Nullable
+	@Override
+	public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+
+		// Traverse BeanDefinitions manually to avoid factory beans to be inspected
+		var mainClass = Arrays.stream(beanFactory.getBeanDefinitionNames())
+				.filter(it -> beanFactory.findAnnotationOnBean(it, SpringBootApplication.class, false) != null)
+				.map(beanFactory::getType)
+				.filter(Objects::nonNull)
+				.map(ClassUtils::getUserClass)
+				.findFirst();
+
+		if (mainClass.isEmpty()) {
+			return null;
+		}
+
+		LOGGER.debug("Precomputing application modules for {}.", mainClass.get().getName());
+
+		var precomputed = PrecomputedApplicationModules.of(ApplicationModules.of(mainClass.get()));
+
+		return (context, __) -> {
+
+			precomputed.toResources().forEach(context.getGeneratedFiles()::addResourceFile);
+
+			context.getRuntimeHints().resources()
+					.registerPattern(PrecomputedApplicationModules.LOCATION + "*");
+		};
+	}
+}
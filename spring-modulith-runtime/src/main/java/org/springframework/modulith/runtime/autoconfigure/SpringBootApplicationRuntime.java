@@ -16,12 +16,11 @@
 package org.springframework.modulith.runtime.autoconfigure;
 
 import java.util.Arrays;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.ApplicationContext;
+import org.springframework.modulith.core.util.Cache;
 import org.springframework.modulith.runtime.ApplicationRuntime;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -34,7 +33,7 @@ import org.springframework.util.ClassUtils;
  */
 class SpringBootApplicationRuntime implements ApplicationRuntime {
 
-	private static final Map<String, Boolean> APPLICATION_CLASSES = new ConcurrentHashMap<>();
+	private static final Cache<String, Boolean> APPLICATION_CLASSES = Cache.of("application-classes", 8192);
 
 	private final ApplicationContext context;
 	private Class<?> mainApplicationClass;
@@ -103,7 +102,7 @@ class SpringBootApplicationRuntime implements ApplicationRuntime {
 
 		var applicationClass = getMainApplicationClass();
 
-		return APPLICATION_CLASSES.computeIfAbsent(type.getName(), it -> computeIsApplicationClass(it, applicationClass));
+		return APPLICATION_CLASSES.get(type.getName(), it -> computeIsApplicationClass(it, applicationClass));
 	}
 
 	private boolean computeIsApplicationClass(String fqn, Class<?> applicationClass) {
@@ -16,13 +16,15 @@
 package org.springframework.modulith.runtime.autoconfigure;
 
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.support.AopUtils;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -30,14 +32,20 @@ import org.springframework.boot.context.event.ApplicationStartedEvent;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Role;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.modulith.ApplicationModuleInitializer;
 import org.springframework.modulith.core.ApplicationModule;
 import org.springframework.modulith.core.ApplicationModules;
 import org.springframework.modulith.core.FormatableType;
+import org.springframework.modulith.core.util.Cache;
 import org.springframework.modulith.runtime.ApplicationModulesRuntime;
 import org.springframework.modulith.runtime.ApplicationRuntime;
+import org.springframework.modulith.runtime.PrecomputedApplicationModules;
 import org.springframework.util.Assert;
+import org.springframework.util.function.SingletonSupplier;
 
 /**
  * Auto-configuration to register a {@link SpringBootApplicationRuntime} and {@link ApplicationModulesRuntime} as Spring
@@ -57,55 +65,95 @@ class SpringModulithRuntimeAutoConfiguration {
 		return new SpringBootApplicationRuntime(context);
 	}
 
+	/**
+	 * Registers the {@link ApplicationModulesRuntime} lazily, so that it is only created if a component depends on it.
+	 * The analysis of the application modules is then started in the background right away, unless metadata precomputed
+	 * during AOT processing is available.
+	 */
 	@Bean
+	@Lazy
 	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
 	@ConditionalOnMissingBean
-	ApplicationModulesRuntime modulesRuntime(ApplicationRuntime runtime) {
+	ApplicationModulesRuntime modulesRuntime(ApplicationRuntime runtime, ResourceLoader resourceLoader) {
 
 		var mainClass = runtime.getMainApplicationClass();
-		var modules = Executors.newFixedThreadPool(1)
-				.submit(() -> ApplicationModulesBootstrap.initializeApplicationModules(mainClass));
+
+		// Only trust metadata computed at build time if the application runs with the AOT generated artifacts
+		var precomputed = AotDetector.useGeneratedArtifacts()
+				? PrecomputedApplicationModules.load(resourceLoader.getClassLoader()).orElse(null)
+				: null;
+
+		if (precomputed != null) {
+
+			LOGGER.debug("Using application modules precomputed during AOT processing.");
+
+			// Only analyze the application if any component actually asks for the modules
+			return new ApplicationModulesRuntime(SingletonSupplier.of(() -> ApplicationModulesBootstrap
+					.initializeApplicationModules(mainClass)), runtime, precomputed);
+		}
+
+		var executor = new SimpleAsyncTaskExecutor("application-modules-");
+		executor.setDaemon(true);
+
+		var modules = CompletableFuture.supplyAsync(() -> ApplicationModulesBootstrap
+				.initializeApplicationModules(mainClass), executor);
 
 		return new ApplicationModulesRuntime(toSupplier(modules), runtime);
 	}
 
 	@Bean
-	ApplicationListener<ApplicationStartedEvent> applicationModuleInitialzingListener(ApplicationModulesRuntime runtime,
-			List<ApplicationModuleInitializer> initializers) {
+	ApplicationListener<ApplicationStartedEvent> applicationModuleInitialzingListener(
+			ObjectProvider<ApplicationModulesRuntime> runtime, List<ApplicationModuleInitializer> initializers) {
 
 		return event -> {
 
-			var modules = runtime.get();
+			if (initializers.isEmpty()) {
+				return;
+			}
+
+			var modulesRuntime = runtime.getObject();
 
 			initializers.stream() //
-					.sorted(modules.getComparator()) //
-					.map(it -> LOGGER.isDebugEnabled() ? new LoggingApplicationModuleInitializerAdapter(it, modules) : it)
+					.sorted(modulesRuntime.getComparator()) //
+					.map(it -> LOGGER.isDebugEnabled() ? new LoggingApplicationModuleInitializerAdapter(it, modulesRuntime) : it)
 					.forEach(ApplicationModuleInitializer::initialize);
 		};
 	}
 
+	private static Supplier<ApplicationModules> toSupplier(CompletableFuture<ApplicationModules> modules) {
+
+		return () -> {
+
+			try {
+				return modules.join();
+			} catch (CompletionException o_O) {
+				throw o_O.getCause() instanceof RuntimeException cause ? cause : o_O;
+			}
+		};
+	}
+
 	private static class LoggingApplicationModuleInitializerAdapter implements ApplicationModuleInitializer {
 
 		private static final Logger LOGGER = LoggerFactory.getLogger(LoggingApplicationModuleInitializerAdapter.class);
 
 		private final ApplicationModuleInitializer delegate;
-		private final ApplicationModules modules;
+		private final ApplicationModulesRuntime runtime;
 
 		/**
 		 * Creates a new {@link LoggingApplicationModuleInitializerAdapter} for the given
-		 * {@link ApplicationModuleInitializer} and {@link ApplicationModule}.
+		 * {@link ApplicationModuleInitializer} and {@link ApplicationModulesRuntime}.
 		 *
 		 * @param delegate must not be {@literal null}.
-		 * @param modules must not be {@literal null}.
+		 * @param runtime must not be {@literal null}.
 		 */
 		public LoggingApplicationModuleInitializerAdapter(ApplicationModuleInitializer delegate,
-				ApplicationModules modules) {
+				ApplicationModulesRuntime runtime) {
 
 			Assert.notNull(delegate, "ApplicationModuleInitializer must not be null!");
-			Assert.notNull(modules, "ApplicationModules must not be null!");
+			Assert.notNull(runtime, "ApplicationModulesRuntime must not be null!");
 
 			this.delegate = delegate;
-			this.modules = modules;
+			this.runtime = runtime;
 		}
 
 		/*
@@ -118,9 +166,11 @@ class SpringModulithRuntimeAutoConfiguration {
 			var listenerType = AopUtils.getTargetClass(delegate);
 			var formattable = FormatableType.of(listenerType);
 
-			var formattedListenerType = modules.getModuleByType(listenerType)
-					.map(formattable::getAbbreviatedFullName)
-					.orElseGet(formattable::getAbbreviatedFullName);
+			var formattedListenerType = runtime.getPrecomputed().isPresent()
+					? formattable.getAbbreviatedFullName()
+					: runtime.get().getModuleByType(listenerType)
+							.map(formattable::getAbbreviatedFullName)
+							.orElseGet(formattable::getAbbreviatedFullName);
 
 			LOGGER.debug("Initializing {}.", formattedListenerType);
 
@@ -152,18 +202,9 @@ class SpringModulithRuntimeAutoConfiguration {
 						result.stream().map(ApplicationModule::getName).toList());
 			}
 
+			LOGGER.debug("Cache statistics: {}.", Cache.getStatistics());
+
 			return result;
 		}
 	}
-
-	private static Supplier<ApplicationModules> toSupplier(Future<ApplicationModules> modules) {
-
-		return () -> {
-			try {
-				return modules.get();
-			} catch (Exception o_O) {
-				throw new RuntimeException(o_O);
-			}
-		};
-	}
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.runtime;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.core.util.ApplicationModulesExporter;
+
+import com.acme.ordering.downstream.DownstreamComponent;
+import com.acme.ordering.upstream.PrioritizedUpstreamComponent;
+import com.acme.ordering.upstream.UpstreamComponent;
+
+/**
+ * Unit tests for {@link PrecomputedApplicationModules}.
+ *
+ * @author Oliver Drotbohm
+ */
+class PrecomputedApplicationModulesUnitTests {
+
+	static final ApplicationModules MODULES = ApplicationModules.of(PrecomputedApplicationModules.class.getPackageName());
+
+	@Test
+	void exposesModulesInDependencyOrder() {
+
+		var precomputed = PrecomputedApplicationModules.of(MODULES);
+
+		assertThat(precomputed.getModuleNames()).containsExactlyElementsOf(MODULES.stream().map(it -> it.getName()).toList());
+		assertThat(precomputed.getStructure()).isEqualTo(new ApplicationModulesExporter(MODULES).toJson());
+	}
+
+	@Test
+	void ordersObjectsLikeApplicationModules() throws Exception {
+
+		var precomputed = PrecomputedApplicationModules.of(MODULES);
+		var moduleType = Class.forName("org.springframework.modulith.runtime.autoconfigure.SpringModulithRuntimeAutoConfiguration");
+
+		assertThat(precomputed.getModuleNameForType(moduleType.getName())).hasValue("autoconfigure");
+		assertThat(precomputed.getModuleNameForType(String.class.getName())).isEmpty();
+
+		var objects = new ArrayList<Object>(List.of(String.class, moduleType));
+
+		objects.sort(precomputed.getComparator());
+
+		assertThat(objects).containsExactly(moduleType, String.class);
+	}
+
+	@Test
+	void ordersTypesByRankOfTheirModules(@TempDir Path directory) throws IOException {
+
+		var comparator = loadOrderingFixtures(directory).getComparator();
+
+		assertThat(sort(comparator, DownstreamComponent.class, UpstreamComponent.class)) //
+				.containsExactly(UpstreamComponent.class, DownstreamComponent.class);
+	}
+
+	@Test
+	void ordersTypesOutsideOfModulesLast(@TempDir Path directory) throws IOException {
+
+		var comparator = loadOrderingFixtures(directory).getComparator();
+
+		assertThat(sort(comparator, String.class, DownstreamComponent.class, UpstreamComponent.class)) //
+				.containsExactly(UpstreamComponent.class, DownstreamComponent.class, String.class);
+
+		assertThat(comparator.compare(String.class, UpstreamComponent.class)).isPositive();
+		assertThat(comparator.compare(UpstreamComponent.class, String.class)).isNegative();
+		assertThat(comparator.compare(null, UpstreamComponent.class)).isPositive();
+		assertThat(comparator.compare(UpstreamComponent.class, null)).isNegative();
+	}
+
+	@Test
+	void ranksInstancesByTheirType(@TempDir Path directory) throws IOException {
+
+		var comparator = loadOrderingFixtures(directory).getComparator();
+		var upstream = new UpstreamComponent();
+		var downstream = new DownstreamComponent();
+
+		assertThat(sort(comparator, downstream, UpstreamComponent.class)) //
+				.containsExactly(UpstreamComponent.class, downstream);
+		assertThat(sort(comparator, DownstreamComponent.class, upstream)) //
+				.containsExactly(upstream, DownstreamComponent.class);
+		assertThat(sort(comparator, "outside", downstream, upstream)) //
+				.containsExactly(upstream, downstream, "outside");
+	}
+
+	@Test
+	void ordersTypesOfTheSameModuleByOrderAnnotation(@TempDir Path directory) throws IOException {
+
+		var comparator = loadOrderingFixtures(directory).getComparator();
+
+		assertThat(sort(comparator, UpstreamComponent.class, PrioritizedUpstreamComponent.class)) //
+				.containsExactly(PrioritizedUpstreamComponent.class, UpstreamComponent.class);
+
+		var upstream = new UpstreamComponent();
+		var prioritized = new PrioritizedUpstreamComponent();
+
+		assertThat(sort(comparator, DownstreamComponent.class, upstream, prioritized)) //
+				.containsExactly(prioritized, upstream, DownstreamComponent.class);
+	}
+
+	@Test
+	void loadsPrecomputedModulesFromResources(@TempDir Path directory) throws IOException {
+
+		var precomputed = PrecomputedApplicationModules.of(MODULES);
+
+		try (var classLoader = writeResources(directory, precomputed.toResources())) {
+
+			assertThat(PrecomputedApplicationModules.load(classLoader)).hasValueSatisfying(it -> {
+				assertThat(it.getModuleNames()).isEqualTo(precomputed.getModuleNames());
+				assertThat(it.getStructure()).isEqualTo(precomputed.getStructure());
+			});
+		}
+	}
+
+	@Test
+	void doesNotLoadPrecomputedModulesIfResourcesAreMissing() throws IOException {
+
+		try (var classLoader = new URLClassLoader(new URL[0], null)) {
+			assertThat(PrecomputedApplicationModules.load(classLoader)).isEmpty();
+		}
+	}
+
+	/**
+	 * Loads {@link PrecomputedApplicationModules} for the fixtures in {@code com.acme.ordering}, listing the downstream
+	 * module's base package last as it depends on the upstream one.
+	 */
+	private static PrecomputedApplicationModules loadOrderingFixtures(Path directory) throws IOException {
+
+		var modules = """
+				upstream=com.acme.ordering.upstream
+				downstream=com.acme.ordering.downstream
+				""";
+
+		try (var classLoader = writeResources(directory, Map.of( //
+				PrecomputedApplicationModules.MODULES_RESOURCE, modules, //
+				PrecomputedApplicationModules.STRUCTURE_RESOURCE, "{}"))) {
+
+			return PrecomputedApplicationModules.load(classLoader).orElseThrow();
+		}
+	}
+
+	private static URLClassLoader writeResources(Path directory, Map<String, String> resources) throws IOException {
+
+		for (var resource : resources.entrySet()) {
+
+			var file = directory.resolve(resource.getKey());
+
+			Files.createDirectories(file.getParent());
+			Files.writeString(file, resource.getValue());
+		}
+
+		return new URLClassLoader(new URL[] { directory.toUri().toURL() }, null);
+	}
+
+	private static List<Object> sort(Comparator<Object> comparator, Object... objects) {
+
+		var result = new ArrayList<>(List.of(objects));
+
+		result.sort(comparator);
+
+		return result;
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.runtime.autoconfigure;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GeneratedFiles.Kind;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.javapoet.ClassName;
+import org.springframework.modulith.runtime.PrecomputedApplicationModules;
+
+/**
+ * Unit tests for {@link ApplicationModulesAotProcessor}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ApplicationModulesAotProcessorUnitTests {
+
+	ApplicationModulesAotProcessor processor = new ApplicationModulesAotProcessor();
+
+	@Test
+	void writesPrecomputedModulesAsResources() throws IOException {
+
+		var beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerBeanDefinition("sampleApp", new RootBeanDefinition(SampleApp.class));
+
+		var files = new InMemoryGeneratedFiles();
+		var context = new DefaultGenerationContext(new ClassNameGenerator(ClassName.get(SampleApp.class)), files);
+
+		processor.processAheadOfTime(beanFactory).applyTo(context, (BeanFactoryInitializationCode) null);
+
+		assertThat(files.getGeneratedFileContent(Kind.RESOURCE, PrecomputedApplicationModules.MODULES_RESOURCE))
+				.isNotNull();
+		assertThat(files.getGeneratedFileContent(Kind.RESOURCE, PrecomputedApplicationModules.STRUCTURE_RESOURCE))
+				.isNotBlank();
+		assertThat(RuntimeHintsPredicates.resource().forResource(PrecomputedApplicationModules.STRUCTURE_RESOURCE))
+				.accepts(context.getRuntimeHints());
+	}
+
+	@Test
+	void doesNotContributeAnythingWithoutSpringBootApplication() {
+		assertThat(processor.processAheadOfTime(new DefaultListableBeanFactory())).isNull();
+	}
+
+	@SpringBootApplication
+	static class SampleApp {}
+}
@@ -16,11 +16,17 @@
 package org.springframework.modulith.runtime.autoconfigure;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.ApplicationContext;
 import org.springframework.modulith.runtime.ApplicationModulesRuntime;
 import org.springframework.modulith.runtime.ApplicationRuntime;
@@ -44,4 +50,46 @@ class SpringModulithRuntimeAutoConfigurationIntegrationTests {
 		assertThat(context.getBean(ApplicationRuntime.class)).isNotNull();
 		assertThat(context.getBean(ApplicationModulesRuntime.class)).isNotNull();
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void doesNotObtainApplicationModulesIfNoInitializersArePresent() {
+
+		var runtime = mock(ObjectProvider.class);
+
+		new SpringModulithRuntimeAutoConfiguration() //
+				.applicationModuleInitialzingListener(runtime, List.of()) //
+				.onApplicationEvent(null);
+
+		verify(runtime, never()).getObject();
+	}
+
+	@Test
+	void doesNotCreateModulesRuntimeWithoutConsumers() {
+
+		new ApplicationContextRunner() //
+				.withConfiguration(AutoConfigurations.of(SpringModulithRuntimeAutoConfiguration.class)) //
+				.run(context -> {
+
+					assertThat(context).hasNotFailed();
+					assertThat(context.getBeanFactory().containsSingleton("modulesRuntime")).isFalse();
+				});
+	}
+
+	@Test
+	void analyzesApplicationModulesOnceRuntimeIsCreated() {
+
+		new ApplicationContextRunner() //
+				.withConfiguration(AutoConfigurations.of(SpringModulithRuntimeAutoConfiguration.class)) //
+				.withBean(ApplicationRuntime.class, () -> {
+
+					var runtime = mock(ApplicationRuntime.class);
+					doReturn(SampleApp.class).when(runtime).getMainApplicationClass();
+
+					return runtime;
+
+				}).run(context -> {
+					assertThat(context.getBean(ApplicationModulesRuntime.class).get()).isNotNull();
+				});
+	}
 }
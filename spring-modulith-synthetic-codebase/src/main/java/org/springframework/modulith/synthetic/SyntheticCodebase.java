@@ -0,0 +1,560 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.synthetic;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.util.Assert;
+import org.springframework.util.FileSystemUtils;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+
+/**
+ * A generated code base of a configurable topology to analyze in benchmarks and scalability tests. Consists of the
+ * given number of application modules, each containing
+ * <ul>
+ * <li>the given number of Spring components in its base package, each depending on the given number of types exposed
+ * by other modules via constructor injection,</li>
+ * <li>the given number of named interfaces, each being a sub-package annotated with {@code @NamedInterface} containing
+ * a single interface,</li>
+ * <li>the given number of events annotated with jMolecules' {@code @DomainEvent},</li>
+ * <li>the given number of Spring components with an {@code @EventListener} method for an event of another module.</li>
+ * </ul>
+ * Dependencies only point to modules with a lower index, so that the generated code base does not contain any cycles
+ * and only refers to exposed types. Types are generated from a fixed seed, i.e. the same topology always results in the
+ * same code base.
+ *
+ * @author Oliver Drotbohm
+ */
+public class SyntheticCodebase {
+
+	public static final String BASE_PACKAGE = "com.acme.synthetic";
+
+	private static final String AT_COMPONENT = "Lorg/springframework/stereotype/Component;";
+	private static final String AT_EVENT_LISTENER = "Lorg/springframework/context/event/EventListener;";
+	private static final String AT_DOMAIN_EVENT = "Lorg/jmolecules/event/annotation/DomainEvent;";
+	private static final String AT_NAMED_INTERFACE = "Lorg/springframework/modulith/NamedInterface;";
+	private static final String OBJECT = "java/lang/Object";
+	private static final long SEED = 4711;
+
+	private final int modules, types, dependencies, namedInterfaces, events, listeners;
+
+	/**
+	 * Creates a new {@link SyntheticCodebase} with the given number of modules, types per module, dependencies per type,
+	 * named interfaces, events and event listeners per module.
+	 *
+	 * @param modules must be greater than zero.
+	 * @param types must be greater than zero.
+	 * @param dependencies must not be negative.
+	 * @param namedInterfaces must not be negative.
+	 * @param events must not be negative.
+	 * @param listeners must not be negative, requires events if greater than zero.
+	 */
+	private SyntheticCodebase(int modules, int types, int dependencies, int namedInterfaces, int events,
+			int listeners) {
+
+		Assert.isTrue(modules > 0, "Number of modules must be greater than zero!");
+		Assert.isTrue(types > 0, "Number of types must be greater than zero!");
+		Assert.isTrue(dependencies >= 0, "Number of dependencies must not be negative!");
+		Assert.isTrue(namedInterfaces >= 0, "Number of named interfaces must not be negative!");
+		Assert.isTrue(events >= 0, "Number of events must not be negative!");
+		Assert.isTrue(listeners >= 0, "Number of listeners must not be negative!");
+		Assert.isTrue(listeners == 0 || events > 0, "Listeners require events to listen to!");
+
+		this.modules = modules;
+		this.types = types;
+		this.dependencies = dependencies;
+		this.namedInterfaces = namedInterfaces;
+		this.events = events;
+		this.listeners = listeners;
+	}
+
+	/**
+	 * Creates a new {@link SyntheticCodebase} with the given number of modules, types per module and dependencies per
+	 * type.
+	 *
+	 * @param modules must be greater than zero.
+	 * @param types must be greater than zero.
+	 * @param dependencies must not be negative.
+	 * @return will never be {@literal null}.
+	 */
+	public static SyntheticCodebase of(int modules, int types, int dependencies) {
+		return new SyntheticCodebase(modules, types, dependencies, 0, 0, 0);
+	}
+
+	/**
+	 * Parses a {@link SyntheticCodebase} from a specification of the form {@code $modules x $types x $dependencies},
+	 * optionally followed by {@code x $namedInterfaces x $events x $listeners}, e.g. {@code 10x50x3} or
+	 * {@code 10x50x3x2x2x1}.
+	 *
+	 * @param specification must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	public static SyntheticCodebase parse(String specification) {
+
+		Assert.hasText(specification, "Specification must not be null or empty!");
+
+		var parts = specification.split("x");
+
+		Assert.isTrue(parts.length == 3 || parts.length == 6, () -> ("Invalid specification %s! Expected "
+				+ "$modules x $types x $dependencies [x $namedInterfaces x $events x $listeners].").formatted(specification));
+
+		var values = new int[6];
+
+		for (int i = 0; i < parts.length; i++) {
+			values[i] = Integer.parseInt(parts[i].trim());
+		}
+
+		return new SyntheticCodebase(values[0], values[1], values[2], values[3], values[4], values[5]);
+	}
+
+	/**
+	 * Returns a new {@link SyntheticCodebase} with the given number of named interfaces per module.
+	 *
+	 * @param namedInterfaces must not be negative.
+	 * @return will never be {@literal null}.
+	 */
+	public SyntheticCodebase withNamedInterfaces(int namedInterfaces) {
+		return new SyntheticCodebase(modules, types, dependencies, namedInterfaces, events, listeners);
+	}
+
+	/**
+	 * Returns a new {@link SyntheticCodebase} with the given number of events per module.
+	 *
+	 * @param events must not be negative.
+	 * @return will never be {@literal null}.
+	 */
+	public SyntheticCodebase withEvents(int events) {
+		return new SyntheticCodebase(modules, types, dependencies, namedInterfaces, events, listeners);
+	}
+
+	/**
+	 * Returns a new {@link SyntheticCodebase} with the given number of event listeners per module.
+	 *
+	 * @param listeners must not be negative.
+	 * @return will never be {@literal null}.
+	 */
+	public SyntheticCodebase withListeners(int listeners) {
+		return new SyntheticCodebase(modules, types, dependencies, namedInterfaces, events, listeners);
+	}
+
+	/**
+	 * Returns the number of application modules of the code base.
+	 *
+	 * @return
+	 */
+	public int getNumberOfModules() {
+		return modules;
+	}
+
+	/**
+	 * Returns the total number of types of the code base, excluding {@code package-info} types.
+	 *
+	 * @return
+	 */
+	public int getNumberOfTypes() {
+		return modules * (types + namedInterfaces + events + listeners);
+	}
+
+	/**
+	 * Returns the fully-qualified names of all types of the code base, excluding {@code package-info} types.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<String> getTypeNames() {
+
+		return generate().keySet().stream() //
+				.filter(it -> !it.endsWith(".package-info")) //
+				.toList();
+	}
+
+	/**
+	 * Returns the names of the modules each module of the code base depends on, either via the dependencies of its
+	 * components or via its event listeners. Module names are the local names of the modules' base packages, e.g.
+	 * {@code module0}.
+	 *
+	 * @return the names of the modules depended on by module name, will never be {@literal null}.
+	 */
+	public Map<String, Set<String>> getModuleDependencies() {
+
+		var result = new LinkedHashMap<String, Set<String>>();
+
+		generate(result);
+
+		return result;
+	}
+
+	/**
+	 * Generates the byte code of all types of the code base.
+	 *
+	 * @return the byte code by fully-qualified type name, will never be {@literal null}.
+	 */
+	public Map<String, byte[]> generate() {
+		return generate(new LinkedHashMap<>());
+	}
+
+	private Map<String, byte[]> generate(Map<String, Set<String>> moduleDependencies) {
+
+		var random = new Random(SEED);
+		var result = new LinkedHashMap<String, byte[]>();
+
+		for (int module = 0; module < modules; module++) {
+
+			var targets = moduleDependencies.computeIfAbsent(getModuleName(module), __ -> new TreeSet<>());
+
+			for (int type = 0; type < types; type++) {
+
+				var typeDependencies = new ArrayList<String>();
+
+				for (int i = 0; module > 0 && i < dependencies; i++) {
+
+					var target = random.nextInt(module);
+
+					targets.add(getModuleName(target));
+					typeDependencies.add(getExposedTypeName(random, target));
+				}
+
+				result.put(getTypeName(module, type), generateComponent(getTypeName(module, type), typeDependencies));
+			}
+
+			for (int namedInterface = 0; namedInterface < namedInterfaces; namedInterface++) {
+
+				var name = getNamedInterfaceTypeName(module, namedInterface);
+				var packageName = name.substring(0, name.lastIndexOf('.'));
+
+				result.put(packageName + ".package-info", generatePackageInfo(packageName, "api" + namedInterface));
+				result.put(name, generateInterface(name));
+			}
+
+			for (int event = 0; event < events; event++) {
+				result.put(getEventTypeName(module, event), generateEvent(getEventTypeName(module, event)));
+			}
+
+			for (int listener = 0; listener < listeners; listener++) {
+
+				// Listen to events of the module itself or modules with a lower index
+				var target = random.nextInt(module + 1);
+				var event = getEventTypeName(target, random.nextInt(events));
+
+				if (target != module) {
+					targets.add(getModuleName(target));
+				}
+				var name = "%s.module%d.Module%dListener%d".formatted(BASE_PACKAGE, module, module, listener);
+
+				result.put(name, generateListener(name, event));
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Writes the class files of all types of the code base into the given directory.
+	 *
+	 * @param directory must not be {@literal null}.
+	 * @return the given directory.
+	 */
+	public Path writeTo(Path directory) {
+
+		Assert.notNull(directory, "Directory must not be null!");
+
+		generate().forEach((name, bytes) -> {
+
+			var file = directory.resolve(name.replace('.', '/') + ".class");
+
+			try {
+				Files.createDirectories(file.getParent());
+				Files.write(file, bytes);
+			} catch (IOException o_O) {
+				throw new UncheckedIOException(o_O);
+			}
+		});
+
+		return directory;
+	}
+
+	/**
+	 * Imports all types of the code base as ArchUnit {@link JavaClasses}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public JavaClasses toJavaClasses() {
+
+		Path directory = null;
+
+		try {
+
+			directory = writeTo(Files.createTempDirectory("synthetic-codebase"));
+
+			return new ClassFileImporter().importPath(directory);
+
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		} finally {
+			deleteQuietly(directory);
+		}
+	}
+
+	/**
+	 * Creates a {@link ClassLoader} for the class files written to the given directory via {@link #writeTo(Path)}.
+	 *
+	 * @param directory must not be {@literal null}.
+	 * @param parent can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static ClassLoader createClassLoader(Path directory, ClassLoader parent) {
+
+		Assert.notNull(directory, "Directory must not be null!");
+
+		try {
+			return new URLClassLoader(new URL[] { directory.toUri().toURL() }, parent);
+		} catch (MalformedURLException o_O) {
+			throw new IllegalArgumentException(o_O);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+
+		return namedInterfaces == 0 && events == 0 && listeners == 0
+				? "%dx%dx%d".formatted(modules, types, dependencies)
+				: "%dx%dx%dx%dx%dx%d".formatted(modules, types, dependencies, namedInterfaces, events, listeners);
+	}
+
+	/**
+	 * Returns the name of a random type exposed by the given module, i.e. either a component of its base package or the
+	 * interface of one of its named interfaces.
+	 *
+	 * @param random must not be {@literal null}.
+	 * @param module the index of the module.
+	 * @return will never be {@literal null}.
+	 */
+	private String getExposedTypeName(Random random, int module) {
+
+		var index = random.nextInt(types + namedInterfaces);
+
+		return index < types
+				? getTypeName(module, index)
+				: getNamedInterfaceTypeName(module, index - types);
+	}
+
+	private static String getModuleName(int module) {
+		return "module" + module;
+	}
+
+	private static String getTypeName(int module, int type) {
+		return "%s.module%d.Module%dType%d".formatted(BASE_PACKAGE, module, module, type);
+	}
+
+	private static String getNamedInterfaceTypeName(int module, int namedInterface) {
+		return "%s.module%d.api%d.Module%dApi%d".formatted(BASE_PACKAGE, module, namedInterface, module, namedInterface);
+	}
+
+	private static String getEventTypeName(int module, int event) {
+		return "%s.module%d.Module%dEvent%d".formatted(BASE_PACKAGE, module, module, event);
+	}
+
+	/**
+	 * Generates a public class annotated with {@code @Component} with a constructor taking and storing the given
+	 * dependencies.
+	 *
+	 * @param name the fully-qualified name of the class.
+	 * @param dependencies the fully-qualified names of the dependencies.
+	 * @return the byte code.
+	 */
+	private static byte[] generateComponent(String name, List<String> dependencies) {
+
+		var internalName = toInternalName(name);
+		var writer = createClass(internalName, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, AT_COMPONENT);
+
+		for (int i = 0; i < dependencies.size(); i++) {
+			writer.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL, "dependency" + i, toDescriptor(dependencies.get(i)),
+					null, null).visitEnd();
+		}
+
+		var descriptor = dependencies.stream() //
+				.map(SyntheticCodebase::toDescriptor) //
+				.collect(Collectors.joining("", "(", ")V"));
+
+		var constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", descriptor, null, null);
+
+		constructor.visitCode();
+		constructor.visitVarInsn(Opcodes.ALOAD, 0);
+		constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+
+		for (int i = 0; i < dependencies.size(); i++) {
+			constructor.visitVarInsn(Opcodes.ALOAD, 0);
+			constructor.visitVarInsn(Opcodes.ALOAD, i + 1);
+			constructor.visitFieldInsn(Opcodes.PUTFIELD, internalName, "dependency" + i, toDescriptor(dependencies.get(i)));
+		}
+
+		constructor.visitInsn(Opcodes.RETURN);
+		constructor.visitMaxs(0, 0);
+		constructor.visitEnd();
+
+		return complete(writer);
+	}
+
+	/**
+	 * Generates a public class annotated with {@code @Component} with an {@code @EventListener} method for the given
+	 * event type.
+	 *
+	 * @param name the fully-qualified name of the class.
+	 * @param event the fully-qualified name of the event type.
+	 * @return the byte code.
+	 */
+	private static byte[] generateListener(String name, String event) {
+
+		var writer = createClass(toInternalName(name), Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, AT_COMPONENT);
+
+		addDefaultConstructor(writer);
+
+		var method = writer.visitMethod(Opcodes.ACC_PUBLIC, "on", "(" + toDescriptor(event) + ")V", null, null);
+
+		method.visitAnnotation(AT_EVENT_LISTENER, true).visitEnd();
+		method.visitCode();
+		method.visitInsn(Opcodes.RETURN);
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+
+		return complete(writer);
+	}
+
+	/**
+	 * Generates a public final class annotated with jMolecules' {@code @DomainEvent}.
+	 *
+	 * @param name the fully-qualified name of the class.
+	 * @return the byte code.
+	 */
+	private static byte[] generateEvent(String name) {
+
+		var writer = createClass(toInternalName(name), Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER,
+				AT_DOMAIN_EVENT);
+
+		addDefaultConstructor(writer);
+
+		return complete(writer);
+	}
+
+	/**
+	 * Generates a public interface.
+	 *
+	 * @param name the fully-qualified name of the interface.
+	 * @return the byte code.
+	 */
+	private static byte[] generateInterface(String name) {
+		return complete(createClass(toInternalName(name), Opcodes.ACC_PUBLIC | Opcodes.ACC_INTERFACE | Opcodes.ACC_ABSTRACT,
+				null));
+	}
+
+	/**
+	 * Generates a {@code package-info} type for the given package annotated with {@code @NamedInterface} using the given
+	 * name.
+	 *
+	 * @param packageName the fully-qualified name of the package.
+	 * @param namedInterface the name of the named interface.
+	 * @return the byte code.
+	 */
+	private static byte[] generatePackageInfo(String packageName, String namedInterface) {
+
+		var writer = createClass(toInternalName(packageName) + "/package-info",
+				Opcodes.ACC_INTERFACE | Opcodes.ACC_ABSTRACT | Opcodes.ACC_SYNTHETIC, null);
+
+		var annotation = writer.visitAnnotation(AT_NAMED_INTERFACE, true);
+		var value = annotation.visitArray("value");
+
+		value.visit(null, namedInterface);
+		value.visitEnd();
+		annotation.visitEnd();
+
+		return complete(writer);
+	}
+
+	private static ClassWriter createClass(String internalName, int access, String annotation) {
+
+		var writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+
+		writer.visit(Opcodes.V17, access, internalName, null, OBJECT, null);
+
+		if (annotation != null) {
+			writer.visitAnnotation(annotation, true).visitEnd();
+		}
+
+		return writer;
+	}
+
+	private static void addDefaultConstructor(ClassWriter writer) {
+
+		var constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+
+		constructor.visitCode();
+		constructor.visitVarInsn(Opcodes.ALOAD, 0);
+		constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+		constructor.visitInsn(Opcodes.RETURN);
+		constructor.visitMaxs(0, 0);
+		constructor.visitEnd();
+	}
+
+	private static byte[] complete(ClassWriter writer) {
+
+		writer.visitEnd();
+
+		return writer.toByteArray();
+	}
+
+	private static void deleteQuietly(Path directory) {
+
+		if (directory == null) {
+			return;
+		}
+
+		try {
+			FileSystemUtils.deleteRecursively(directory);
+		} catch (IOException o_O) {
+			// Temporary directory only
+		}
+	}
+
+	private static String toInternalName(String name) {
+		return name.replace('.', '/');
+	}
+
+	private static String toDescriptor(String name) {
+		return Type.getObjectType(toInternalName(name)).getDescriptor();
+	}
+}
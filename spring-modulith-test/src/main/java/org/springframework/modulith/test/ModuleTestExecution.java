@@ -16,10 +16,8 @@
 package org.springframework.modulith.test;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -31,6 +29,7 @@ import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.modulith.core.ApplicationModule;
 import org.springframework.modulith.core.ApplicationModules;
 import org.springframework.modulith.core.JavaPackage;
+import org.springframework.modulith.core.util.Cache;
 import org.springframework.modulith.test.ApplicationModuleTest.BootstrapMode;
 
 import com.tngtech.archunit.thirdparty.com.google.common.base.Supplier;
@@ -43,8 +42,8 @@ public class ModuleTestExecution implements Iterable<ApplicationModule> {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(ModuleTestExecution.class);
 
-	private static Map<Class<?>, Class<?>> MODULITH_TYPES = new HashMap<>();
-	private static Map<Key, ModuleTestExecution> EXECUTIONS = new HashMap<>();
+	private static final Cache<Class<?>, Class<?>> MODULITH_TYPES = Cache.of("modulith-types", 1024);
+	private static final Cache<Key, ModuleTestExecution> EXECUTIONS = Cache.of("module-test-executions", 256);
 
 	private final Key key;
 
@@ -95,14 +94,29 @@ public class ModuleTestExecution implements Iterable<ApplicationModule> {
 			var annotation = AnnotatedElementUtils.findMergedAnnotation(type, ApplicationModuleTest.class);
 			var packageName = type.getPackage().getName();
 
-			var modulithType = MODULITH_TYPES.computeIfAbsent(type,
-					it -> new AnnotatedClassFinder(SpringBootApplication.class).findFromPackage(packageName));
+			var modulithType = MODULITH_TYPES.get(type, it -> {
+
+				var result = new AnnotatedClassFinder(SpringBootApplication.class).findFromPackage(packageName);
+
+				if (result == null) {
+					throw new IllegalStateException(
+							String.format("Couldn't find a @SpringBootApplication type for package %s!", packageName));
+				}
+
+				return result;
+			});
 			var modules = ApplicationModules.of(modulithType);
 			var module = modules.getModuleForPackage(packageName).orElseThrow( //
 					() -> new IllegalStateException(String.format("Package %s is not part of any module!", packageName)));
 
-			return EXECUTIONS.computeIfAbsent(new Key(module.getBasePackage().getName(), annotation),
-					it -> new ModuleTestExecution(annotation, modules, module));
+			return EXECUTIONS.get(new Key(module.getBasePackage().getName(), annotation), it -> {
+
+				var execution = new ModuleTestExecution(annotation, modules, module);
+
+				LOGGER.debug("Cache statistics: {}.", Cache.getStatistics());
+
+				return execution;
+			});
 		};
 	}
 